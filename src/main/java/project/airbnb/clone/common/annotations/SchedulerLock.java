@@ -0,0 +1,32 @@
+package project.airbnb.clone.common.annotations;
+
+import project.airbnb.clone.common.lock.SchedulerLockAspect;
+
+import java.lang.annotation.*;
+
+/**
+ * 여러 인스턴스 중 하나에서만 스케줄 작업이 실행되도록 하는 Redis 분산 락 annotation
+ * <p>
+ * 락을 얻지 못한 인스턴스는 해당 회차를 건너뛰며, 작업이 길어지면 락은 leaseMillis 의 1/3 주기로 연장된다.
+ * @see SchedulerLockAspect
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface SchedulerLock {
+
+    /**
+     * 락 이름 (작업마다 고유해야 함)
+     */
+    String name();
+
+    /**
+     * 락 임대 시간. 인스턴스가 죽으면 이 시간이 지난 뒤 다른 인스턴스가 락을 얻을 수 있다.
+     */
+    long leaseMillis() default 30_000;
+
+    /**
+     * 작업이 빨리 끝나도 최소한 이 시간 동안은 락을 유지한다. 인스턴스 간 시계 오차로 같은 회차가 두 번 실행되는 것을 막는다.
+     */
+    long lockAtLeastMillis() default 0;
+}
@@ -7,6 +7,7 @@ import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import project.airbnb.clone.common.annotations.SchedulerLock;
 
 @Component
 @RequiredArgsConstructor
@@ -16,6 +17,7 @@ public class JobScheduler {
     private final Job accommodationJob;
 
     @Scheduled(cron = "0 0 0 * * SAT")
+    @SchedulerLock(name = "accommodation-sync-job", lockAtLeastMillis = 60_000)
     public void runJob() throws Exception {
         JobParameters params = new JobParametersBuilder()
                 .addLong("time", System.currentTimeMillis())
@@ -0,0 +1,26 @@
+package project.airbnb.clone.common.events.accommodation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.airbnb.clone.service.accommodation.AccommodationCardService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationEventListener {
+
+    private final AccommodationCardService accommodationCardService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleAccommodationsSavedEvent(AccommodationsSavedEvent event) {
+        try {
+            accommodationCardService.refresh(event.accommodationIds());
+        } catch (Exception e) {
+            // 카드 갱신 실패는 조회 시 DB 폴백과 백필 작업으로 복구되므로 적재 흐름을 막지 않는다
+            log.warn("숙소 카드 갱신 실패 - {}건", event.accommodationIds().size(), e);
+        }
+    }
+}
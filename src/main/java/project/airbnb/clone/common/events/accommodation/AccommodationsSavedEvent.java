@@ -0,0 +1,6 @@
+package project.airbnb.clone.common.events.accommodation;
+
+import java.util.List;
+
+public record AccommodationsSavedEvent(List<Long> accommodationIds) {
+}
@@ -0,0 +1,4 @@
+package project.airbnb.clone.common.events.reservation;
+
+public record ReservationConfirmedEvent(Long reservationId, Long accommodationId) {
+}
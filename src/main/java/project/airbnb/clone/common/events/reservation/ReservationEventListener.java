@@ -0,0 +1,19 @@
+package project.airbnb.clone.common.events.reservation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.airbnb.clone.service.accommodation.AccommodationStatsBuffer;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationEventListener {
+
+    private final AccommodationStatsBuffer accommodationStatsBuffer;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationConfirmedEvent(ReservationConfirmedEvent event) {
+        accommodationStatsBuffer.addReservation(event.accommodationId(), 1);
+    }
+}
@@ -0,0 +1,4 @@
+package project.airbnb.clone.common.events.review;
+
+public record ReviewDeletedEvent(Long accommodationId, double rating) {
+}
@@ -0,0 +1,29 @@
+package project.airbnb.clone.common.events.review;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.airbnb.clone.service.accommodation.AccommodationStatsBuffer;
+
+@Component
+@RequiredArgsConstructor
+public class ReviewEventListener {
+
+    private final AccommodationStatsBuffer accommodationStatsBuffer;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReviewCreatedEvent(ReviewCreatedEvent event) {
+        accommodationStatsBuffer.addReview(event.accommodationId(), 1, event.rating());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReviewUpdatedEvent(ReviewUpdatedEvent event) {
+        accommodationStatsBuffer.addReview(event.accommodationId(), 0, event.newRating() - event.oldRating());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReviewDeletedEvent(ReviewDeletedEvent event) {
+        accommodationStatsBuffer.addReview(event.accommodationId(), -1, -event.rating());
+    }
+}
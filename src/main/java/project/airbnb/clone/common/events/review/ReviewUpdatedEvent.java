@@ -0,0 +1,4 @@
+package project.airbnb.clone.common.events.review;
+
+public record ReviewUpdatedEvent(Long accommodationId, double oldRating, double newRating) {
+}
@@ -0,0 +1,36 @@
+package project.airbnb.clone.common.events.trending;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import project.airbnb.clone.common.events.reservation.ReservationConfirmedEvent;
+import project.airbnb.clone.common.events.view.ViewHistoryEvent;
+import project.airbnb.clone.common.events.wishlist.WishlistAccommodationAddedEvent;
+import project.airbnb.clone.service.accommodation.TrendingService;
+
+import static project.airbnb.clone.service.accommodation.TrendingService.RESERVATION_WEIGHT;
+import static project.airbnb.clone.service.accommodation.TrendingService.VIEW_WEIGHT;
+import static project.airbnb.clone.service.accommodation.TrendingService.WISHLIST_WEIGHT;
+
+@Component
+@RequiredArgsConstructor
+public class TrendingEventListener {
+
+    private final TrendingService trendingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleViewHistoryEvent(ViewHistoryEvent event) {
+        trendingService.record(event.accommodationId(), VIEW_WEIGHT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleWishlistAccommodationAddedEvent(WishlistAccommodationAddedEvent event) {
+        trendingService.record(event.accommodationId(), WISHLIST_WEIGHT);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleReservationConfirmedEvent(ReservationConfirmedEvent event) {
+        trendingService.record(event.accommodationId(), RESERVATION_WEIGHT);
+    }
+}
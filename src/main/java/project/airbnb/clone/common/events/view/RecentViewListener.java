@@ -5,15 +5,20 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 import project.airbnb.clone.service.accommodation.ViewHistoryService;
+import project.airbnb.clone.service.accommodation.ViewHistoryWriteBuffer;
+
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
 public class RecentViewListener {
 
     private final ViewHistoryService viewHistoryService;
+    private final ViewHistoryWriteBuffer viewHistoryWriteBuffer;
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleRecentViewEvent(ViewHistoryEvent event) {
         viewHistoryService.addHistory(event.memberId(), event.accommodationId());
+        viewHistoryWriteBuffer.add(event.memberId(), event.accommodationId(), LocalDateTime.now());
     }
 }
@@ -0,0 +1,4 @@
+package project.airbnb.clone.common.events.wishlist;
+
+public record WishlistAccommodationAddedEvent(Long accommodationId, Long memberId) {
+}
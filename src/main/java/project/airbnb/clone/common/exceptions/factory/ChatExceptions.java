@@ -71,4 +71,25 @@ public abstract class ChatExceptions {
                 String.format("requestId=%s 채팅 요청의 수신자가 아닙니다. receiverId=%d", requestId, receiverId)
         );
     }
+
+    public static BusinessException invalidLastReadMessage(Long chatRoomId, Long messageId) {
+        return new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                String.format("chatRoomId=%d 채팅방의 읽음 처리 메시지 id 가 올바르지 않습니다. messageId=%d", chatRoomId, messageId)
+        );
+    }
+
+    public static BusinessException invalidSearchQuery(String query) {
+        return new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                String.format("검색어가 비어 있거나 너무 깁니다. query=%s", query)
+        );
+    }
+
+    public static BusinessException invalidSearchPageSize(int pageSize) {
+        return new BusinessException(
+                ErrorCode.INVALID_INPUT,
+                String.format("검색 조회 개수가 올바르지 않습니다. pageSize=%d", pageSize)
+        );
+    }
 }
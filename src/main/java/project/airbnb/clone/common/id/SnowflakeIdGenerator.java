@@ -0,0 +1,187 @@
+package project.airbnb.clone.common.id;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.repository.redis.RedisScriptRegistry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순으로 정렬되는 64비트 id 생성기(Snowflake)
+ * <p>
+ * [부호 1][기준 시각 이후 ms 41][워커 id 10][시퀀스 12] 로 구성되며, 같은 ms 안에서 시퀀스가 넘치면
+ * 다음 ms 로 넘어가 계속 발급한다. 시계가 뒤로 가도 마지막 발급 시각부터 이어가므로 id 는 항상 증가한다.
+ * <p>
+ * 워커 id 는 snowflake.worker-id 로 고정하거나, 지정하지 않으면 Redis 에서 임대해 전용 스레드에서 주기적으로 연장한다.
+ * 임대를 마지막으로 확인한 뒤 임대 시간(여유분 제외)이 지나면 다른 인스턴스가 같은 워커 id 를 가져갔을 수 있으므로
+ * 연장에 다시 성공할 때까지 발급을 거부한다.
+ */
+@Slf4j
+@Component
+public class SnowflakeIdGenerator {
+
+    static final long EPOCH = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int WORKER_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_WORKER_ID = (1L << WORKER_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    /** 발급 시점에 id 가 없던 항목에 붙이는 id 전용 워커 id - 설정/임대 대상에서 제외한다 */
+    static final long RESERVED_WORKER_ID = MAX_WORKER_ID;
+
+    private static final String WORKER_KEY_PREFIX = "id:snowflake:worker:";
+    private static final String WORKER_COUNTER_KEY = "id:snowflake:worker-seq";
+    private static final Duration WORKER_LEASE = Duration.ofSeconds(90);
+    private static final Duration RENEW_PERIOD = Duration.ofSeconds(30);
+    /** Redis 와 이 인스턴스의 시간 흐름 차이, 연장 요청 지연을 감안해 임대 만료보다 일찍 발급을 멈춘다 */
+    private static final Duration LEASE_SAFETY_MARGIN = Duration.ofSeconds(10);
+    private static final String RENEW_SCRIPT = "snowflake-worker-renew";
+    private static final String RELEASE_SCRIPT = "snowflake-worker-release";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final long configuredWorkerId;
+    private final String owner = UUID.randomUUID().toString();
+
+    /** (발급 시각 ms << SEQUENCE_BITS) | 시퀀스 */
+    private final AtomicLong state = new AtomicLong();
+    private volatile long workerId = -1;
+    /** 워커 id 를 임대한 경우 이 시각(System.nanoTime)까지 발급 가능 */
+    private volatile long leaseValidUntil;
+    private ScheduledExecutorService renewalExecutor;
+
+    public SnowflakeIdGenerator(StringRedisTemplate redisTemplate,
+                                RedisScriptRegistry redisScriptRegistry,
+                                @Value("${snowflake.worker-id:-1}") long configuredWorkerId) {
+        this.redisTemplate = redisTemplate;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.configuredWorkerId = configuredWorkerId;
+    }
+
+    @PostConstruct
+    void init() {
+        if (configuredWorkerId >= 0) {
+            if (configuredWorkerId >= RESERVED_WORKER_ID) {
+                throw new IllegalStateException("snowflake.worker-id must be between 0 and " + (RESERVED_WORKER_ID - 1));
+            }
+            workerId = configuredWorkerId;
+            return;
+        }
+        workerId = leaseWorkerId();
+        log.info("Snowflake 워커 id 임대 - workerId: {}", workerId);
+
+        renewalExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "snowflake-lease-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        renewalExecutor.scheduleWithFixedDelay(this::renewLease,
+                RENEW_PERIOD.toMillis(), RENEW_PERIOD.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @throws IllegalStateException 워커 id 임대를 확인하지 못한 채 유효 시간이 지난 경우
+     */
+    public long nextId() {
+        if (configuredWorkerId < 0 && System.nanoTime() - leaseValidUntil > 0) {
+            throw new IllegalStateException("Snowflake 워커 id 임대를 확인하지 못해 id 를 발급할 수 없습니다. workerId: " + workerId);
+        }
+
+        long now = System.currentTimeMillis();
+        long next = state.updateAndGet(prev -> Math.max(now << SEQUENCE_BITS, prev + 1));
+
+        long timestamp = (next >>> SEQUENCE_BITS) - EPOCH;
+        return (timestamp << (WORKER_BITS + SEQUENCE_BITS))
+                | (workerId << SEQUENCE_BITS)
+                | (next & SEQUENCE_MASK);
+    }
+
+    /**
+     * 해당 시각 이후 발급된 id 는 모두 이 값 이상이다 - 시각 기준 범위 조건을 id(PK) 범위로 바꿀 때 사용
+     */
+    public static long minIdAt(Instant instant) {
+        long timestamp = Math.max(0, instant.toEpochMilli() - EPOCH);
+        return timestamp << (WORKER_BITS + SEQUENCE_BITS);
+    }
+
+    /**
+     * 예약된 워커 id 로 만든 id - 같은 (시각, 시퀀스) 에는 항상 같은 값을 돌려주므로 재처리해도 id 가 바뀌지 않는다
+     *
+     * @param epochMillis 항목이 생성된 시각(ms)
+     * @param sequence    같은 ms 안의 순번(하위 12비트만 사용)
+     */
+    public static long reservedIdAt(long epochMillis, long sequence) {
+        return minIdAt(Instant.ofEpochMilli(epochMillis))
+                | (RESERVED_WORKER_ID << SEQUENCE_BITS)
+                | (sequence & SEQUENCE_MASK);
+    }
+
+    /**
+     * 소유자 비교와 만료 연장을 스크립트로 원자적으로 처리, 이미 다른 인스턴스가 가져갔으면 새 워커 id 를 임대한다
+     * <p>
+     * Redis 오류로 연장하지 못하면 다음 주기에 다시 시도하며, 그동안 유효 시간이 지나면 nextId 가 실패한다.
+     */
+    void renewLease() {
+        long started = System.nanoTime();
+        try {
+            Long renewed = redisScriptRegistry.execute(RENEW_SCRIPT, Long.class, List.of(WORKER_KEY_PREFIX + workerId),
+                    owner, WORKER_LEASE.toMillis());
+            if (renewed != null && renewed == 1L) {
+                extendLease(started);
+                return;
+            }
+
+            // 임대가 만료돼 다른 인스턴스가 가져갔을 수 있으므로 새 워커 id 를 임대한다
+            leaseValidUntil = started;
+            long previous = workerId;
+            workerId = leaseWorkerId();
+            log.warn("Snowflake 워커 id 임대 만료 - 재임대 {} -> {}", previous, workerId);
+        } catch (Exception e) {
+            log.error("Snowflake 워커 id 임대 연장 실패 - workerId: {}", workerId, e);
+        }
+    }
+
+    @PreDestroy
+    void releaseLease() {
+        if (renewalExecutor == null) {
+            return;
+        }
+        renewalExecutor.shutdownNow();
+        leaseValidUntil = System.nanoTime();
+
+        redisScriptRegistry.execute(RELEASE_SCRIPT, Long.class, List.of(WORKER_KEY_PREFIX + workerId), owner);
+    }
+
+    private void extendLease(long renewStartedNanos) {
+        leaseValidUntil = renewStartedNanos + WORKER_LEASE.minus(LEASE_SAFETY_MARGIN).toNanos();
+    }
+
+    private long leaseWorkerId() {
+        long started = System.nanoTime();
+        Long start = redisTemplate.opsForValue().increment(WORKER_COUNTER_KEY);
+        long base = start != null ? start : 0;
+
+        for (long i = 0; i <= MAX_WORKER_ID; i++) {
+            long candidate = (base + i) & MAX_WORKER_ID;
+            if (candidate == RESERVED_WORKER_ID) {
+                continue;
+            }
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(WORKER_KEY_PREFIX + candidate, owner, WORKER_LEASE);
+            if (Boolean.TRUE.equals(acquired)) {
+                extendLease(started);
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("사용 가능한 Snowflake 워커 id 가 없습니다.");
+    }
+}
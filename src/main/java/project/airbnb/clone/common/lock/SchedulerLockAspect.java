@@ -0,0 +1,149 @@
+package project.airbnb.clone.common.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.common.annotations.SchedulerLock;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SchedulerLock} 이 붙은 메서드를 락을 얻은 인스턴스에서만 실행
+ * <p>
+ * 트랜잭션보다 먼저 락을 잡아야 하므로 가장 바깥쪽에서 동작한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchedulerLockAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final SchedulerLockManager lockManager;
+    private final ScheduledExecutorService renewalExecutor;
+
+    public SchedulerLockAspect(MeterRegistry meterRegistry, SchedulerLockManager lockManager) {
+        this.meterRegistry = meterRegistry;
+        this.lockManager = lockManager;
+        this.renewalExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "scheduler-lock-renewal");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Around("@annotation(schedulerLock)")
+    public Object runWithLock(ProceedingJoinPoint joinPoint, SchedulerLock schedulerLock) throws Throwable {
+        String name = schedulerLock.name();
+        Duration lease = Duration.ofMillis(schedulerLock.leaseMillis());
+
+        Optional<SchedulerLockHandle> acquired = lockManager.tryAcquire(name, lease);
+        if (acquired.isEmpty()) {
+            meterRegistry.counter("scheduler.lock.skipped", "name", name).increment();
+            log.debug("스케줄 락 획득 실패, 실행 건너뜀 - {}", name);
+            return null;
+        }
+
+        SchedulerLockHandle handle = acquired.get();
+        meterRegistry.counter("scheduler.lock.acquired", "name", name).increment();
+
+        RunningJob job = new RunningJob(handle, Thread.currentThread());
+        long renewPeriod = Math.max(1L, lease.toMillis() / 3);
+        ScheduledFuture<?> renewal = renewalExecutor.scheduleAtFixedRate(
+                () -> renew(job, lease), renewPeriod, renewPeriod, TimeUnit.MILLISECONDS);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        SchedulerLockContext.set(handle);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            SchedulerLockContext.clear();
+            renewal.cancel(false);
+            job.finish();
+            if (lockManager.isLost(handle)) {
+                // 락을 잃어 작업을 중단시키려고 건 인터럽트가 스케줄러 스레드에 남지 않도록 지운다
+                Thread.interrupted();
+            } else {
+                lockManager.release(handle, Duration.ofMillis(schedulerLock.lockAtLeastMillis()));
+            }
+            lockManager.forget(handle);
+            sample.stop(meterRegistry.timer("scheduler.lock.held", "name", name));
+        }
+    }
+
+    /**
+     * 락 연장, 연장에 실패하거나 임대 시간 동안 한 번도 연장하지 못하면 락을 잃은 것으로 보고 작업 스레드를 인터럽트한다.
+     * 작업은 인터럽트 또는 {@link SchedulerLockManager#ensureCurrentLockHeld()} 에서 중단된다.
+     */
+    private void renew(RunningJob job, Duration lease) {
+        SchedulerLockHandle handle = job.handle;
+        if (lockManager.isLost(handle)) {
+            return;
+        }
+
+        try {
+            if (lockManager.renew(handle, lease)) {
+                job.lastRenewedAt = System.currentTimeMillis();
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("스케줄 락 연장 중 오류 - {}", handle.name(), e);
+            if (System.currentTimeMillis() - job.lastRenewedAt < lease.toMillis()) {
+                // 마지막 연장 이후 임대 시간이 남아 있으면 다음 주기에 다시 시도한다
+                return;
+            }
+        }
+
+        if (job.abort(lockManager)) {
+            meterRegistry.counter("scheduler.lock.lost", "name", handle.name()).increment();
+            log.warn("스케줄 락을 잃어 작업 중단 - {} (token={})", handle.name(), handle.fencingToken());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalExecutor.shutdownNow();
+    }
+
+    private static final class RunningJob {
+
+        private final SchedulerLockHandle handle;
+        private final Thread thread;
+        private volatile long lastRenewedAt = System.currentTimeMillis();
+        private boolean finished;
+
+        private RunningJob(SchedulerLockHandle handle, Thread thread) {
+            this.handle = handle;
+            this.thread = thread;
+        }
+
+        /**
+         * 아직 실행 중이면 락을 잃은 것으로 표시하고 작업 스레드를 인터럽트, 이미 끝난 작업이면 false
+         * 작업이 끝난 뒤 같은 스레드가 실행하는 다른 작업을 인터럽트하지 않도록 finish 와 같은 락으로 보호한다.
+         */
+        private synchronized boolean abort(SchedulerLockManager lockManager) {
+            if (finished) {
+                return false;
+            }
+            lockManager.markLost(handle);
+            thread.interrupt();
+            return true;
+        }
+
+        private synchronized void finish() {
+            finished = true;
+        }
+    }
+}
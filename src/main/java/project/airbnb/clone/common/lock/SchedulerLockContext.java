@@ -0,0 +1,24 @@
+package project.airbnb.clone.common.lock;
+
+/**
+ * 현재 스레드에서 실행 중인 스케줄 작업의 락 핸들 보관소
+ */
+public final class SchedulerLockContext {
+
+    private static final ThreadLocal<SchedulerLockHandle> CURRENT = new ThreadLocal<>();
+
+    private SchedulerLockContext() {
+    }
+
+    public static SchedulerLockHandle current() {
+        return CURRENT.get();
+    }
+
+    static void set(SchedulerLockHandle handle) {
+        CURRENT.set(handle);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,7 @@
+package project.airbnb.clone.common.lock;
+
+/**
+ * @param fencingToken 락을 얻을 때마다 단조 증가하는 값. 값이 더 큰 소유자가 더 최근의 소유자다.
+ */
+public record SchedulerLockHandle(String name, String owner, long fencingToken, long acquiredAtMillis) {
+}
@@ -0,0 +1,11 @@
+package project.airbnb.clone.common.lock;
+
+/**
+ * 스케줄 작업 도중 락을 잃었을 때 - 다른 인스턴스가 같은 작업을 실행 중일 수 있으므로 더 이상 쓰기를 진행하면 안 된다
+ */
+public class SchedulerLockLostException extends IllegalStateException {
+
+    public SchedulerLockLostException(SchedulerLockHandle handle) {
+        super("스케줄 락을 잃었습니다 - %s (token=%d)".formatted(handle.name(), handle.fencingToken()));
+    }
+}
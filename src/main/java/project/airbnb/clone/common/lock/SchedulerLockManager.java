@@ -0,0 +1,100 @@
+package project.airbnb.clone.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.repository.redis.RedisScriptRegistry;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockManager {
+
+    private static final String KEY_PREFIX = "scheduler:lock:";
+    private static final String FENCE_SUFFIX = ":fence";
+
+    private static final String ACQUIRE_SCRIPT = "scheduler-lock-acquire";
+    private static final String RENEW_SCRIPT = "scheduler-lock-renew";
+    private static final String RELEASE_SCRIPT = "scheduler-lock-release";
+    private static final String CHECK_SCRIPT = "scheduler-lock-check";
+
+    private final RedisScriptRegistry redisScriptRegistry;
+    /** 연장 실패로 잃은 것으로 확인된 락 - Redis 를 다시 조회하지 않고 바로 중단시킨다 */
+    private final Set<SchedulerLockHandle> lostHandles = ConcurrentHashMap.newKeySet();
+
+    public Optional<SchedulerLockHandle> tryAcquire(String name, Duration lease) {
+        String owner = UUID.randomUUID().toString();
+        Long token = redisScriptRegistry.execute(ACQUIRE_SCRIPT, Long.class, List.of(lockKey(name), fenceKey(name)),
+                owner, lease.toMillis());
+
+        if (token == null || token == 0L) {
+            return Optional.empty();
+        }
+        return Optional.of(new SchedulerLockHandle(name, owner, token, System.currentTimeMillis()));
+    }
+
+    public boolean renew(SchedulerLockHandle handle, Duration lease) {
+        Long result = redisScriptRegistry.execute(RENEW_SCRIPT, Long.class, List.of(lockKey(handle.name())),
+                handle.owner(), lease.toMillis());
+        return result != null && result == 1L;
+    }
+
+    public void release(SchedulerLockHandle handle, Duration lockAtLeast) {
+        long elapsed = System.currentTimeMillis() - handle.acquiredAtMillis();
+        long remaining = Math.max(0L, lockAtLeast.toMillis() - elapsed);
+
+        redisScriptRegistry.execute(RELEASE_SCRIPT, Long.class, List.of(lockKey(handle.name())),
+                handle.owner(), remaining);
+    }
+
+    /**
+     * 아직 이 핸들이 락을 소유하고 있고, 그 사이 다른 소유자가 락을 얻은 적이 없는지(fencing token) 확인
+     */
+    public boolean isHeld(SchedulerLockHandle handle) {
+        if (lostHandles.contains(handle)) {
+            return false;
+        }
+        Long result = redisScriptRegistry.execute(CHECK_SCRIPT, Long.class, List.of(lockKey(handle.name()), fenceKey(handle.name())),
+                handle.owner(), handle.fencingToken());
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 현재 스레드가 {@link project.airbnb.clone.common.annotations.SchedulerLock} 작업 안에 있다면 그 락을 아직 소유하고 있는지 확인하고,
+     * 잃었다면 예외로 작업을 중단시킨다. 공유 자원을 변경하기 직전마다 호출해 임대가 만료된 뒤의 중복 쓰기를 막는다.
+     *
+     * @throws SchedulerLockLostException 락을 잃은 경우
+     */
+    public void ensureCurrentLockHeld() {
+        SchedulerLockHandle handle = SchedulerLockContext.current();
+        if (handle != null && !isHeld(handle)) {
+            lostHandles.add(handle);
+            throw new SchedulerLockLostException(handle);
+        }
+    }
+
+    void markLost(SchedulerLockHandle handle) {
+        lostHandles.add(handle);
+    }
+
+    boolean isLost(SchedulerLockHandle handle) {
+        return lostHandles.contains(handle);
+    }
+
+    void forget(SchedulerLockHandle handle) {
+        lostHandles.remove(handle);
+    }
+
+    private static String lockKey(String name) {
+        return KEY_PREFIX + name;
+    }
+
+    private static String fenceKey(String name) {
+        return KEY_PREFIX + name + FENCE_SUFFIX;
+    }
+}
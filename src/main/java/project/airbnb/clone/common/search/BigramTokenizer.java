@@ -0,0 +1,84 @@
+package project.airbnb.clone.common.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅 메시지 검색용 bigram 토크나이저
+ * <p>
+ * 한글은 띄어쓰기/조사 때문에 형태소 분석 없이 단어 단위로 색인하기 어려우므로, 문자/숫자 단위 연속 구간을 두 글자씩 잘라 색인한다.
+ * 한 글자 검색어도 찾을 수 있도록 본문은 bigram 과 함께 글자 하나하나(unigram)도 색인하고, 검색어는 한 글자 단어만 unigram 으로 찾는다.
+ */
+public abstract class BigramTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    /**
+     * 정규화(NFKC, 소문자) 후 문자/숫자가 아닌 문자로 나눈 검색어 목록
+     */
+    public static List<String> terms(String text) {
+        if (text == null) {
+            return List.of();
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return Arrays.stream(SEPARATOR.split(normalized))
+                     .filter(term -> !term.isEmpty())
+                     .distinct()
+                     .toList();
+    }
+
+    /**
+     * 본문 색인용 토큰 - 중복 없는 bigram 과 unigram(등장 순서 유지)
+     */
+    public static Set<String> indexTokens(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+
+        for (String term : terms(text)) {
+            int[] codePoints = term.codePoints().toArray();
+            for (int i = 0; i < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 1));
+                if (i + 1 < codePoints.length) {
+                    tokens.add(new String(codePoints, i, 2));
+                }
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어용 토큰 - 중복 없는 bigram(등장 순서 유지), 한 글자 단어는 unigram 그대로
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+
+        for (String term : terms(text)) {
+            int[] codePoints = term.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(term);
+                continue;
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 정규화한 본문이 모든 검색어를 포함하는지 - bigram 교집합의 오탐(순서가 다른 토큰 조합)을 걸러낸다
+     */
+    public static boolean containsAll(String content, List<String> terms) {
+        if (content == null) {
+            return false;
+        }
+
+        String normalized = Normalizer.normalize(content, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return terms.stream().allMatch(normalized::contains);
+    }
+}
@@ -0,0 +1,28 @@
+package project.airbnb.clone.config.actuator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.service.chat.ChatTrafficMonitor;
+import project.airbnb.clone.service.chat.ChatTrafficMonitor.RoomTraffic;
+
+import java.util.List;
+
+/**
+ * GET /actuator/chattraffic - 이 인스턴스에서 직전 1분간 전달 트래픽이 많은 채팅방
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "chattraffic")
+public class ChatTrafficEndpoint {
+
+    private static final int TOP_ROOMS = 10;
+
+    private final ChatTrafficMonitor chatTrafficMonitor;
+
+    @ReadOperation
+    public List<RoomTraffic> topRooms() {
+        return chatTrafficMonitor.getTopRooms(TOP_ROOMS);
+    }
+}
@@ -0,0 +1,38 @@
+package project.airbnb.clone.config.actuator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.service.accommodation.AccommodationStatsReconciler;
+import project.airbnb.clone.service.accommodation.AccommodationStatsReconciler.Progress;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * GET /actuator/statsreconcile - 숙소 통계 검증 작업 진행률/예상 종료 시간
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "statsreconcile")
+public class StatsReconcileEndpoint {
+
+    private final AccommodationStatsReconciler reconciler;
+
+    @ReadOperation
+    public Map<String, Object> progress() {
+        Progress progress = reconciler.getProgress();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", progress.status());
+        result.put("startedAt", progress.startedAt());
+        result.put("processedUpToId", progress.processedUpToId());
+        result.put("maxId", progress.maxId());
+        result.put("percent", progress.percent());
+        result.put("repaired", progress.repaired());
+        result.put("chunkSize", progress.chunkSize());
+        result.put("etaSeconds", progress.eta() == null ? null : progress.eta().toSeconds());
+        return result;
+    }
+}
@@ -0,0 +1,203 @@
+package project.airbnb.clone.config.chat;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 구독 단위 묶음 전송(micro-batching)
+ * <p>
+ * SUBSCRIBE 프레임에 x-delivery: batch 헤더를 보낸 구독만 대상이다. 직전 프레임 이후 window 가 지났으면 바로 보내고,
+ * window 안에 이어서 들어온 메시지는 모았다가 window 가 끝나거나 maxMessages 개가 되면 JSON 배열 하나로 보낸다.
+ * 묶인 프레임에는 x-batch-size 헤더가 붙으며, 헤더를 보내지 않은 기존 클라이언트는 지금처럼 메시지마다 한 프레임을 받는다.
+ * <p>
+ * inbound 채널에서는 구독/해지/연결 종료를, outbound 채널에서는 MESSAGE 프레임을 처리하므로 두 채널에 모두 등록한다.
+ */
+@Component
+public class StompBatchDeliveryInterceptor implements ChannelInterceptor {
+
+    public static final String DELIVERY_HEADER = "x-delivery";
+    public static final String BATCH_DELIVERY = "batch";
+    public static final String BATCH_SIZE_HEADER = "x-batch-size";
+
+    /** 묶어서 보낸 프레임 표시 - 다시 묶이지 않도록 */
+    private static final String BATCHED_HEADER = "stompBatched";
+
+    private final StompProperties.Batch properties;
+    private final DistributionSummary batchSize;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final Map<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+
+    public StompBatchDeliveryInterceptor(StompProperties stompProperties, MeterRegistry meterRegistry) {
+        this.properties = stompProperties.getBatch();
+        this.batchSize = DistributionSummary.builder("chat.stomp.batch.size")
+                                            .register(meterRegistry);
+        this.scheduler = new ThreadPoolTaskScheduler();
+        this.scheduler.setThreadNamePrefix("stomp-batch-");
+        this.scheduler.initialize();
+
+        meterRegistry.gaugeMapSize("chat.stomp.batch.subscriptions", List.of(), batches);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(headers);
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(headers);
+
+        if (type == null || sessionId == null) {
+            return message;
+        }
+
+        switch (type) {
+            case SUBSCRIBE -> {
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+                if (subscriptionId != null && BATCH_DELIVERY.equals(NativeMessageHeaderAccessor.getFirstNativeHeader(DELIVERY_HEADER, headers))) {
+                    batches.put(new BatchKey(sessionId, subscriptionId), new Batch());
+                }
+            }
+            case UNSUBSCRIBE -> {
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+                if (subscriptionId != null) {
+                    batches.remove(new BatchKey(sessionId, subscriptionId));
+                }
+            }
+            case DISCONNECT -> batches.keySet().removeIf(key -> key.sessionId().equals(sessionId));
+            case MESSAGE -> {
+                return batchable(message) ? offer(message, channel) : message;
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private boolean batchable(Message<?> message) {
+        MessageHeaders headers = message.getHeaders();
+        if (batches.isEmpty() || headers.containsKey(BATCHED_HEADER) || !(message.getPayload() instanceof byte[])) {
+            return false;
+        }
+
+        // 배열로 이어 붙일 수 있는 JSON 만 묶는다
+        MimeType contentType = SimpMessageHeaderAccessor.getContentType(headers);
+        return contentType != null && contentType.getSubtype().contains("json");
+    }
+
+    private Message<?> offer(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(headers);
+        Batch batch = subscriptionId != null ? batches.get(new BatchKey(SimpMessageHeaderAccessor.getSessionId(headers), subscriptionId)) : null;
+
+        if (batch == null) {
+            return message;
+        }
+
+        List<Message<?>> full;
+        synchronized (batch) {
+            long now = System.currentTimeMillis();
+            if (batch.pending.isEmpty() && now >= batch.windowEndsAt) {
+                // 조용하던 구독의 첫 메시지는 지연 없이 보낸다
+                batch.windowEndsAt = now + properties.getWindow().toMillis();
+                return message;
+            }
+
+            batch.pending.add(message);
+            batch.channel = channel;
+            if (batch.pending.size() == 1) {
+                long flushAt = Math.max(batch.windowEndsAt, now);
+                scheduler.schedule(() -> flush(batch), Instant.ofEpochMilli(flushAt));
+            }
+            if (batch.pending.size() < properties.getMaxMessages()) {
+                return null;
+            }
+            full = batch.drain();
+        }
+
+        return combine(full);
+    }
+
+    private void flush(Batch batch) {
+        List<Message<?>> pending;
+        MessageChannel channel;
+        synchronized (batch) {
+            if (batch.pending.isEmpty()) {
+                return;
+            }
+            channel = batch.channel;
+            pending = batch.drain();
+        }
+        channel.send(combine(pending));
+    }
+
+    /**
+     * 모아 둔 메시지를 한 프레임으로 합친다, 한 건이면 본문은 그대로 두고 표시만 붙인다
+     * <p>
+     * flush 는 outbound 채널로 다시 보내 이 인터셉터를 한 번 더 거치므로, 표시가 없으면 다시 모아져 영영 전송되지 않는다.
+     */
+    private Message<?> combine(List<Message<?>> messages) {
+        if (messages.size() == 1) {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(messages.get(0));
+            accessor.setHeader(BATCHED_HEADER, Boolean.TRUE);
+            return MessageBuilder.createMessage(messages.get(0).getPayload(), accessor.getMessageHeaders());
+        }
+
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        payload.write('[');
+        for (int i = 0; i < messages.size(); i++) {
+            if (i > 0) {
+                payload.write(',');
+            }
+            payload.writeBytes((byte[]) messages.get(i).getPayload());
+        }
+        payload.write(']');
+
+        // 세션/구독/destination 과 발행 시각 헤더는 가장 오래된 메시지 기준
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(messages.get(0));
+        accessor.setNativeHeader(BATCH_SIZE_HEADER, String.valueOf(messages.size()));
+        accessor.setHeader(BATCHED_HEADER, Boolean.TRUE);
+        batchSize.record(messages.size());
+
+        return MessageBuilder.createMessage(payload.toByteArray(), accessor.getMessageHeaders());
+    }
+
+    private record BatchKey(String sessionId, String subscriptionId) {
+    }
+
+    private class Batch {
+
+        private final List<Message<?>> pending = new ArrayList<>();
+        private MessageChannel channel;
+        /** 이 시각 전에 들어온 메시지는 모아서 보낸다 */
+        private long windowEndsAt;
+
+        private List<Message<?>> drain() {
+            List<Message<?>> drained = new ArrayList<>(pending);
+            pending.clear();
+            windowEndsAt = System.currentTimeMillis() + properties.getWindow().toMillis();
+            return drained;
+        }
+    }
+}
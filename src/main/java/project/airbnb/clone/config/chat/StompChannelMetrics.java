@@ -0,0 +1,36 @@
+package project.airbnb.clone.config.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP inbound/outbound 채널 실행기의 대기열 길이와 활성 스레드 수 지표
+ */
+@Component
+public class StompChannelMetrics {
+
+    public StompChannelMetrics(MeterRegistry meterRegistry,
+                               @Qualifier("clientInboundChannelExecutor") ThreadPoolTaskExecutor inboundExecutor,
+                               @Qualifier("clientOutboundChannelExecutor") ThreadPoolTaskExecutor outboundExecutor) {
+        register(meterRegistry, "inbound", inboundExecutor);
+        register(meterRegistry, "outbound", outboundExecutor);
+    }
+
+    private static void register(MeterRegistry meterRegistry, String channel, ThreadPoolTaskExecutor executor) {
+        Tags tags = Tags.of("channel", channel);
+        meterRegistry.gauge("chat.stomp.channel.queue", tags, executor, StompChannelMetrics::queueSize);
+        meterRegistry.gauge("chat.stomp.channel.active", tags, executor, ThreadPoolTaskExecutor::getActiveCount);
+    }
+
+    static double queueSize(ThreadPoolTaskExecutor executor) {
+        try {
+            return executor.getThreadPoolExecutor().getQueue().size();
+        } catch (IllegalStateException e) {
+            // 초기화 전/종료 후
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package project.airbnb.clone.config.chat;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import project.airbnb.clone.service.chat.ChatTrafficMonitor;
+
+/**
+ * inbound 채널에서 받은 STOMP 프레임 수 측정
+ * <p>
+ * outbound 채널은 프레임을 실행기에 넘기는 즉시 전송 완료로 보므로, 보낸 프레임 수와 클라이언트 전달 지연은
+ * 소켓 쓰기가 끝난 뒤 {@link StompSlowConsumerGuard} 가 기록한다.
+ */
+public class StompMetricsInterceptor implements ChannelInterceptor {
+
+    private final ChatTrafficMonitor chatTrafficMonitor;
+
+    private StompMetricsInterceptor(ChatTrafficMonitor chatTrafficMonitor) {
+        this.chatTrafficMonitor = chatTrafficMonitor;
+    }
+
+    public static StompMetricsInterceptor inbound(ChatTrafficMonitor chatTrafficMonitor) {
+        return new StompMetricsInterceptor(chatTrafficMonitor);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        chatTrafficMonitor.recordFrame("inbound", typeOf(message));
+        return message;
+    }
+
+    private static String typeOf(Message<?> message) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        return type != null ? type.name().toLowerCase() : "unknown";
+    }
+}
@@ -0,0 +1,52 @@
+package project.airbnb.clone.config.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * STOMP 전송 한도와 채널 실행기 설정
+ */
+@Data
+@Component
+@ConfigurationProperties("chat.stomp")
+public class StompProperties {
+
+    /** 한 프레임 전송이 이 시간을 넘기면 느린 세션으로 보고 종료 */
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+    /** 세션별 전송 대기 버퍼 한도(byte) */
+    private int sendBufferSizeLimit = 512 * 1024;
+    /** 클라이언트가 보내는 메시지 최대 크기(byte) */
+    private int messageSizeLimit = 64 * 1024;
+
+    private Pool inbound = new Pool(8, 16, 2_000);
+    private Pool outbound = new Pool(8, 16, 10_000);
+    /** 세션 전송 전용 - 느린 클라이언트의 소켓 쓰기가 outbound 채널 스레드를 잡지 않도록 분리 */
+    private Pool send = new Pool(32, 64, 10_000);
+
+    /** SUBSCRIBE 시 x-delivery: batch 헤더를 보낸 구독에 적용되는 묶음 전송 */
+    private Batch batch = new Batch(Duration.ofMillis(20), 50);
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Pool {
+        private int corePoolSize;
+        private int maxPoolSize;
+        private int queueCapacity;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Batch {
+        /** 직전 프레임 이후 이 시간 안에 들어온 메시지를 모아 한 프레임으로 보낸다 */
+        private Duration window;
+        /** 이만큼 모이면 window 를 기다리지 않고 보낸다 */
+        private int maxMessages;
+    }
+}
@@ -0,0 +1,349 @@
+package project.airbnb.clone.config.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+import project.airbnb.clone.service.chat.ChatTrafficMonitor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 느린 클라이언트 보호 - 세션별 전송 대기열
+ * <p>
+ * 세션으로 보내는 프레임을 세션별 대기열에 넣고 전송 전용 실행기에서 순서대로 보내므로,
+ * 소켓 쓰기가 막힌 클라이언트가 있어도 outbound 채널 스레드는 바로 다음 세션으로 넘어간다.
+ * 대기열이 sendBufferSizeLimit 를 넘으면 채팅 프레임이 남아 있는 세션은 종료하고(클라이언트가 재접속해 최근 메시지를 다시 받는다),
+ * 알림 등 나머지 프레임만 있으면 오래된 프레임부터 버린다. 한 프레임 전송이 sendTimeLimit 를 넘겨도 세션을 종료한다.
+ * 전송 시간 검사는 공용 @Scheduled 스레드가 다른 작업에 막혀도 밀리지 않도록 전용 스케줄러에서 돈다.
+ * <p>
+ * outbound 프레임 수와 클라이언트 전달 지연(chat.delivery.latency{stage=client})은 대기열을 거쳐 소켓 쓰기가 끝난 시점에 기록한다.
+ */
+@Slf4j
+@Component
+public class StompSlowConsumerGuard implements WebSocketHandlerDecoratorFactory {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/";
+    private static final String CHAT_USER_DESTINATION_PREFIX = "/user/queue/chat/";
+    /** 한 세션이 전송 스레드를 독점하지 않도록 이만큼 보낸 뒤 실행기에 다시 넣는다 */
+    private static final int DRAIN_BATCH = 64;
+    private static final Duration STALL_CHECK_INTERVAL = Duration.ofSeconds(1);
+
+    private final StompProperties stompProperties;
+    private final MeterRegistry meterRegistry;
+    private final ChatTrafficMonitor chatTrafficMonitor;
+    private final ThreadPoolTaskExecutor sendExecutor;
+    private final ThreadPoolTaskScheduler stallWatcher;
+    private final Map<String, OutboundQueueSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong bufferedBytes = new AtomicLong();
+
+    public StompSlowConsumerGuard(StompProperties stompProperties, MeterRegistry meterRegistry, ChatTrafficMonitor chatTrafficMonitor) {
+        this.stompProperties = stompProperties;
+        this.meterRegistry = meterRegistry;
+        this.chatTrafficMonitor = chatTrafficMonitor;
+        this.sendExecutor = sendExecutor(stompProperties.getSend());
+        this.stallWatcher = new ThreadPoolTaskScheduler();
+        this.stallWatcher.setThreadNamePrefix("stomp-stall-watch-");
+        this.stallWatcher.initialize();
+        this.stallWatcher.scheduleWithFixedDelay(this::closeStalledSessions, STALL_CHECK_INTERVAL);
+
+        meterRegistry.gauge("chat.stomp.outbound.buffered", bufferedBytes);
+        Tags tags = Tags.of("channel", "send");
+        meterRegistry.gauge("chat.stomp.channel.queue", tags, sendExecutor, StompChannelMetrics::queueSize);
+        meterRegistry.gauge("chat.stomp.channel.active", tags, sendExecutor, ThreadPoolTaskExecutor::getActiveCount);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new GuardedWebSocketHandler(handler);
+    }
+
+    /**
+     * 한 프레임 전송이 sendTimeLimit 를 넘긴 세션 종료
+     */
+    void closeStalledSessions() {
+        long deadline = System.currentTimeMillis() - stompProperties.getSendTimeLimit().toMillis();
+
+        sessions.values().forEach(session -> {
+            long startedAt = session.sendStartedAt;
+            if (startedAt > 0 && startedAt < deadline) {
+                session.disconnect("time");
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stallWatcher.shutdown();
+        sendExecutor.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor sendExecutor(StompProperties.Pool pool) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCorePoolSize());
+        executor.setMaxPoolSize(pool.getMaxPoolSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix("stomp-send-");
+        executor.initialize();
+        return executor;
+    }
+
+    private static Frame frameOf(WebSocketMessage<?> message) {
+        int bytes = message.getPayloadLength();
+        if (!(message instanceof TextMessage textMessage)) {
+            return new Frame(message, OverflowPolicy.DISCONNECT, bytes, "binary", null);
+        }
+
+        String frame = textMessage.getPayload();
+        int headerEnd = frame.indexOf("\n\n");
+        String[] lines = frame.substring(0, headerEnd < 0 ? frame.length() : headerEnd).split("\n");
+        String command = lines.length == 0 || lines[0].isBlank() ? "heartbeat" : lines[0].strip().toLowerCase();
+
+        String destination = null;
+        Long publishedAt = null;
+        for (int i = 1; i < lines.length; i++) {
+            if (destination == null && lines[i].startsWith("destination:")) {
+                destination = lines[i].substring("destination:".length());
+            } else if (publishedAt == null && lines[i].startsWith(ChatTrafficMonitor.PUBLISHED_AT_HEADER + ":")) {
+                publishedAt = parsePublishedAt(lines[i].substring(ChatTrafficMonitor.PUBLISHED_AT_HEADER.length() + 1));
+            }
+        }
+
+        return new Frame(message, policyOf(command, destination), bytes, command, publishedAt);
+    }
+
+    private static OverflowPolicy policyOf(String command, String destination) {
+        if (!"message".equals(command)) {
+            // CONNECTED, RECEIPT, ERROR, heart-beat 는 버리지 않는다
+            return OverflowPolicy.DISCONNECT;
+        }
+        return destination != null && isChatDestination(destination) ? OverflowPolicy.DISCONNECT : OverflowPolicy.DROP_OLDEST;
+    }
+
+    private static Long parsePublishedAt(String value) {
+        try {
+            return Long.parseLong(value.strip());
+        } catch (NumberFormatException e) {
+            // 잘못된 헤더는 지연 측정에서 제외
+            return null;
+        }
+    }
+
+    private static boolean isChatDestination(String destination) {
+        if (destination.startsWith(CHAT_USER_DESTINATION_PREFIX)) {
+            return true;
+        }
+        if (!destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return false;
+        }
+        String roomId = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        return !roomId.isEmpty() && roomId.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * 대기열이 넘칠 때 처리 방식 - 채팅은 빠진 메시지가 생기면 안 되므로 세션 종료, 알림은 DB 에서 다시 조회할 수 있으므로 오래된 것부터 버린다
+     */
+    enum OverflowPolicy {
+        DROP_OLDEST, DISCONNECT
+    }
+
+    /**
+     * @param command     소문자 STOMP 명령(message, connected, receipt, error, heartbeat)
+     * @param publishedAt MESSAGE 의 발행 시각 헤더, 없으면 null
+     */
+    private record Frame(WebSocketMessage<?> message, OverflowPolicy policy, int bytes, String command, Long publishedAt) {
+    }
+
+    private class GuardedWebSocketHandler extends WebSocketHandlerDecorator {
+
+        private GuardedWebSocketHandler(WebSocketHandler delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+            OutboundQueueSession guarded = new OutboundQueueSession(session);
+            sessions.put(session.getId(), guarded);
+            super.afterConnectionEstablished(guarded);
+        }
+
+        @Override
+        public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+            super.handleMessage(sessions.getOrDefault(session.getId(), session), message);
+        }
+
+        @Override
+        public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+            super.handleTransportError(sessions.getOrDefault(session.getId(), session), exception);
+        }
+
+        @Override
+        public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+            OutboundQueueSession guarded = sessions.remove(session.getId());
+            if (guarded != null) {
+                guarded.discard();
+            }
+            super.afterConnectionClosed(guarded != null ? guarded : session, closeStatus);
+        }
+    }
+
+    private class OutboundQueueSession extends WebSocketSessionDecorator {
+
+        private final Deque<Frame> queue = new ArrayDeque<>();
+        private int queuedBytes;
+        private boolean draining;
+        /** 진행 중인 전송 시작 시각, 전송 중이 아니면 0 */
+        private volatile long sendStartedAt;
+        private volatile boolean closing;
+
+        private OutboundQueueSession(WebSocketSession delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            if (closing) {
+                return;
+            }
+
+            Frame frame = frameOf(message);
+            boolean overflow;
+            boolean startDrain = false;
+
+            synchronized (this) {
+                queue.addLast(frame);
+                queuedBytes += frame.bytes();
+                bufferedBytes.addAndGet(frame.bytes());
+
+                overflow = queuedBytes > stompProperties.getSendBufferSizeLimit() && !dropOldest();
+                if (!overflow && !draining) {
+                    draining = true;
+                    startDrain = true;
+                }
+            }
+
+            if (overflow) {
+                disconnect("buffer");
+            } else if (startDrain) {
+                scheduleDrain();
+            }
+        }
+
+        /**
+         * 버릴 수 있는 오래된 프레임부터 버려 한도 아래로 맞춘다, 맞추지 못하면 false
+         */
+        private boolean dropOldest() {
+            int dropped = 0;
+            Iterator<Frame> iterator = queue.iterator();
+
+            while (queuedBytes > stompProperties.getSendBufferSizeLimit() && iterator.hasNext()) {
+                Frame frame = iterator.next();
+                if (frame.policy() == OverflowPolicy.DROP_OLDEST) {
+                    iterator.remove();
+                    release(frame);
+                    dropped++;
+                }
+            }
+
+            if (dropped > 0) {
+                meterRegistry.counter("chat.stomp.outbound.dropped").increment(dropped);
+            }
+            return queuedBytes <= stompProperties.getSendBufferSizeLimit();
+        }
+
+        private void drain() {
+            for (int sent = 0; ; sent++) {
+                if (sent == DRAIN_BATCH) {
+                    scheduleDrain();
+                    return;
+                }
+
+                Frame frame;
+                synchronized (this) {
+                    frame = closing ? null : queue.pollFirst();
+                    if (frame == null) {
+                        draining = false;
+                        return;
+                    }
+                    release(frame);
+                }
+
+                try {
+                    sendStartedAt = System.currentTimeMillis();
+                    getDelegate().sendMessage(frame.message());
+                    recordSent(frame);
+                } catch (IOException | RuntimeException e) {
+                    log.debug("STOMP 프레임 전송 실패 - sessionId: {}, error: {}", getId(), e.getMessage());
+                } finally {
+                    sendStartedAt = 0;
+                }
+            }
+        }
+
+        private void recordSent(Frame frame) {
+            chatTrafficMonitor.recordFrame("outbound", frame.command());
+            if (frame.publishedAt() != null) {
+                chatTrafficMonitor.recordDelivered(frame.publishedAt());
+            }
+        }
+
+        private void scheduleDrain() {
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                synchronized (this) {
+                    draining = false;
+                }
+                disconnect("rejected");
+            }
+        }
+
+        private void disconnect(String reason) {
+            synchronized (this) {
+                if (closing) {
+                    return;
+                }
+                closing = true;
+            }
+            discard();
+
+            meterRegistry.counter("chat.stomp.outbound.disconnected", "reason", reason).increment();
+            log.warn("느린 STOMP 세션 종료 - sessionId: {}, reason: {}", getId(), reason);
+
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException e) {
+                log.debug("STOMP 세션 종료 실패 - sessionId: {}, error: {}", getId(), e.getMessage());
+            }
+        }
+
+        private synchronized void discard() {
+            queue.forEach(this::release);
+            queue.clear();
+        }
+
+        private void release(Frame frame) {
+            queuedBytes -= frame.bytes();
+            bufferedBytes.addAndGet(-frame.bytes());
+        }
+    }
+}
@@ -9,7 +9,9 @@ import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.AbstractHandshakeHandler;
+import project.airbnb.clone.service.chat.ChatTrafficMonitor;
 
 import java.security.Principal;
 import java.util.Map;
@@ -20,6 +22,10 @@ import java.util.Map;
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final StompProperties stompProperties;
+    private final StompSlowConsumerGuard stompSlowConsumerGuard;
+    private final StompBatchDeliveryInterceptor stompBatchDeliveryInterceptor;
+    private final ChatTrafficMonitor chatTrafficMonitor;
     private final JwtHandshakeInterceptor jwtHandshakeInterceptor;
 
     @Override
@@ -38,9 +44,33 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.setUserDestinationPrefix("/user");
     }
 
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        // 세션 전송은 StompSlowConsumerGuard 의 대기열을 거치므로 아래 한도는 그 앞단의 안전장치 역할만 한다
+        registry.setSendTimeLimit((int) stompProperties.getSendTimeLimit().toMillis())
+                .setSendBufferSizeLimit(stompProperties.getSendBufferSizeLimit())
+                .setMessageSizeLimit(stompProperties.getMessageSizeLimit())
+                .addDecoratorFactory(stompSlowConsumerGuard);
+    }
+
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(stompHandler);
+        configureExecutor(registration, stompProperties.getInbound());
+        registration.interceptors(StompMetricsInterceptor.inbound(chatTrafficMonitor), stompHandler, stompBatchDeliveryInterceptor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        configureExecutor(registration, stompProperties.getOutbound());
+        // 보낸 프레임 수와 전달 지연은 소켓 쓰기 이후 StompSlowConsumerGuard 가 기록한다
+        registration.interceptors(stompBatchDeliveryInterceptor);
+    }
+
+    private static void configureExecutor(ChannelRegistration registration, StompProperties.Pool pool) {
+        registration.taskExecutor()
+                    .corePoolSize(pool.getCorePoolSize())
+                    .maxPoolSize(pool.getMaxPoolSize())
+                    .queueCapacity(pool.getQueueCapacity());
     }
 
     private static class StompHandshakeHandler extends AbstractHandshakeHandler {
@@ -24,6 +24,7 @@ import org.springframework.data.redis.repository.configuration.EnableRedisReposi
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import project.airbnb.clone.service.chat.ChatMembershipCache;
 import project.airbnb.clone.service.chat.RedisSubscriber;
 import project.airbnb.clone.service.notification.RedisNotificationSubscriber;
 
@@ -88,17 +89,20 @@ public class RedisConfig {
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
-                                                                       MessageListenerAdapter chatListenerAdapter,
                                                                        MessageListenerAdapter notificationListenerAdapter,
-                                                                       ChannelTopic chatTopic,
-                                                                       ChannelTopic notificationTopic) {
+                                                                       MessageListenerAdapter chatMembershipListenerAdapter,
+                                                                       ChannelTopic notificationTopic,
+                                                                       ChannelTopic chatMembershipTopic) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
-        container.addMessageListener(chatListenerAdapter, chatTopic);
         container.addMessageListener(notificationListenerAdapter, notificationTopic);
+        container.addMessageListener(chatMembershipListenerAdapter, chatMembershipTopic);
         return container;
     }
 
+    /**
+     * 채팅방 채널(chat:channel:{roomId}) 리스너 - 구독은 ChatChannelSubscriptionManager 가 로컬 STOMP 구독에 맞춰 추가/해지한다
+     */
     @Bean
     public MessageListenerAdapter chatListenerAdapter(RedisSubscriber subscriber) {
         return new MessageListenerAdapter(subscriber, "sendMessage");
@@ -110,12 +114,17 @@ public class RedisConfig {
     }
 
     @Bean
-    public ChannelTopic chatTopic() {
-        return new ChannelTopic("chatTopic");
+    public MessageListenerAdapter chatMembershipListenerAdapter(ChatMembershipCache chatMembershipCache) {
+        return new MessageListenerAdapter(chatMembershipCache, "handleInvalidation");
     }
 
     @Bean
     public ChannelTopic notificationTopic() {
         return new ChannelTopic("notificationTopic");
     }
+
+    @Bean
+    public ChannelTopic chatMembershipTopic() {
+        return new ChannelTopic("chatMembershipTopic");
+    }
 }
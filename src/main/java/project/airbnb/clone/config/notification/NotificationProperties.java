@@ -0,0 +1,34 @@
+package project.airbnb.clone.config.notification;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * 알림 보관 설정
+ * <p>
+ * 조회 조건과 파티션 삭제가 같은 보관 기간을 쓰도록 한 곳에서 관리한다.
+ */
+@Data
+@Component
+@ConfigurationProperties("notification")
+public class NotificationProperties {
+
+    /** 보관 기간(월) - 지난 알림은 조회하지 않고 월 파티션째 삭제한다, 0 이면 보관 기간 없이 모두 유지 */
+    private int retentionMonths = 3;
+
+    /**
+     * 조회 대상 알림의 created_at 하한 - 조회 조건에 포함해 보관 기간 안의 파티션만 읽도록 한다
+     *
+     * @return 보관 기간이 없으면 null
+     */
+    public LocalDateTime retentionStart() {
+        if (retentionMonths <= 0) {
+            return null;
+        }
+        return YearMonth.now().minusMonths(retentionMonths).atDay(1).atStartOfDay();
+    }
+}
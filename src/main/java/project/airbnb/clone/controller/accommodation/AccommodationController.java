@@ -33,6 +33,13 @@ public class AccommodationController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingAccResDto>> getTrendingAccommodations(@RequestParam("areaCode") String areaCode,
+                                                                             @RequestParam(value = "size", defaultValue = "10") int size) {
+        List<TrendingAccResDto> result = accommodationService.getTrendingAccommodations(areaCode, size);
+        return ResponseEntity.ok(result);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<DetailAccommodationResDto> getAccommodation(@PathVariable("id") Long accId,
                                                                       @CurrentMemberId(required = false) Long memberId) {
@@ -5,9 +5,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import project.airbnb.clone.common.annotations.CurrentMemberId;
+import project.airbnb.clone.dto.chat.ChatMessageSearchResDto;
 import project.airbnb.clone.dto.chat.ChatMessagesResDto;
 import project.airbnb.clone.dto.chat.ChatRoomResDto;
+import project.airbnb.clone.dto.chat.ChatUnreadCountResDto;
 import project.airbnb.clone.dto.chat.LeaveChatRoomReqDto;
+import project.airbnb.clone.dto.chat.ReadChatRoomReqDto;
 import project.airbnb.clone.dto.chat.UpdateChatRoomNameReqDto;
 import project.airbnb.clone.service.chat.ChatRoomService;
 import project.airbnb.clone.service.chat.ChatMessageService;
@@ -28,6 +31,12 @@ public class ChatRoomController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/unread-count")
+    public ResponseEntity<ChatUnreadCountResDto> getTotalUnreadCount(@CurrentMemberId Long memberId) {
+        ChatUnreadCountResDto response = chatRoomService.getTotalUnreadCount(memberId);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/{roomId}/messages")
     public ResponseEntity<ChatMessagesResDto> getMessageHistories(@RequestParam(value = "lastMessageId", required = false) Long lastMessageId,
                                                                   @RequestParam("size") int pageSize,
@@ -36,6 +45,16 @@ public class ChatRoomController {
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/{roomId}/messages/search")
+    public ResponseEntity<ChatMessageSearchResDto> searchMessages(@RequestParam("q") String query,
+                                                                  @RequestParam(value = "lastMessageId", required = false) Long lastMessageId,
+                                                                  @RequestParam("size") int pageSize,
+                                                                  @PathVariable("roomId") Long roomId,
+                                                                  @CurrentMemberId Long memberId) {
+        ChatMessageSearchResDto response = chatMessageService.searchMessages(roomId, memberId, query, lastMessageId, pageSize);
+        return ResponseEntity.ok(response);
+    }
+
     @PatchMapping("/{roomId}/name")
     public ResponseEntity<?> updateChatRoomName(@Valid @RequestBody UpdateChatRoomNameReqDto reqDto,
                                                 @PathVariable("roomId") Long roomId,
@@ -54,8 +73,9 @@ public class ChatRoomController {
 
     @PutMapping("/{roomId}/read")
     public ResponseEntity<?> markChatRoomAsRead(@PathVariable("roomId") Long roomId,
+                                                @Valid @RequestBody(required = false) ReadChatRoomReqDto reqDto,
                                                 @CurrentMemberId Long memberId) {
-        chatRoomService.markChatRoomAsRead(roomId, memberId);
+        chatRoomService.markChatRoomAsRead(roomId, memberId, reqDto != null ? reqDto.lastMessageId() : null);
         return ResponseEntity.ok().build();
     }
 }
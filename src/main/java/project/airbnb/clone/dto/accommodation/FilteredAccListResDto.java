@@ -1,9 +1,11 @@
 package project.airbnb.clone.dto.accommodation;
 
-import project.airbnb.clone.repository.dto.FilteredAccListQueryDto;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
 
 import java.util.List;
 
+import static project.airbnb.clone.dto.accommodation.DetailAccommodationResDto.WishlistInfo;
+
 public record FilteredAccListResDto(
         Long accommodationId,
         String title,
@@ -15,17 +17,17 @@ public record FilteredAccListResDto(
         Long wishlistId,
         String wishlistName) {
 
-    public static FilteredAccListResDto from(FilteredAccListQueryDto queryDto, List<String> imageUrls) {
+    public static FilteredAccListResDto from(AccommodationCardDto card, int price, List<String> imageUrls, WishlistInfo wishlistInfo) {
         return new FilteredAccListResDto(
-                queryDto.accommodationId(),
-                queryDto.title(),
-                queryDto.price(),
-                queryDto.avgRate(),
-                queryDto.reviewCount(),
+                card.accommodationId(),
+                card.title(),
+                price,
+                card.avgRate() == null ? 0.0 : card.avgRate(),
+                card.reviewCount() == null ? 0 : card.reviewCount(),
                 imageUrls,
-                queryDto.isInWishlist(),
-                queryDto.wishlistId(),
-                queryDto.wishlistName()
+                wishlistInfo.isInWishlist(),
+                wishlistInfo.wishlistId(),
+                wishlistInfo.wishlistName()
         );
     }
 }
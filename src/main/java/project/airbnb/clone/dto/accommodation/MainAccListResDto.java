@@ -1,6 +1,8 @@
 package project.airbnb.clone.dto.accommodation;
 
-import project.airbnb.clone.repository.dto.MainAccListQueryDto;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+
+import static project.airbnb.clone.dto.accommodation.DetailAccommodationResDto.WishlistInfo;
 
 /**
  * 메인 화면 지역별 각 숙소 최소 정보
@@ -15,16 +17,16 @@ public record MainAccListResDto(
         String wishlistName,
         Long wishlistId) {
 
-    public static MainAccListResDto from(MainAccListQueryDto queryDto) {
+    public static MainAccListResDto from(AccommodationCardDto card, int price, WishlistInfo wishlistInfo) {
         return new MainAccListResDto(
-                queryDto.accommodationId(),
-                queryDto.title(),
-                queryDto.price(),
-                queryDto.avgRate(),
-                queryDto.thumbnailUrl(),
-                queryDto.isInWishlist(),
-                queryDto.wishlistName(),
-                queryDto.wishlistId()
+                card.accommodationId(),
+                card.title(),
+                price,
+                card.avgRate() == null ? 0.0 : card.avgRate(),
+                card.thumbnailUrl(),
+                wishlistInfo.isInWishlist(),
+                wishlistInfo.wishlistName(),
+                wishlistInfo.wishlistId()
         );
     }
 }
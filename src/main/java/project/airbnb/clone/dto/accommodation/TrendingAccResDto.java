@@ -0,0 +1,19 @@
+package project.airbnb.clone.dto.accommodation;
+
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+
+public record TrendingAccResDto(
+        Long accommodationId,
+        String title,
+        double avgRate,
+        String thumbnailUrl) {
+
+    public static TrendingAccResDto from(AccommodationCardDto card) {
+        return new TrendingAccResDto(
+                card.accommodationId(),
+                card.title(),
+                card.avgRate() == null ? 0.0 : card.avgRate(),
+                card.thumbnailUrl()
+        );
+    }
+}
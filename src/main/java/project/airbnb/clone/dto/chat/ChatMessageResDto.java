@@ -1,5 +1,6 @@
 package project.airbnb.clone.dto.chat;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,6 +21,12 @@ public class ChatMessageResDto {
     private LocalDateTime timestamp;
     private boolean left;
 
+    /**
+     * 전송 서버에서 발행한 시각(epoch ms) - 발행부터 구독 서버/클라이언트 전달까지의 지연 측정용, 저장된 메시지에는 없다
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long publishedAt;
+
     public ChatMessageResDto(Long messageId, Long roomId, Long senderId, String senderName, String content, LocalDateTime timestamp) {
         this.messageId = String.valueOf(messageId);
         this.roomId = roomId;
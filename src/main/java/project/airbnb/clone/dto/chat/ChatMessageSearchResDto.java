@@ -0,0 +1,12 @@
+package project.airbnb.clone.dto.chat;
+
+import java.util.List;
+
+/**
+ * @param nextCursor 다음 검색 요청의 lastMessageId, 검색 결과가 적어 한 번에 다 훑지 못한 경우에도 이어서 검색할 위치를 알려준다
+ */
+public record ChatMessageSearchResDto(
+        List<ChatMessageResDto> messages,
+        boolean hasMore,
+        Long nextCursor) {
+}
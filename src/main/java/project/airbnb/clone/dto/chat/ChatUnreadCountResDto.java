@@ -0,0 +1,3 @@
+package project.airbnb.clone.dto.chat;
+
+public record ChatUnreadCountResDto(long count) {}
@@ -0,0 +1,6 @@
+package project.airbnb.clone.dto.chat;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ReadChatRoomReqDto(@NotNull Long lastMessageId) {
+}
@@ -1,7 +1,9 @@
 package project.airbnb.clone.dto.member;
 
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+import project.airbnb.clone.repository.dto.TripHistoryQueryDto;
+
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 public record TripHistoryResDto(
         Long reservationId,
@@ -12,7 +14,15 @@ public record TripHistoryResDto(
         LocalDate endDate,
         boolean hasReviewed) {
 
-    public TripHistoryResDto(Long reservationId, Long accommodationId, String thumbnailUrl, String title, LocalDateTime startDate, LocalDateTime endDate, boolean hasReviewed) {
-        this(reservationId, accommodationId, thumbnailUrl, title, startDate.toLocalDate(), endDate.toLocalDate(), hasReviewed);
+    public static TripHistoryResDto from(TripHistoryQueryDto queryDto, AccommodationCardDto card) {
+        return new TripHistoryResDto(
+                queryDto.reservationId(),
+                queryDto.accommodationId(),
+                card != null ? card.thumbnailUrl() : null,
+                card != null ? card.title() : null,
+                queryDto.startDate().toLocalDate(),
+                queryDto.endDate().toLocalDate(),
+                queryDto.hasReviewed()
+        );
     }
 }
@@ -1,7 +1,9 @@
 package project.airbnb.clone.dto.review;
 
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+import project.airbnb.clone.repository.dto.MyReviewQueryDto;
+
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 public record MyReviewResDto(
         Long reviewId,
@@ -12,7 +14,15 @@ public record MyReviewResDto(
         double rate,
         LocalDate createdDate) {
 
-    public MyReviewResDto(Long reviewId, Long accommodationId, String thumbnailUrl, String title, String content, double rate, LocalDateTime createdDate) {
-        this(reviewId, accommodationId, thumbnailUrl, title, content, rate, createdDate.toLocalDate());
+    public static MyReviewResDto from(MyReviewQueryDto queryDto, AccommodationCardDto card) {
+        return new MyReviewResDto(
+                queryDto.reviewId(),
+                queryDto.accommodationId(),
+                card != null ? card.thumbnailUrl() : null,
+                card != null ? card.title() : null,
+                queryDto.content(),
+                queryDto.rate(),
+                queryDto.createdAt().toLocalDate()
+        );
     }
 }
@@ -1,5 +1,7 @@
 package project.airbnb.clone.dto.wishlist;
 
+import project.airbnb.clone.repository.dto.AccMapInfoQueryDto;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
 import project.airbnb.clone.repository.dto.WishlistDetailQueryDto;
 
 import java.util.List;
@@ -15,15 +17,15 @@ public record WishlistDetailResDto(
         List<String> imageUrls,
         String memo) {
 
-    public static WishlistDetailResDto from(WishlistDetailQueryDto queryDto, List<String> imageUrls) {
+    public static WishlistDetailResDto from(WishlistDetailQueryDto queryDto, AccommodationCardDto card, AccMapInfoQueryDto mapInfo, List<String> imageUrls) {
         return new WishlistDetailResDto(
                 queryDto.accommodationId(),
                 queryDto.wishlistName(),
-                queryDto.title(),
-                queryDto.description(),
-                queryDto.mapX(),
-                queryDto.mapY(),
-                queryDto.avgRate(),
+                card.title(),
+                mapInfo.description(),
+                mapInfo.mapX(),
+                mapInfo.mapY(),
+                card.avgRate() == null ? 0.0 : card.avgRate(),
                 imageUrls,
                 queryDto.memo()
         );
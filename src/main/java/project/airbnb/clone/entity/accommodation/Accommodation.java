@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import project.airbnb.clone.dto.accommodation.AccommodationProcessorDto;
 import project.airbnb.clone.entity.BaseEntity;
 import project.airbnb.clone.entity.area.SigunguCode;
@@ -64,12 +65,26 @@ public class Accommodation extends BaseEntity {
     @Column(name = "is_embedded")
     private Boolean isEmbedded;
 
-    @Column(name = "reservation_count")
+    /*
+     * 통계 필드는 AccommodationStatsJdbcRepository 의 SQL 증감으로만 갱신한다.
+     * 엔티티 저장/변경 감지가 메모리의 이전 값으로 덮어쓰지 않도록 INSERT/UPDATE 대상에서 제외한다.
+     */
+    @ColumnDefault("0")
+    @Column(name = "reservation_count", insertable = false, updatable = false)
     private int reservationCount;
 
-    @Column(name = "average_rating")
+    @ColumnDefault("0")
+    @Column(name = "average_rating", insertable = false, updatable = false)
     private double averageRating;
 
+    @ColumnDefault("0")
+    @Column(name = "review_count", insertable = false, updatable = false)
+    private int reviewCount;
+
+    @ColumnDefault("0")
+    @Column(name = "rating_sum", insertable = false, updatable = false)
+    private double ratingSum;
+
     public static Accommodation createEmpty() {
         return new Accommodation();
     }
@@ -0,0 +1,57 @@
+package project.airbnb.clone.entity.accommodation;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 숙소 카드 읽기 모델(비정규화 테이블)
+ * <p>
+ * 원본 테이블에서 재구성되어 JDBC upsert 로만 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "accommodation_cards")
+public class AccommodationCard {
+
+    @Id
+    @Column(name = "accommodation_id", nullable = false)
+    private Long accommodationId;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "thumbnail_url")
+    private String thumbnailUrl;
+
+    @Column(name = "average_rating", nullable = false)
+    private double averageRating;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    @Column(name = "area_code")
+    private String areaCode;
+
+    @Column(name = "area_name")
+    private String areaName;
+
+    @Column(name = "off_weekday_price")
+    private Integer offWeekdayPrice;
+
+    @Column(name = "off_weekend_price")
+    private Integer offWeekendPrice;
+
+    @Column(name = "peak_weekday_price")
+    private Integer peakWeekdayPrice;
+
+    @Column(name = "peak_weekend_price")
+    private Integer peakWeekendPrice;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+}
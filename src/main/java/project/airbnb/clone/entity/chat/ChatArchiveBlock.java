@@ -0,0 +1,46 @@
+package project.airbnb.clone.entity.chat;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관된 채팅 메시지 세그먼트의 희소 인덱스 - 압축 블록 하나당 한 행
+ * <p>
+ * 블록은 세그먼트 파일 안에서 (offset, length) 로 독립적으로 읽고 풀 수 있으며, 커서 조회는 필요한 블록만 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_archive_blocks", indexes = {
+        @Index(name = "idx_chat_archive_blocks_room_last_message", columnList = "chat_room_id, last_message_id")
+})
+public class ChatArchiveBlock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_archive_block_id", nullable = false)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "first_message_id", nullable = false)
+    private Long firstMessageId;
+
+    @Column(name = "last_message_id", nullable = false)
+    private Long lastMessageId;
+
+    @Column(name = "message_count", nullable = false)
+    private Integer messageCount;
+
+    @Column(name = "storage_key", nullable = false)
+    private String storageKey;
+
+    @Column(name = "block_offset", nullable = false)
+    private Long blockOffset;
+
+    @Column(name = "block_length", nullable = false)
+    private Integer blockLength;
+}
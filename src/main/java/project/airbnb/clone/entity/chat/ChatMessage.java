@@ -13,27 +13,32 @@ import project.airbnb.clone.entity.member.Member;
 @Table(name = "chat_messages")
 public class ChatMessage extends BaseEntity {
 
+    /**
+     * 전송 시점에 SnowflakeIdGenerator 로 발급한 id - 캐시와 DB 에서 같은 id 로 커서 조회한다
+     * <p>
+     * 테이블은 이 id 의 월 경계로 RANGE 파티셔닝되며, 파티션 테이블은 FK 를 가질 수 없어 연관관계 FK 를 만들지 않는다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "chat_message_id")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "chat_room_id", nullable = false)
+    @JoinColumn(name = "chat_room_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatRoom chatRoom;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "member_id", nullable = false)
+    @JoinColumn(name = "member_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Member writer;
 
     @Column(name = "content", nullable = false)
     private String content;
 
-    public static ChatMessage create(ChatRoom chatRoom, Member writer, String content) {
-        return new ChatMessage(chatRoom, writer, content);
+    public static ChatMessage create(Long id, ChatRoom chatRoom, Member writer, String content) {
+        return new ChatMessage(id, chatRoom, writer, content);
     }
 
-    private ChatMessage(ChatRoom chatRoom, Member writer, String content) {
+    private ChatMessage(Long id, ChatRoom chatRoom, Member writer, String content) {
+        this.id = id;
         this.chatRoom = chatRoom;
         this.writer = writer;
         this.content = content;
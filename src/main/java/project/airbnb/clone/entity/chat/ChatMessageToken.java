@@ -0,0 +1,34 @@
+package project.airbnb.clone.entity.chat;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채팅 메시지 검색용 역색인(bigram/unigram 토큰 -> 메시지)
+ * <p>
+ * 메시지 저장 시 ChatMessageJdbcRepository 가 함께 적재하며, (채팅방, 토큰, 메시지) 유니크 인덱스로 토큰별 메시지를 최신순으로 읽는다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message_tokens", uniqueConstraints =
+    @UniqueConstraint(name = "uk_chat_message_tokens_room_token_message", columnNames = {"chat_room_id", "token", "chat_message_id"})
+)
+public class ChatMessageToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chat_message_token_id", nullable = false)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "token", nullable = false, length = 2)
+    private String token;
+
+    @Column(name = "chat_message_id", nullable = false)
+    private Long chatMessageId;
+}
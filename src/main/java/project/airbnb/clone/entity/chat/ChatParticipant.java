@@ -32,7 +32,7 @@ public class ChatParticipant extends BaseEntity {
     private Member member;
 
     @OneToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "last_read_message")
+    @JoinColumn(name = "last_read_message", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private ChatMessage lastReadMessage;
 
     @Column(name = "is_creator", nullable = false)
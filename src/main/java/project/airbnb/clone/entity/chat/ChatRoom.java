@@ -4,13 +4,34 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import project.airbnb.clone.entity.BaseEntity;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
-@Table(name = "chat_rooms")
+@Table(name = "chat_rooms", indexes = {
+        @Index(name = "idx_chat_rooms_last_message_at", columnList = "last_message_at")
+})
 public class ChatRoom extends BaseEntity {
 
+    public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "chat_room_id", nullable = false)
     private Long id;
+
+    /**
+     * 마지막 메시지 스냅샷 - 채팅 메시지 저장 시 ChatMessageJdbcRepository 가 함께 갱신한다
+     */
+    @Column(name = "last_message_id")
+    private Long lastMessageId;
+
+    @Column(name = "last_message_preview", length = LAST_MESSAGE_PREVIEW_LENGTH)
+    private String lastMessagePreview;
+
+    @Column(name = "last_message_sender_id")
+    private Long lastMessageSenderId;
+
+    @Column(name = "last_message_at")
+    private LocalDateTime lastMessageAt;
 }
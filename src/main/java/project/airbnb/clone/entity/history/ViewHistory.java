@@ -34,10 +34,6 @@ public class ViewHistory extends BaseEntity {
     @Column(name = "viewed_at", nullable = false)
     private LocalDateTime viewedAt;
 
-    public static ViewHistory ofNow(Accommodation accommodation, Member member) {
-        return new ViewHistory(accommodation, member, LocalDateTime.now());
-    }
-
     public static ViewHistory create(Member member, Accommodation accommodation, LocalDateTime viewedAt) {
         return new ViewHistory(accommodation, member, viewedAt);
     }
@@ -0,0 +1,91 @@
+package project.airbnb.clone.repository.archive;
+
+import project.airbnb.clone.repository.dto.ChatArchiveBlockDto;
+import project.airbnb.clone.repository.dto.ChatArchivedMessageDto;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 채팅 보관 세그먼트 인코딩
+ * <p>
+ * 세그먼트는 BLOCK_SIZE 개씩 따로 gzip 압축한 블록을 이어 붙인 파일이며, 블록 안의 메시지는 최신순으로 저장한다.
+ * 블록 단위로 풀 수 있으므로 커서 조회 시 세그먼트 전체가 아니라 필요한 블록만 읽는다.
+ */
+public abstract class ChatArchiveSegmentCodec {
+
+    static final int BLOCK_SIZE = 256;
+
+    public record Segment(byte[] content, List<ChatArchiveBlockDto> blocks) {
+    }
+
+    /**
+     * @param messages id 오름차순 메시지
+     */
+    public static Segment encode(String storageKey, List<ChatArchivedMessageDto> messages) {
+        ByteArrayOutputStream segment = new ByteArrayOutputStream();
+        List<ChatArchiveBlockDto> blocks = new ArrayList<>();
+
+        for (int from = 0; from < messages.size(); from += BLOCK_SIZE) {
+            List<ChatArchivedMessageDto> chunk = messages.subList(from, Math.min(from + BLOCK_SIZE, messages.size()));
+            byte[] block = encodeBlock(chunk);
+
+            blocks.add(new ChatArchiveBlockDto(storageKey, segment.size(), block.length,
+                    chunk.get(0).id(), chunk.get(chunk.size() - 1).id(), chunk.size()));
+            segment.writeBytes(block);
+        }
+        return new Segment(segment.toByteArray(), blocks);
+    }
+
+    /**
+     * @return id 내림차순 메시지
+     */
+    public static List<ChatArchivedMessageDto> decodeBlock(byte[] block) {
+        try (DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(block)))) {
+            int count = in.readInt();
+            List<ChatArchivedMessageDto> messages = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                long writerId = in.readLong();
+                LocalDateTime createdAt = LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                String content = in.readUTF();
+
+                messages.add(new ChatArchivedMessageDto(id, writerId, content, createdAt));
+            }
+            return messages;
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 보관 블록 해제 실패", e);
+        }
+    }
+
+    private static byte[] encodeBlock(List<ChatArchivedMessageDto> ascending) {
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(block))) {
+            out.writeInt(ascending.size());
+            for (int i = ascending.size() - 1; i >= 0; i--) {
+                ChatArchivedMessageDto message = ascending.get(i);
+
+                out.writeLong(message.id());
+                out.writeLong(message.writerId());
+                out.writeLong(message.createdAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(message.createdAt().getNano());
+                out.writeUTF(message.content());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 보관 블록 압축 실패", e);
+        }
+        return block.toByteArray();
+    }
+}
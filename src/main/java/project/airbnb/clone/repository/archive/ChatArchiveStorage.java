@@ -0,0 +1,11 @@
+package project.airbnb.clone.repository.archive;
+
+/**
+ * 채팅 보관 세그먼트 저장소 - 세그먼트는 한 번 쓰면 바뀌지 않는다
+ */
+public interface ChatArchiveStorage {
+
+    void write(String key, byte[] content);
+
+    byte[] read(String key, long offset, int length);
+}
@@ -0,0 +1,95 @@
+package project.airbnb.clone.repository.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+import project.airbnb.clone.dto.chat.ChatMessageResDto;
+import project.airbnb.clone.repository.dto.ChatArchiveBlockDto;
+import project.airbnb.clone.repository.dto.ChatArchiveWriterDto;
+import project.airbnb.clone.repository.dto.ChatArchivedMessageDto;
+import project.airbnb.clone.repository.jdbc.ChatArchiveJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방별 보관 세그먼트(append-only) 쓰기/읽기
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageArchiveRepository {
+
+    private static final String KEY_FORMAT = "chat-archive/%d/%d-%d.seg";
+    private static final int MAX_BLOCKS_PER_READ = 64;
+
+    private final ChatArchiveStorage chatArchiveStorage;
+    private final ChatArchiveJdbcRepository chatArchiveJdbcRepository;
+
+    /**
+     * 메시지를 새 세그먼트로 저장한 뒤 블록 인덱스 저장과 원본 삭제를 커밋한다
+     * <p>
+     * DB 반영이 실패해도 원본이 남아 있으므로 다음 회차에 같은 키로 다시 쓰여 중복 보관되지 않는다.
+     *
+     * @param messages id 오름차순 메시지
+     */
+    public void append(Long chatRoomId, List<ChatArchivedMessageDto> messages) {
+        String key = KEY_FORMAT.formatted(chatRoomId, messages.get(0).id(), messages.get(messages.size() - 1).id());
+        ChatArchiveSegmentCodec.Segment segment = ChatArchiveSegmentCodec.encode(key, messages);
+
+        chatArchiveStorage.write(key, segment.content());
+        chatArchiveJdbcRepository.saveBlocksAndDeleteMessages(
+                chatRoomId, segment.blocks(), messages.stream().map(ChatArchivedMessageDto::id).toList());
+    }
+
+    public Long findArchivedMaxId(Long chatRoomId) {
+        return chatArchiveJdbcRepository.findArchivedMaxId(chatRoomId);
+    }
+
+    /**
+     * 커서보다 오래된 보관 메시지 최대 limit 개(id 내림차순)
+     * <p>
+     * 블록을 최근 것부터 하나씩 읽어 풀고, 남은 블록이 지금까지 모은 메시지보다 오래되면 더 읽지 않는다.
+     * 참여자의 재입장 이전 메시지는 DB 조회와 같은 기준으로 제외한다.
+     */
+    public List<ChatMessageResDto> getMessages(Long lastMessageId, Long chatRoomId, int limit) {
+        List<ChatArchiveBlockDto> blocks = chatArchiveJdbcRepository.findBlocks(chatRoomId, lastMessageId, MAX_BLOCKS_PER_READ);
+        if (blocks.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ChatArchiveWriterDto> writers = chatArchiveJdbcRepository.findWriters(chatRoomId)
+                                                                           .stream()
+                                                                           .collect(Collectors.toMap(ChatArchiveWriterDto::memberId, Function.identity()));
+        NavigableMap<Long, ChatMessageResDto> merged = new TreeMap<>(Comparator.reverseOrder());
+
+        for (ChatArchiveBlockDto block : blocks) {
+            if (merged.size() >= limit && block.lastMessageId() < merged.lastKey()) {
+                break;
+            }
+
+            byte[] content = chatArchiveStorage.read(block.storageKey(), block.offset(), block.length());
+            for (ChatArchivedMessageDto message : ChatArchiveSegmentCodec.decodeBlock(content)) {
+                ChatArchiveWriterDto writer = writers.get(message.writerId());
+
+                if ((lastMessageId == null || message.id() < lastMessageId) && isVisible(message, writer)) {
+                    merged.put(message.id(), new ChatMessageResDto(message.id(), chatRoomId, writer.memberId(),
+                            writer.name(), message.content(), message.createdAt()));
+                }
+            }
+            while (merged.size() > limit) {
+                merged.pollLastEntry();
+            }
+        }
+        return new ArrayList<>(merged.values());
+    }
+
+    private boolean isVisible(ChatArchivedMessageDto message, ChatArchiveWriterDto writer) {
+        return writer != null
+                && (writer.lastRejoinedAt() == null || message.createdAt().isAfter(writer.lastRejoinedAt()));
+    }
+}
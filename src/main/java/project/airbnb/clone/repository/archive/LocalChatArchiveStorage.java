@@ -0,0 +1,58 @@
+package project.airbnb.clone.repository.archive;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 로컬 디스크 세그먼트 저장소, 여러 인스턴스에서 사용하려면 공유 볼륨이어야 한다
+ */
+@Component
+@ConditionalOnProperty(name = "chat.archive.storage", havingValue = "local", matchIfMissing = true)
+public class LocalChatArchiveStorage implements ChatArchiveStorage {
+
+    private final Path baseDir;
+
+    public LocalChatArchiveStorage(@Value("${chat.archive.local-dir:./data/chat-archive}") String baseDir) {
+        this.baseDir = Path.of(baseDir);
+    }
+
+    @Override
+    public void write(String key, byte[] content) {
+        Path target = baseDir.resolve(key);
+        try {
+            Files.createDirectories(target.getParent());
+
+            // 다 쓴 파일만 보이도록 임시 파일에 쓴 뒤 옮긴다
+            Path temp = Files.createTempFile(target.getParent(), "segment", ".tmp");
+            Files.write(temp, content);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 보관 세그먼트 저장 실패: " + key, e);
+        }
+    }
+
+    @Override
+    public byte[] read(String key, long offset, int length) {
+        try (FileChannel channel = FileChannel.open(baseDir.resolve(key), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("세그먼트가 예상보다 짧습니다");
+                }
+            }
+            return buffer.array();
+        } catch (IOException e) {
+            throw new UncheckedIOException("채팅 보관 세그먼트 읽기 실패: " + key, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package project.airbnb.clone.repository.archive;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.service.s3.S3Uploader;
+
+/**
+ * R2 세그먼트 저장소, 채팅 내용이 공개 URL 로 노출되지 않도록 이미지와 다른 비공개 버킷을 사용한다
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "chat.archive.storage", havingValue = "r2")
+public class R2ChatArchiveStorage implements ChatArchiveStorage {
+
+    private static final String CONTENT_TYPE = "application/octet-stream";
+
+    private final S3Uploader s3Uploader;
+
+    @Value("${chat.archive.r2-bucket}")
+    private String bucket;
+
+    @Override
+    public void write(String key, byte[] content) {
+        s3Uploader.uploadFile(bucket, key, content, CONTENT_TYPE);
+    }
+
+    @Override
+    public byte[] read(String key, long offset, int length) {
+        return s3Uploader.downloadRange(bucket, key, offset, length);
+    }
+}
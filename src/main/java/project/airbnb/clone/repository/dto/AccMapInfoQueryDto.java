@@ -0,0 +1,8 @@
+package project.airbnb.clone.repository.dto;
+
+public record AccMapInfoQueryDto(
+        Long accommodationId,
+        String description,
+        double mapX,
+        double mapY) {
+}
@@ -0,0 +1,29 @@
+package project.airbnb.clone.repository.dto;
+
+import project.airbnb.clone.consts.DayType;
+import project.airbnb.clone.consts.Season;
+
+/**
+ * 목록 화면들이 공통으로 사용하는 숙소 카드
+ */
+public record AccommodationCardDto(
+        Long accommodationId,
+        String title,
+        String thumbnailUrl,
+        Double avgRate,
+        Integer reviewCount,
+        String areaCode,
+        String areaName,
+        Integer offWeekdayPrice,
+        Integer offWeekendPrice,
+        Integer peakWeekdayPrice,
+        Integer peakWeekendPrice) {
+
+    public int priceOf(Season season, DayType dayType) {
+        Integer price = switch (season) {
+            case OFF -> dayType == DayType.WEEKDAY ? offWeekdayPrice : offWeekendPrice;
+            case PEAK -> dayType == DayType.WEEKDAY ? peakWeekdayPrice : peakWeekendPrice;
+        };
+        return price == null ? 0 : price;
+    }
+}
@@ -0,0 +1,24 @@
+package project.airbnb.clone.repository.dto;
+
+public record AccommodationStatsDelta(int reservationCount, int reviewCount, double ratingSum) {
+
+    public static AccommodationStatsDelta ofReservation(int reservationCount) {
+        return new AccommodationStatsDelta(reservationCount, 0, 0.0);
+    }
+
+    public static AccommodationStatsDelta ofReview(int reviewCount, double ratingSum) {
+        return new AccommodationStatsDelta(0, reviewCount, ratingSum);
+    }
+
+    public AccommodationStatsDelta plus(AccommodationStatsDelta other) {
+        return new AccommodationStatsDelta(
+                this.reservationCount + other.reservationCount,
+                this.reviewCount + other.reviewCount,
+                this.ratingSum + other.ratingSum
+        );
+    }
+
+    public boolean isEmpty() {
+        return reservationCount == 0 && reviewCount == 0 && ratingSum == 0.0;
+    }
+}
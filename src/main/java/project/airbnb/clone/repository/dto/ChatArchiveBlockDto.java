@@ -0,0 +1,4 @@
+package project.airbnb.clone.repository.dto;
+
+public record ChatArchiveBlockDto(String storageKey, long offset, int length, Long firstMessageId, Long lastMessageId, int messageCount) {
+}
@@ -0,0 +1,6 @@
+package project.airbnb.clone.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record ChatArchiveWriterDto(Long memberId, String name, LocalDateTime lastRejoinedAt) {
+}
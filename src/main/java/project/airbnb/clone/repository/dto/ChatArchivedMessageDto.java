@@ -0,0 +1,6 @@
+package project.airbnb.clone.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record ChatArchivedMessageDto(Long id, Long writerId, String content, LocalDateTime createdAt) {
+}
@@ -0,0 +1,6 @@
+package project.airbnb.clone.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record ChatMessageInsertDto(Long id, Long chatRoomId, Long writerId, String content, LocalDateTime sentAt) {
+}
@@ -0,0 +1,7 @@
+package project.airbnb.clone.repository.dto;
+
+/**
+ * @param readUpToId 이 id 이하의 메시지까지 읽음
+ */
+public record ChatReadReceiptDto(Long chatRoomId, Long memberId, Long readUpToId) {
+}
@@ -1,26 +0,0 @@
-package project.airbnb.clone.repository.dto;
-
-public record MainAccListQueryDto(
-        Long accommodationId,
-        String title,
-        int price,
-        double avgRate,
-        String thumbnailUrl,
-        boolean isInWishlist,
-        Long wishlistId,
-        String wishlistName,
-        int reservationCount,
-        String areaName,
-        String areaCode) {
-
-    public AreaKey getAreaKey() {
-        return new AreaKey(areaName, areaCode);
-    }
-
-    public record AreaKey(String areaName, String areaCode) {
-    }
-
-    public MainAccListQueryDto(Long accommodationId, String title, int price, double avgRate, String thumbnailUrl, int reservationCount, String areaName, String areaCode) {
-        this(accommodationId, title, price, avgRate, thumbnailUrl, false, null, null, reservationCount, areaName, areaCode);
-    }
-}
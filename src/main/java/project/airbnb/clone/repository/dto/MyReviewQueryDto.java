@@ -0,0 +1,11 @@
+package project.airbnb.clone.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record MyReviewQueryDto(
+        Long reviewId,
+        Long accommodationId,
+        String content,
+        double rate,
+        LocalDateTime createdAt) {
+}
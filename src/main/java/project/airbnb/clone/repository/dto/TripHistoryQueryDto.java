@@ -0,0 +1,11 @@
+package project.airbnb.clone.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record TripHistoryQueryDto(
+        Long reservationId,
+        Long accommodationId,
+        LocalDateTime startDate,
+        LocalDateTime endDate,
+        boolean hasReviewed) {
+}
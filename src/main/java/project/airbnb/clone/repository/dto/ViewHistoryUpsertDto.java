@@ -0,0 +1,6 @@
+package project.airbnb.clone.repository.dto;
+
+import java.time.LocalDateTime;
+
+public record ViewHistoryUpsertDto(Long memberId, Long accommodationId, LocalDateTime viewedAt) {
+}
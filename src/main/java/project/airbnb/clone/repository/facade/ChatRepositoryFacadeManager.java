@@ -8,14 +8,19 @@ import project.airbnb.clone.dto.chat.ChatRoomResDto;
 import project.airbnb.clone.entity.chat.ChatMessage;
 import project.airbnb.clone.entity.chat.ChatParticipant;
 import project.airbnb.clone.entity.chat.ChatRoom;
+import project.airbnb.clone.repository.archive.ChatMessageArchiveRepository;
 import project.airbnb.clone.repository.jpa.ChatMessageRepository;
 import project.airbnb.clone.repository.jpa.ChatParticipantRepository;
 import project.airbnb.clone.repository.jpa.ChatRoomRepository;
 import project.airbnb.clone.repository.query.ChatMessageQueryRepository;
 import project.airbnb.clone.repository.query.ChatRoomQueryRepository;
 
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.NavigableMap;
 import java.util.Optional;
+import java.util.TreeMap;
 
 @Component
 @RequiredArgsConstructor
@@ -26,6 +31,7 @@ public class ChatRepositoryFacadeManager {
     private final ChatRoomQueryRepository chatRoomQueryRepository;
     private final ChatParticipantRepository chatParticipantRepository;
     private final ChatMessageQueryRepository chatMessageQueryRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
 
     public Optional<ChatRoom> findChatRoomByMembersId(Long currentMemberId, Long otherMemberId) {
         return chatRoomRepository.findByMembersId(currentMemberId, otherMemberId);
@@ -40,12 +46,36 @@ public class ChatRepositoryFacadeManager {
         return chatParticipantRepository.findByChatRoom(chatRoom);
     }
 
-    public ChatMessage saveChatMessage(ChatMessage chatMessage) {
-        return chatMessageRepository.save(chatMessage);
+    /**
+     * 메시지 기록 조회(최대 pageSize + 1 개) - 커서가 보관 경계를 넘으면 보관 세그먼트까지 이어서 조회한다
+     * <p>
+     * 마지막 읽은 메시지로 참조 중인 메시지는 보관되지 않고 남아 있을 수 있으므로, 경계를 넘으면 DB 와 보관 메시지를 id 순으로 합친다.
+     */
+    public List<ChatMessageResDto> getMessages(Long lastMessageId, Long roomId, int pageSize) {
+        List<ChatMessageResDto> hot = chatMessageQueryRepository.getMessages(lastMessageId, roomId, pageSize);
+
+        Long archivedMaxId = chatMessageArchiveRepository.findArchivedMaxId(roomId);
+        if (archivedMaxId == null || (hot.size() > pageSize && idOf(hot.get(hot.size() - 1)) > archivedMaxId)) {
+            return hot;
+        }
+
+        NavigableMap<Long, ChatMessageResDto> merged = new TreeMap<>(Comparator.reverseOrder());
+        hot.forEach(message -> merged.put(idOf(message), message));
+        chatMessageArchiveRepository.getMessages(lastMessageId, roomId, pageSize + 1)
+                                    .forEach(message -> merged.putIfAbsent(idOf(message), message));
+
+        return merged.values()
+                     .stream()
+                     .limit(pageSize + 1L)
+                     .toList();
     }
 
-    public List<ChatMessageResDto> getMessages(Long lastMessageId, Long roomId, int pageSize) {
-        return chatMessageQueryRepository.getMessages(lastMessageId, roomId, pageSize);
+    private static Long idOf(ChatMessageResDto message) {
+        return Long.valueOf(message.getMessageId());
+    }
+
+    public List<ChatMessageResDto> getMessagesByIds(Long roomId, Collection<Long> messageIds) {
+        return chatMessageQueryRepository.getMessagesByIds(roomId, messageIds);
     }
 
     public ChatMessage getChatMessageById(Long id) {
@@ -83,10 +113,6 @@ public class ChatRepositoryFacadeManager {
                                       .orElseThrow(() -> ChatExceptions.notFoundChatRoom(currentMemberId, otherMemberId));
     }
 
-    public void saveAllChatMessages(List<ChatMessage> messages) {
-        chatMessageRepository.saveAll(messages);
-    }
-
     public List<Long> getParticipantIdsByRoomId(Long roomId) {
         return chatParticipantRepository.getParticipantIdsByRoomId(roomId);
     }
@@ -3,9 +3,11 @@ package project.airbnb.clone.repository.facade;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.common.events.accommodation.AccommodationsSavedEvent;
 import project.airbnb.clone.entity.accommodation.*;
 import project.airbnb.clone.entity.area.SigunguCode;
 import project.airbnb.clone.repository.jpa.*;
@@ -25,6 +27,7 @@ import java.util.stream.Collectors;
 public class TourRepositoryFacadeManager {
 
     private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     private final AmenityRepository amenityRepository;
     private final SigunguCodeRepository sigunguCodeRepository;
     private final AccommodationImageRepository imageRepository;
@@ -69,6 +72,8 @@ public class TourRepositoryFacadeManager {
         batchInsertAmenities(allAmenities);
         batchInsertImages(allImages);
 
+        eventPublisher.publishEvent(new AccommodationsSavedEvent(accommodations.stream().map(Accommodation::getId).toList()));
+
         long end = System.currentTimeMillis();
         int total = accommodations.size() + allPrices.size() + allAmenities.size() + allImages.size();
         log.debug("총 데이터 {}개 = 숙소 {}개 + 가격 {}개 + 편의시설 {}개 + 이미지 {}개 저장 {}ms 소요",
@@ -0,0 +1,68 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AccommodationCardJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT_PREFIX = """
+            INSERT INTO accommodation_cards (accommodation_id, title, thumbnail_url, average_rating, review_count, area_code, area_name,
+                                             off_weekday_price, off_weekend_price, peak_weekday_price, peak_weekend_price, refreshed_at)
+            VALUES\s""";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = """
+             ON DUPLICATE KEY UPDATE title = VALUES(title),
+                                     thumbnail_url = VALUES(thumbnail_url),
+                                     average_rating = VALUES(average_rating),
+                                     review_count = VALUES(review_count),
+                                     area_code = VALUES(area_code),
+                                     area_name = VALUES(area_name),
+                                     off_weekday_price = VALUES(off_weekday_price),
+                                     off_weekend_price = VALUES(off_weekend_price),
+                                     peak_weekday_price = VALUES(peak_weekday_price),
+                                     peak_weekend_price = VALUES(peak_weekend_price),
+                                     refreshed_at = VALUES(refreshed_at)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void upsertAll(List<AccommodationCardDto> cards) {
+        for (int from = 0; from < cards.size(); from += CHUNK_SIZE) {
+            upsertChunk(cards.subList(from, Math.min(from + CHUNK_SIZE, cards.size())));
+        }
+    }
+
+    private void upsertChunk(List<AccommodationCardDto> chunk) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER)) + UPSERT_SUFFIX;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object> params = new ArrayList<>(chunk.size() * 12);
+        for (AccommodationCardDto card : chunk) {
+            params.add(card.accommodationId());
+            params.add(card.title());
+            params.add(card.thumbnailUrl());
+            params.add(card.avgRate() == null ? 0.0 : card.avgRate());
+            params.add(card.reviewCount() == null ? 0 : card.reviewCount());
+            params.add(card.areaCode());
+            params.add(card.areaName());
+            params.add(card.offWeekdayPrice());
+            params.add(card.offWeekendPrice());
+            params.add(card.peakWeekdayPrice());
+            params.add(card.peakWeekendPrice());
+            params.add(now);
+        }
+        jdbcTemplate.update(sql, params.toArray());
+    }
+}
@@ -0,0 +1,123 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.repository.dto.AccommodationStatsDelta;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+@Repository
+@RequiredArgsConstructor
+public class AccommodationStatsJdbcRepository {
+
+    /**
+     * 원본 예약/리뷰 기준 통계 재계산 - %s 에 숙소 id 조건(BETWEEN / IN)이 들어간다
+     */
+    private static final String RECONCILE_SQL = """
+            UPDATE accommodations a
+            LEFT JOIN (
+                SELECT r.accommodation_id, COUNT(*) AS cnt
+                FROM reservations r
+                WHERE r.accommodation_id %s
+                  AND r.status = 'CONFIRMED'
+                GROUP BY r.accommodation_id
+            ) rc ON rc.accommodation_id = a.accommodation_id
+            LEFT JOIN (
+                SELECT rs.accommodation_id, COUNT(*) AS cnt, SUM(rv.rating) AS total
+                FROM reviews rv
+                JOIN reservations rs ON rv.reservation_id = rs.reservation_id
+                WHERE rs.accommodation_id %s
+                GROUP BY rs.accommodation_id
+            ) rvc ON rvc.accommodation_id = a.accommodation_id
+            SET
+                a.reservation_count = COALESCE(rc.cnt, 0),
+                a.review_count = COALESCE(rvc.cnt, 0),
+                a.rating_sum = COALESCE(rvc.total, 0.0),
+                a.average_rating = COALESCE(ROUND(rvc.total / rvc.cnt, 2), 0.0)
+            WHERE a.accommodation_id %s
+              AND (
+                  a.reservation_count <> COALESCE(rc.cnt, 0)
+                  OR a.review_count <> COALESCE(rvc.cnt, 0)
+                  OR a.rating_sum <> COALESCE(rvc.total, 0.0)
+                  OR a.average_rating <> COALESCE(ROUND(rvc.total / rvc.cnt, 2), 0.0)
+              )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 숙소별 통계 변화량을 원자적 UPDATE 로 반영
+     * <p>
+     * average_rating 은 갱신 전 rating_sum, review_count 기준으로 계산해야 하므로 가장 먼저 대입한다.
+     * 데드락 방지를 위해 숙소 ID 순서대로 갱신한다.
+     */
+    @Transactional
+    public void applyDeltas(SortedMap<Long, AccommodationStatsDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+                UPDATE accommodations
+                SET
+                    average_rating = COALESCE(ROUND((rating_sum + ?) / NULLIF(review_count + ?, 0), 2), 0.0),
+                    reservation_count = reservation_count + ?,
+                    review_count = review_count + ?,
+                    rating_sum = rating_sum + ?
+                WHERE accommodation_id = ?
+                """;
+        List<Map.Entry<Long, AccommodationStatsDelta>> entries = new ArrayList<>(deltas.entrySet());
+
+        jdbcTemplate.batchUpdate(sql, entries, entries.size(), (ps, entry) -> {
+            AccommodationStatsDelta delta = entry.getValue();
+            ps.setDouble(1, delta.ratingSum());
+            ps.setInt(2, delta.reviewCount());
+            ps.setInt(3, delta.reservationCount());
+            ps.setInt(4, delta.reviewCount());
+            ps.setDouble(5, delta.ratingSum());
+            ps.setLong(6, entry.getKey());
+        });
+    }
+
+    public long findMaxAccommodationId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(accommodation_id) FROM accommodations", Long.class);
+        return maxId == null ? 0L : maxId;
+    }
+
+    /**
+     * [fromId, toId] 구간의 통계를 원본 예약/리뷰 기준으로 다시 계산하고, 값이 어긋난 숙소만 보정
+     *
+     * @return 보정된 숙소 수
+     */
+    @Transactional
+    public int reconcileRange(long fromId, long toId) {
+        String sql = RECONCILE_SQL.formatted("BETWEEN ? AND ?", "BETWEEN ? AND ?", "BETWEEN ? AND ?");
+        return jdbcTemplate.update(sql, fromId, toId, fromId, toId, fromId, toId);
+    }
+
+    /**
+     * 지정한 숙소들의 통계를 원본 예약/리뷰 기준으로 다시 계산하고, 값이 어긋난 숙소만 보정
+     *
+     * @return 보정된 숙소 수
+     */
+    @Transactional
+    public int reconcileIds(Collection<Long> accommodationIds) {
+        if (accommodationIds.isEmpty()) {
+            return 0;
+        }
+
+        String in = "IN (" + String.join(", ", Collections.nCopies(accommodationIds.size(), "?")) + ")";
+        List<Object> params = new ArrayList<>(accommodationIds.size() * 3);
+        for (int i = 0; i < 3; i++) {
+            params.addAll(accommodationIds);
+        }
+        return jdbcTemplate.update(RECONCILE_SQL.formatted(in, in, in), params.toArray());
+    }
+}
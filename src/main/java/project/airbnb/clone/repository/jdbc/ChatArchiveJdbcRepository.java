@@ -0,0 +1,142 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.repository.dto.ChatArchiveBlockDto;
+import project.airbnb.clone.repository.dto.ChatArchiveWriterDto;
+import project.airbnb.clone.repository.dto.ChatArchivedMessageDto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatArchiveJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findChatRoomIdsAfter(Long lastChatRoomId, int limit) {
+        String sql = "SELECT chat_room_id FROM chat_rooms WHERE chat_room_id > ? ORDER BY chat_room_id LIMIT ?";
+        return jdbcTemplate.queryForList(sql, Long.class, lastChatRoomId, limit);
+    }
+
+    /**
+     * 보관 대상 메시지(id 오름차순)
+     * <p>
+     * 참여자의 마지막 읽은 메시지로 참조 중인 메시지는 읽음 위치 계산에 쓰이므로 남겨 두고, 참조가 풀린 뒤 다음 회차에 보관한다.
+     *
+     * @param beforeId 이 id 미만 - created_at 조건을 PK 범위로 좁히기 위한 값
+     * @param beforeAt 이 시각 이전에 작성된 메시지
+     */
+    public List<ChatArchivedMessageDto> findArchivableMessages(Long chatRoomId, long beforeId, LocalDateTime beforeAt, int limit) {
+        String sql = """
+                SELECT m.chat_message_id, m.member_id, m.content, m.created_at
+                FROM chat_messages m
+                WHERE m.chat_room_id = ? AND m.chat_message_id < ? AND m.created_at < ?
+                  AND NOT EXISTS (SELECT 1 FROM chat_participants cp WHERE cp.last_read_message = m.chat_message_id)
+                ORDER BY m.chat_message_id
+                LIMIT ?
+                """;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ChatArchivedMessageDto(
+                rs.getLong("chat_message_id"),
+                rs.getLong("member_id"),
+                rs.getString("content"),
+                rs.getTimestamp("created_at").toLocalDateTime()
+        ), chatRoomId, beforeId, Timestamp.valueOf(beforeAt), limit);
+    }
+
+    /**
+     * 세그먼트 블록 인덱스 저장과 원본 메시지(검색 색인 포함) 삭제를 한 트랜잭션으로 처리
+     * <p>
+     * 조회 이후 읽음 처리로 마지막 읽은 메시지가 된 메시지는 지우지 않고 남겨 둔다(세그먼트에도 있지만 조회 시 DB 의 것과 합쳐진다).
+     */
+    @Transactional
+    public void saveBlocksAndDeleteMessages(Long chatRoomId, List<ChatArchiveBlockDto> blocks, List<Long> messageIds) {
+        String insertSql = """
+                INSERT INTO chat_archive_blocks(chat_room_id, first_message_id, last_message_id, message_count, storage_key, block_offset, block_length)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """;
+        jdbcTemplate.batchUpdate(insertSql, blocks, blocks.size(), (ps, block) -> {
+            ps.setLong(1, chatRoomId);
+            ps.setLong(2, block.firstMessageId());
+            ps.setLong(3, block.lastMessageId());
+            ps.setInt(4, block.messageCount());
+            ps.setString(5, block.storageKey());
+            ps.setLong(6, block.offset());
+            ps.setInt(7, block.length());
+        });
+
+        Object[] args = new Object[messageIds.size() + 1];
+        args[0] = chatRoomId;
+        for (int i = 0; i < messageIds.size(); i++) {
+            args[i + 1] = messageIds.get(i);
+        }
+
+        String placeholders = String.join(", ", Collections.nCopies(messageIds.size(), "?"));
+        jdbcTemplate.update("""
+                DELETE FROM chat_messages
+                WHERE chat_room_id = ? AND chat_message_id IN (%s)
+                  AND NOT EXISTS (SELECT 1 FROM chat_participants cp WHERE cp.last_read_message = chat_messages.chat_message_id)
+                """.formatted(placeholders), args);
+        // 남겨 둔 메시지는 계속 검색되어야 하므로, 실제로 지워진 메시지의 색인만 지운다
+        jdbcTemplate.update("""
+                DELETE FROM chat_message_tokens
+                WHERE chat_room_id = ? AND chat_message_id IN (%s)
+                  AND NOT EXISTS (SELECT 1 FROM chat_messages m WHERE m.chat_message_id = chat_message_tokens.chat_message_id)
+                """.formatted(placeholders), args);
+    }
+
+    /**
+     * 커서보다 오래된 메시지를 담은 블록(마지막 메시지 id 내림차순)
+     */
+    public List<ChatArchiveBlockDto> findBlocks(Long chatRoomId, Long lastMessageId, int limit) {
+        String sql = """
+                SELECT storage_key, block_offset, block_length, first_message_id, last_message_id, message_count
+                FROM chat_archive_blocks
+                WHERE chat_room_id = ? AND first_message_id < ?
+                ORDER BY last_message_id DESC
+                LIMIT ?
+                """;
+        long cursor = lastMessageId != null ? lastMessageId : Long.MAX_VALUE;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ChatArchiveBlockDto(
+                rs.getString("storage_key"),
+                rs.getLong("block_offset"),
+                rs.getInt("block_length"),
+                rs.getLong("first_message_id"),
+                rs.getLong("last_message_id"),
+                rs.getInt("message_count")
+        ), chatRoomId, cursor, limit);
+    }
+
+    /**
+     * 보관된 가장 최근 메시지 id, 보관된 메시지가 없으면 null
+     */
+    public Long findArchivedMaxId(Long chatRoomId) {
+        String sql = "SELECT MAX(last_message_id) FROM chat_archive_blocks WHERE chat_room_id = ?";
+        return jdbcTemplate.queryForObject(sql, Long.class, chatRoomId);
+    }
+
+    public List<ChatArchiveWriterDto> findWriters(Long chatRoomId) {
+        String sql = """
+                SELECT cp.member_id, m.name, cp.last_rejoined_at
+                FROM chat_participants cp
+                JOIN members m ON m.member_id = cp.member_id
+                WHERE cp.chat_room_id = ?
+                """;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Timestamp lastRejoinedAt = rs.getTimestamp("last_rejoined_at");
+            return new ChatArchiveWriterDto(
+                    rs.getLong("member_id"),
+                    rs.getString("name"),
+                    lastRejoinedAt != null ? lastRejoinedAt.toLocalDateTime() : null
+            );
+        }, chatRoomId);
+    }
+}
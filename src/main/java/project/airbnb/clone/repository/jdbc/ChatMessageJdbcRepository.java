@@ -0,0 +1,141 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.entity.chat.ChatRoom;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ChatMessageTokenJdbcRepository chatMessageTokenJdbcRepository;
+
+    /**
+     * 청크 단위로 호출되며 호출마다 별도 트랜잭션으로 커밋된다
+     * <p>
+     * 같은 트랜잭션에서 메시지가 저장된 채팅방의 마지막 메시지 스냅샷과 검색 역색인도 갱신한다.
+     *
+     * @throws DuplicateKeyException 같은 id 로 다른 메시지가 이미 저장돼 있는 경우
+     */
+    @Transactional
+    public void insertAll(List<ChatMessageInsertDto> messages) {
+        List<ChatMessageInsertDto> newMessages = excludeStored(messages);
+        if (newMessages.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+                INSERT INTO chat_messages(chat_message_id, chat_room_id, member_id, content, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(sql, newMessages, newMessages.size(), (ps, message) -> {
+            ps.setLong(1, message.id());
+            ps.setLong(2, message.chatRoomId());
+            ps.setLong(3, message.writerId());
+            ps.setString(4, message.content());
+            ps.setTimestamp(5, message.sentAt() != null ? Timestamp.valueOf(message.sentAt()) : now);
+            ps.setTimestamp(6, now);
+        });
+
+        updateLastMessages(newMessages.stream().map(ChatMessageInsertDto::chatRoomId).collect(Collectors.toSet()));
+        chatMessageTokenJdbcRepository.insertAll(newMessages);
+    }
+
+    /**
+     * id 가 전송 시점에 정해지므로 스트림 재전달로 다시 들어온 메시지는 이미 저장된 것과 같아 건너뛴다
+     * <p>
+     * 같은 id 에 내용이 다른 메시지가 있으면 id 가 중복 발급된 것이므로 덮어쓰거나 버리지 않고 실패시킨다.
+     */
+    private List<ChatMessageInsertDto> excludeStored(List<ChatMessageInsertDto> messages) {
+        if (messages.isEmpty()) {
+            return messages;
+        }
+
+        Map<Long, ChatMessageInsertDto> byId = messages.stream()
+                                                       .collect(Collectors.toMap(ChatMessageInsertDto::id, Function.identity(), (a, b) -> a));
+        String sql = "SELECT chat_message_id, chat_room_id, member_id, content FROM chat_messages WHERE chat_message_id IN ("
+                + String.join(", ", Collections.nCopies(byId.size(), "?")) + ")";
+
+        Set<Long> storedIds = new HashSet<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            long id = rs.getLong("chat_message_id");
+            ChatMessageInsertDto message = byId.get(id);
+            if (message.chatRoomId() != rs.getLong("chat_room_id")
+                    || message.writerId() != rs.getLong("member_id")
+                    || !Objects.equals(message.content(), rs.getString("content"))) {
+                throw new DuplicateKeyException("채팅 메시지 id 충돌 - 같은 id 로 다른 메시지가 저장돼 있습니다. id: " + id);
+            }
+            storedIds.add(id);
+        }, byId.keySet().toArray());
+
+        if (storedIds.isEmpty()) {
+            return messages;
+        }
+        return messages.stream()
+                       .filter(message -> !storedIds.contains(message.id()))
+                       .toList();
+    }
+
+    /**
+     * 채팅방별 가장 최근 메시지로 chat_rooms 의 마지막 메시지 스냅샷 갱신
+     */
+    private void updateLastMessages(Set<Long> chatRoomIds) {
+        String placeholders = String.join(", ", Collections.nCopies(chatRoomIds.size(), "?"));
+        String sql = """
+                UPDATE chat_rooms cr
+                JOIN (SELECT chat_room_id, MAX(chat_message_id) AS last_id
+                      FROM chat_messages
+                      WHERE chat_room_id IN (%s)
+                      GROUP BY chat_room_id) lm ON lm.chat_room_id = cr.chat_room_id
+                JOIN chat_messages m ON m.chat_message_id = lm.last_id
+                SET cr.last_message_id = m.chat_message_id,
+                    cr.last_message_preview = LEFT(m.content, %d),
+                    cr.last_message_sender_id = m.member_id,
+                    cr.last_message_at = m.created_at
+                WHERE cr.last_message_id IS NULL OR cr.last_message_id < m.chat_message_id
+                """.formatted(placeholders, ChatRoom.LAST_MESSAGE_PREVIEW_LENGTH);
+
+        jdbcTemplate.update(sql, chatRoomIds.toArray());
+    }
+
+    public Set<Long> findExistingChatRoomIds(Collection<Long> chatRoomIds) {
+        return findExistingIds("chat_rooms", "chat_room_id", chatRoomIds);
+    }
+
+    public Set<Long> findExistingMemberIds(Collection<Long> memberIds) {
+        return findExistingIds("members", "member_id", memberIds);
+    }
+
+    public Set<Long> findExistingMessageIds(Collection<Long> messageIds) {
+        return findExistingIds("chat_messages", "chat_message_id", messageIds);
+    }
+
+    private Set<Long> findExistingIds(String table, String idColumn, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        String sql = "SELECT " + idColumn + " FROM " + table + " WHERE " + idColumn + " IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, ids.toArray()));
+    }
+}
@@ -0,0 +1,85 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import project.airbnb.clone.common.search.BigramTokenizer;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageTokenJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지 본문을 bigram/unigram 으로 나눠 역색인에 추가, 메시지 저장과 같은 트랜잭션에서 호출된다
+     */
+    public void insertAll(List<ChatMessageInsertDto> messages) {
+        List<Object[]> rows = new ArrayList<>();
+        for (ChatMessageInsertDto message : messages) {
+            for (String token : BigramTokenizer.indexTokens(message.content())) {
+                rows.add(new Object[]{message.chatRoomId(), token, message.id()});
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 재전달된 메시지는 이미 색인되어 있으므로 무시한다
+        String sql = "INSERT IGNORE INTO chat_message_tokens(chat_room_id, token, chat_message_id) VALUES (?, ?, ?)";
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    /**
+     * 토큰이 포함된 메시지 id 를 커서 이전부터 최신순으로 조회
+     */
+    public List<Long> findMessageIds(Long chatRoomId, String token, Long lastMessageId, int limit) {
+        String sql = """
+                SELECT chat_message_id
+                FROM chat_message_tokens
+                WHERE chat_room_id = ? AND token = ? AND chat_message_id < ?
+                ORDER BY chat_message_id DESC
+                LIMIT ?
+                """;
+        long cursor = lastMessageId != null ? lastMessageId : Long.MAX_VALUE;
+
+        return jdbcTemplate.queryForList(sql, Long.class, chatRoomId, token, cursor, limit);
+    }
+
+    /**
+     * 후보 메시지 중 모든 토큰을 포함하는 메시지 id
+     */
+    public Set<Long> findMessageIdsContainingAll(Long chatRoomId, Collection<String> tokens, Collection<Long> messageIds) {
+        if (tokens.isEmpty() || messageIds.isEmpty()) {
+            return Set.of();
+        }
+
+        String sql = """
+                SELECT chat_message_id
+                FROM chat_message_tokens
+                WHERE chat_room_id = ? AND token IN (%s) AND chat_message_id IN (%s)
+                GROUP BY chat_message_id
+                HAVING COUNT(*) = ?
+                """.formatted(placeholders(tokens.size()), placeholders(messageIds.size()));
+
+        List<Object> args = new ArrayList<>(tokens.size() + messageIds.size() + 2);
+        args.add(chatRoomId);
+        args.addAll(tokens);
+        args.addAll(messageIds);
+        args.add(tokens.size());
+
+        return new HashSet<>(jdbcTemplate.queryForList(sql, Long.class, args.toArray()));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,46 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.repository.dto.ChatReadReceiptDto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ChatParticipantJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 참여자별 마지막 읽은 메시지를 readUpToId 메시지로 갱신, 이미 더 최근 메시지를 읽었거나 해당 채팅방의 메시지가 아니면 그대로 둔다
+     */
+    @Transactional
+    public void updateLastReadMessages(List<ChatReadReceiptDto> receipts) {
+        if (receipts.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+                UPDATE chat_participants cp
+                JOIN chat_messages m ON m.chat_message_id = ? AND m.chat_room_id = cp.chat_room_id
+                SET cp.last_read_message = m.chat_message_id,
+                    cp.updated_at = ?
+                WHERE cp.chat_room_id = ?
+                  AND cp.member_id = ?
+                  AND (cp.last_read_message IS NULL OR cp.last_read_message < m.chat_message_id)
+                """;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(sql, receipts, receipts.size(), (ps, receipt) -> {
+            ps.setLong(1, receipt.readUpToId());
+            ps.setTimestamp(2, now);
+            ps.setLong(3, receipt.chatRoomId());
+            ps.setLong(4, receipt.memberId());
+        });
+    }
+}
@@ -0,0 +1,70 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 파티션 DDL - ALTER TABLE 은 MariaDB 에서 암묵적으로 커밋되므로 트랜잭션 밖에서 호출한다
+ */
+@Repository
+@RequiredArgsConstructor
+public class PartitionJdbcRepository {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z0-9_]+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 파티션 이름(순서대로), 파티셔닝되지 않은 테이블이면 빈 목록
+     */
+    public List<String> findPartitionNames(String table) {
+        String sql = """
+                SELECT PARTITION_NAME
+                FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """;
+        return jdbcTemplate.queryForList(sql, String.class, table);
+    }
+
+    /**
+     * 마지막(MAXVALUE) 파티션을 나눠 새 파티션 추가
+     *
+     * @param bounds 파티션 이름 -> VALUES LESS THAN 값(SQL 리터럴), 순서대로
+     */
+    public void splitLastPartition(String table, String lastPartition, Map<String, String> bounds) {
+        String partitions = bounds.entrySet()
+                                  .stream()
+                                  .map(e -> "PARTITION %s VALUES LESS THAN (%s)".formatted(identifier(e.getKey()), e.getValue()))
+                                  .collect(Collectors.joining(", "));
+
+        jdbcTemplate.execute("ALTER TABLE %s REORGANIZE PARTITION %s INTO (%s, PARTITION %s VALUES LESS THAN (MAXVALUE))"
+                .formatted(identifier(table), identifier(lastPartition), partitions, identifier(lastPartition)));
+    }
+
+    public boolean isEmpty(String table, String partition) {
+        String sql = "SELECT EXISTS(SELECT 1 FROM %s PARTITION (%s))".formatted(identifier(table), identifier(partition));
+        return !Boolean.TRUE.equals(jdbcTemplate.queryForObject(sql, Boolean.class));
+    }
+
+    public void dropPartitions(String table, List<String> partitions) {
+        String names = partitions.stream()
+                                 .map(PartitionJdbcRepository::identifier)
+                                 .collect(Collectors.joining(", "));
+
+        jdbcTemplate.execute("ALTER TABLE %s DROP PARTITION %s".formatted(identifier(table), names));
+    }
+
+    private static String identifier(String name) {
+        if (!IDENTIFIER.matcher(name).matches()) {
+            throw new IllegalArgumentException("잘못된 식별자: " + name);
+        }
+        return name;
+    }
+}
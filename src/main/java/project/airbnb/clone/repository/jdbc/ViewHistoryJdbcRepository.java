@@ -0,0 +1,54 @@
+package project.airbnb.clone.repository.jdbc;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.repository.dto.ViewHistoryUpsertDto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ViewHistoryJdbcRepository {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String INSERT_PREFIX = "INSERT INTO view_histories (member_id, accommodation_id, viewed_at, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final String UPSERT_SUFFIX = " ON DUPLICATE KEY UPDATE viewed_at = GREATEST(viewed_at, VALUES(viewed_at)), updated_at = VALUES(updated_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * uk_view_histories_member_accommodation 유니크 제약을 이용한 다중 행 upsert
+     * <p>
+     * 이미 조회 이력이 있으면 viewed_at 만 더 최근 값으로 갱신한다.
+     */
+    @Transactional
+    public int upsertAll(List<ViewHistoryUpsertDto> rows) {
+        int affected = 0;
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            affected += upsertChunk(rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size())));
+        }
+        return affected;
+    }
+
+    private int upsertChunk(List<ViewHistoryUpsertDto> chunk) {
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), ROW_PLACEHOLDER)) + UPSERT_SUFFIX;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object> params = new ArrayList<>(chunk.size() * 5);
+        for (ViewHistoryUpsertDto row : chunk) {
+            params.add(row.memberId());
+            params.add(row.accommodationId());
+            params.add(Timestamp.valueOf(row.viewedAt()));
+            params.add(now);
+            params.add(now);
+        }
+        return jdbcTemplate.update(sql, params.toArray());
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import project.airbnb.clone.entity.notification.Notification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long> {
@@ -24,8 +25,8 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // 알림 일괄 읽음 처리
     @Modifying
     @Query("UPDATE Notification n SET n.read = true, n.readAt = CURRENT_TIMESTAMP " +
-           "WHERE n.member.id = :memberId AND n.read = false")
-    int markAllAsReadByMemberId(Long memberId);
+           "WHERE n.member.id = :memberId AND n.read = false AND (:from IS NULL OR n.createdAt >= :from)")
+    int markAllAsReadByMemberId(Long memberId, LocalDateTime from);
     
     // 사용자의 모든 알림 삭제
     void deleteByMemberId(Long memberId);
@@ -0,0 +1,107 @@
+package project.airbnb.clone.repository.query;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.stereotype.Repository;
+import project.airbnb.clone.consts.DayType;
+import project.airbnb.clone.consts.Season;
+import project.airbnb.clone.entity.accommodation.AccommodationCard;
+import project.airbnb.clone.entity.accommodation.QAccommodationPrice;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+import project.airbnb.clone.repository.query.support.CustomQuerydslRepositorySupport;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.querydsl.core.types.Projections.constructor;
+import static project.airbnb.clone.entity.accommodation.QAccommodation.accommodation;
+import static project.airbnb.clone.entity.accommodation.QAccommodationCard.accommodationCard;
+import static project.airbnb.clone.entity.accommodation.QAccommodationImage.accommodationImage;
+import static project.airbnb.clone.entity.area.QAreaCode.areaCode;
+import static project.airbnb.clone.entity.area.QSigunguCode.sigunguCode;
+
+@Repository
+public class AccommodationCardQueryRepository extends CustomQuerydslRepositorySupport {
+
+    private static final QAccommodationPrice offWeekday = new QAccommodationPrice("offWeekday");
+    private static final QAccommodationPrice offWeekend = new QAccommodationPrice("offWeekend");
+    private static final QAccommodationPrice peakWeekday = new QAccommodationPrice("peakWeekday");
+    private static final QAccommodationPrice peakWeekend = new QAccommodationPrice("peakWeekend");
+
+    public AccommodationCardQueryRepository() {
+        super(AccommodationCard.class);
+    }
+
+    /**
+     * 카드 테이블 PK 조회
+     */
+    public List<AccommodationCardDto> findStoredCards(Collection<Long> accIds) {
+        return select(constructor(
+                AccommodationCardDto.class,
+                accommodationCard.accommodationId,
+                accommodationCard.title,
+                accommodationCard.thumbnailUrl,
+                accommodationCard.averageRating,
+                accommodationCard.reviewCount,
+                accommodationCard.areaCode,
+                accommodationCard.areaName,
+                accommodationCard.offWeekdayPrice,
+                accommodationCard.offWeekendPrice,
+                accommodationCard.peakWeekdayPrice,
+                accommodationCard.peakWeekendPrice))
+                .from(accommodationCard)
+                .where(accommodationCard.accommodationId.in(accIds))
+                .fetch();
+    }
+
+    /**
+     * 원본 테이블에서 카드를 재구성
+     */
+    public List<AccommodationCardDto> buildCards(Collection<Long> accIds) {
+        return buildCardsQuery()
+                .where(accommodation.id.in(accIds))
+                .fetch();
+    }
+
+    /**
+     * 카드 재구성용 id 기준 키셋 페이징
+     */
+    public List<AccommodationCardDto> buildCardsAfter(Long lastAccId, int limit) {
+        return buildCardsQuery()
+                .where(accommodation.id.gt(lastAccId))
+                .orderBy(accommodation.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    private JPAQuery<AccommodationCardDto> buildCardsQuery() {
+        return select(constructor(
+                AccommodationCardDto.class,
+                accommodation.id,
+                accommodation.title,
+                accommodationImage.imageUrl,
+                accommodation.averageRating,
+                accommodation.reviewCount,
+                areaCode.code,
+                areaCode.codeName,
+                offWeekday.price,
+                offWeekend.price,
+                peakWeekday.price,
+                peakWeekend.price))
+                .from(accommodation)
+                .leftJoin(accommodationImage).on(accommodationImage.accommodation.eq(accommodation)
+                                                                                 .and(accommodationImage.thumbnail.isTrue()))
+                .leftJoin(accommodation.sigunguCode, sigunguCode)
+                .leftJoin(sigunguCode.areaCode, areaCode)
+                .leftJoin(offWeekday).on(priceOf(offWeekday, Season.OFF, DayType.WEEKDAY))
+                .leftJoin(offWeekend).on(priceOf(offWeekend, Season.OFF, DayType.WEEKEND))
+                .leftJoin(peakWeekday).on(priceOf(peakWeekday, Season.PEAK, DayType.WEEKDAY))
+                .leftJoin(peakWeekend).on(priceOf(peakWeekend, Season.PEAK, DayType.WEEKEND));
+    }
+
+    private BooleanExpression priceOf(QAccommodationPrice price, Season season, DayType dayType) {
+        return price.accommodation.eq(accommodation)
+                                  .and(price.season.eq(season))
+                                  .and(price.dayType.eq(dayType));
+    }
+}
@@ -1,29 +1,19 @@
 package project.airbnb.clone.repository.query;
 
 import com.querydsl.core.types.Expression;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import org.springframework.data.domain.Pageable;
 import project.airbnb.clone.consts.DayType;
 import project.airbnb.clone.consts.Season;
 import project.airbnb.clone.repository.dto.DetailAccommodationQueryDto;
-import project.airbnb.clone.repository.dto.FilteredAccListQueryDto;
-import project.airbnb.clone.repository.dto.MainAccListQueryDto;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import static com.querydsl.core.types.Projections.constructor;
 import static project.airbnb.clone.entity.accommodation.QAccommodation.accommodation;
-import static project.airbnb.clone.entity.accommodation.QAccommodationImage.accommodationImage;
 import static project.airbnb.clone.entity.accommodation.QAccommodationPrice.accommodationPrice;
-import static project.airbnb.clone.entity.accommodation.QAccommodationStats.accommodationStats;
-import static project.airbnb.clone.entity.area.QAreaCode.areaCode;
-import static project.airbnb.clone.entity.area.QSigunguCode.sigunguCode;
 import static project.airbnb.clone.entity.reservation.QReservation.reservation;
 import static project.airbnb.clone.entity.reservation.QReview.review;
 import static project.airbnb.clone.entity.wishlist.QWishlist.wishlist;
@@ -48,146 +38,6 @@ public record AccommodationQueryBuilder(JPAQueryFactory queryFactory, DayType da
                 );
     }
 
-    private JPAQuery<?> withWishlistJoin(JPAQuery<?> query) {
-        if (!hasMember()) {
-            return query;
-        }
-
-        return query.leftJoin(wishlistAccommodation).on(wishlistAccommodation.accommodation.eq(accommodation))
-                    .leftJoin(wishlistAccommodation.wishlist, wishlist).on(wishlist.member.id.eq(memberId));
-    }
-
-    // =====================================================
-    // 메인 페이지용 쿼리
-    // =====================================================
-    public List<MainAccListQueryDto> fetchMainAccList() {
-        JPAQuery<?> query = buildAreaAccommodationsBaseQuery();
-
-        return query.select(buildMainAccListProjection())
-                    .fetch();
-    }
-
-    /**
-     * 메인 페이지용 베이스쿼리
-     */
-    private JPAQuery<?> buildAreaAccommodationsBaseQuery() {
-        JPAQuery<?> query = queryFactory.from(accommodationStats)
-                                        .join(accommodationPrice).on(
-                        accommodationPrice.accommodation.id.eq(accommodationStats.accommodationId)
-                                                           .and(accommodationPrice.season.eq(season))
-                                                           .and(accommodationPrice.dayType.eq(dayType))
-                );
-
-        if (!hasMember()) {
-            return query;
-        }
-
-        return query.leftJoin(wishlistAccommodation).on(wishlistAccommodation.accommodation.id.eq(accommodationStats.accommodationId))
-                    .leftJoin(wishlistAccommodation.wishlist, wishlist).on(wishlist.member.id.eq(memberId));
-    }
-
-    /**
-     * 메인 페이지용 select
-     */
-    private Expression<MainAccListQueryDto> buildMainAccListProjection() {
-        if (!hasMember()) {
-            return constructor(MainAccListQueryDto.class,
-                    accommodationStats.accommodationId,
-                    accommodationStats.title,
-                    accommodationPrice.price,
-                    accommodationStats.averageRating,
-                    accommodationStats.thumbnailUrl,
-                    accommodationStats.reservationCount,
-                    accommodationStats.areaName,
-                    accommodationStats.areaCode
-            );
-        }
-
-        return constructor(MainAccListQueryDto.class,
-                accommodationStats.accommodationId,
-                accommodationStats.title,
-                accommodationPrice.price,
-                accommodationStats.averageRating,
-                accommodationStats.thumbnailUrl,
-                wishlist.isNotNull(),
-                wishlist.id,
-                wishlist.name,
-                accommodationStats.reservationCount,
-                accommodationStats.areaName,
-                accommodationStats.areaCode
-        );
-    }
-
-    // =====================================================
-    // 검색 페이지용 쿼리
-    // =====================================================
-    public List<FilteredAccListQueryDto> fetchFilteredAccList(Pageable pageable, BooleanExpression... params) {
-        JPAQuery<?> query = withWishlistJoin(buildFilteredBaseQuery());
-
-        return query.select(buildFilteredProjection())
-                    .where(params)
-                    .groupBy(filteredGroupBy())
-                    .offset(pageable.getOffset())
-                    .limit(pageable.getPageSize())
-                    .fetch();
-    }
-
-    /**
-     * 검색 페이지용 베이스쿼리
-     */
-    public JPAQuery<?> buildFilteredBaseQuery() {
-        return baseQuery()
-                .join(accommodationImage).on(accommodationImage.accommodation.eq(accommodation))
-                .join(accommodation.sigunguCode, sigunguCode)
-                .join(sigunguCode.areaCode, areaCode)
-                .leftJoin(reservation).on(reservation.accommodation.eq(accommodation))
-                .leftJoin(review).on(review.reservation.eq(reservation));
-    }
-
-    /**
-     * 검색 페이지용 Select
-     */
-    public Expression<FilteredAccListQueryDto> buildFilteredProjection() {
-        if (!hasMember()) {
-            return constructor(FilteredAccListQueryDto.class,
-                    accommodation.id,
-                    accommodation.title,
-                    accommodationPrice.price,
-                    review.rating.avg().coalesce(0.0),
-                    review.count().intValue().coalesce(0)
-            );
-        }
-
-        return constructor(FilteredAccListQueryDto.class,
-                accommodation.id,
-                accommodation.title,
-                accommodationPrice.price,
-                review.rating.avg().coalesce(0.0),
-                review.count().intValue().coalesce(0),
-                wishlist.isNotNull(),
-                wishlist.id,
-                wishlist.name
-        );
-    }
-
-    /**
-     * 검색 페이지용 groupBy
-     */
-    private Expression<?>[] filteredGroupBy() {
-        List<Expression<?>> fields = new ArrayList<>(List.of(
-                accommodation.id,
-                accommodation.title,
-                accommodationPrice.price
-        ));
-
-        if (hasMember()) {
-            fields.add(wishlist.id);
-            fields.add(wishlist.name);
-        }
-
-        return fields.toArray(new Expression[0]);
-    }
-
     // =====================================================
     // 상세 페이지용 쿼리
     // =====================================================
@@ -1,5 +1,6 @@
 package project.airbnb.clone.repository.query;
 
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
@@ -11,13 +12,10 @@ import project.airbnb.clone.consts.DayType;
 import project.airbnb.clone.consts.Season;
 import project.airbnb.clone.dto.accommodation.AccSearchCondDto;
 import project.airbnb.clone.dto.accommodation.AccommodationCommonInfo.DetailReviewDto;
-import project.airbnb.clone.dto.accommodation.FilteredAccListResDto;
-import project.airbnb.clone.dto.accommodation.ViewHistoryDto;
 import project.airbnb.clone.entity.accommodation.Accommodation;
 import project.airbnb.clone.repository.dto.*;
 import project.airbnb.clone.repository.query.support.CustomQuerydslRepositorySupport;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -32,15 +30,13 @@ import static project.airbnb.clone.entity.accommodation.QAccommodation.accommoda
 import static project.airbnb.clone.entity.accommodation.QAccommodationAmenity.accommodationAmenity;
 import static project.airbnb.clone.entity.accommodation.QAccommodationImage.accommodationImage;
 import static project.airbnb.clone.entity.accommodation.QAccommodationPrice.accommodationPrice;
+import static project.airbnb.clone.entity.accommodation.QAccommodationStats.accommodationStats;
 import static project.airbnb.clone.entity.accommodation.QAmenity.amenity;
 import static project.airbnb.clone.entity.area.QAreaCode.areaCode;
 import static project.airbnb.clone.entity.area.QSigunguCode.sigunguCode;
-import static project.airbnb.clone.entity.history.QViewHistory.viewHistory;
 import static project.airbnb.clone.entity.member.QMember.member;
 import static project.airbnb.clone.entity.reservation.QReservation.reservation;
 import static project.airbnb.clone.entity.reservation.QReview.review;
-import static project.airbnb.clone.entity.wishlist.QWishlist.wishlist;
-import static project.airbnb.clone.entity.wishlist.QWishlistAccommodation.wishlistAccommodation;
 
 @Repository
 public class AccommodationQueryRepository extends CustomQuerydslRepositorySupport {
@@ -49,25 +45,52 @@ public class AccommodationQueryRepository extends CustomQuerydslRepositorySuppor
         super(Accommodation.class);
     }
 
-    public List<MainAccListQueryDto> getAreaAccommodations(Season season, DayType dayType, Long memberId) {
-        return new AccommodationQueryBuilder(getQueryFactory(), dayType, season, memberId)
-                .fetchMainAccList();
+    /**
+     * 메인 페이지 지역별 인기 숙소 id(지역, 순위 순), 카드 정보는 호출 측에서 숙소 카드로 채운다
+     */
+    public List<Long> getAreaAccommodationIds() {
+        return select(accommodationStats.accommodationId)
+                .from(accommodationStats)
+                .orderBy(accommodationStats.areaCode.asc(),
+                        accommodationStats.reservationCount.desc(),
+                        accommodationStats.averageRating.desc())
+                .fetch();
+    }
+
+    /**
+     * 검색 조건에 맞는 숙소 id 만 페이징 조회, 카드 정보는 호출 측에서 숙소 카드로 채운다
+     */
+    public Page<Long> getFilteredPagingAccommodationIds(AccSearchCondDto searchDto, Pageable pageable,
+                                                        Season season, DayType dayType) {
+        BooleanExpression[] conditions = {
+                eqAreaCode(searchDto.areaCode()),
+                goePrice(searchDto.priceGoe()),
+                loePrice(searchDto.priceLoe()),
+                hasAllAmenities(searchDto.amenities())
+        };
+
+        List<Long> accIds = filteredBaseQuery(accommodation.id, season, dayType)
+                .where(conditions)
+                .orderBy(accommodation.id.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        //카운트쿼리
+        JPAQuery<Long> countQuery = filteredBaseQuery(accommodation.count(), season, dayType)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(accIds, pageable, countQuery::fetchOne);
     }
 
-    public Page<FilteredAccListResDto> getFilteredPagingAccommodations(AccSearchCondDto searchDto,
-                                                                       Long memberId, Pageable pageable,
-                                                                       Season season, DayType dayType) {
-        //이미지 목록 제외 필드 조회
-        List<FilteredAccListQueryDto> queryDtos = new AccommodationQueryBuilder(getQueryFactory(), dayType, season, memberId)
-                .fetchFilteredAccList(pageable,
-                        eqAreaCode(searchDto.areaCode()),
-                        goePrice(searchDto.priceGoe()),
-                        loePrice(searchDto.priceLoe()),
-                        hasAllAmenities(searchDto.amenities())
-                );
-
-        //in절로 조회된 숙소의 이미지 목록 조회(전체)
-        List<Long> accIds = queryDtos.stream().map(FilteredAccListQueryDto::accommodationId).toList();
+    /**
+     * in절로 조회된 숙소의 이미지 목록 조회, 숙소당 최신 10개
+     */
+    public Map<Long, List<String>> findListImages(List<Long> accIds) {
+        if (accIds.isEmpty()) {
+            return Map.of();
+        }
+
         List<AccAllImagesQueryDto> imagesQueryDtos = select(constructor(AccAllImagesQueryDto.class,
                 accommodationImage.accommodation.id, accommodationImage.imageUrl))
                 .from(accommodationImage)
@@ -75,39 +98,27 @@ public class AccommodationQueryRepository extends CustomQuerydslRepositorySuppor
                 .orderBy(accommodationImage.id.desc())
                 .fetch();
 
-        //직접 숙소당 최대 10개 이미지 목록 매핑
-        Map<Long, List<String>> imagesMap = imagesQueryDtos.stream()
-                                                           .collect(groupingBy(
-                                                                   AccAllImagesQueryDto::accommodationId,
-                                                                   mapping(
-                                                                           AccAllImagesQueryDto::imageUrl,
-                                                                           collectingAndThen(toList(), list -> list.stream()
-                                                                                                                   .limit(10)
-                                                                                                                   .toList())
-                                                                   )
-                                                           ));
-        //응답 DTO 매핑
-        List<FilteredAccListResDto> content = queryDtos.stream()
-                                                       .map(dto -> FilteredAccListResDto.from(dto, imagesMap.getOrDefault(dto.accommodationId(), List.of())))
-                                                       .toList();
+        return imagesQueryDtos.stream()
+                              .collect(groupingBy(
+                                      AccAllImagesQueryDto::accommodationId,
+                                      mapping(
+                                              AccAllImagesQueryDto::imageUrl,
+                                              collectingAndThen(toList(), list -> list.stream()
+                                                                                      .limit(10)
+                                                                                      .toList())
+                                      )
+                              ));
+    }
 
-        //카운트쿼리
-        JPAQuery<Long> countQuery = select(accommodation.count())
+    private <T> JPAQuery<T> filteredBaseQuery(Expression<T> expr, Season season, DayType dayType) {
+        return select(expr)
                 .from(accommodation)
                 .join(accommodationPrice)
                 .on(accommodationPrice.accommodation.eq(accommodation)
                                                     .and(accommodationPrice.season.eq(season))
                                                     .and(accommodationPrice.dayType.eq(dayType)))
                 .join(accommodation.sigunguCode, sigunguCode)
-                .join(sigunguCode.areaCode, areaCode)
-                .where(
-                        eqAreaCode(searchDto.areaCode()),
-                        goePrice(searchDto.priceGoe()),
-                        loePrice(searchDto.priceLoe()),
-                        hasAllAmenities(searchDto.amenities())
-                );
-
-        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+                .join(sigunguCode.areaCode, areaCode);
     }
 
     public Optional<DetailAccommodationQueryDto> findAccommodation(Long accId, Long memberId, Season season, DayType dayType) {
@@ -151,37 +162,6 @@ public class AccommodationQueryRepository extends CustomQuerydslRepositorySuppor
                 .fetch();
     }
 
-    public List<ViewHistoryDto> findViewHistories(Long memberId) {
-        return select(constructor(
-                ViewHistoryDto.class,
-                viewHistory.viewedAt,
-                accommodation.id,
-                accommodation.title,
-                review.rating.avg().coalesce(0.0),
-                accommodationImage.imageUrl,
-                wishlist.isNotNull(),
-                wishlist.id,
-                wishlist.name))
-                .from(viewHistory)
-                .join(viewHistory.accommodation, accommodation)
-
-                .join(accommodationImage).on(accommodationImage.accommodation.eq(accommodation)
-                                                                             .and(accommodationImage.thumbnail.isTrue()))
-
-                .leftJoin(wishlistAccommodation).on(wishlistAccommodation.accommodation.eq(accommodation))
-                .leftJoin(wishlistAccommodation.wishlist, wishlist).on(wishlist.member.id.eq(memberId))
-
-                .leftJoin(reservation).on(reservation.accommodation.eq(accommodation))
-                .leftJoin(review).on(review.reservation.eq(reservation))
-
-                .where(viewHistory.member.id.eq(memberId)
-                                           .and(viewHistory.viewedAt.after(LocalDateTime.now().minusDays(30))))
-
-                .groupBy(viewHistory.viewedAt, accommodation.id, accommodation.title, accommodationImage.imageUrl, wishlist.id, wishlist.name)
-                .orderBy(viewHistory.viewedAt.desc())
-                .fetch();
-    }
-
     public Integer getAccommodationPrice(Long accId, Season season, DayType dayType) {
         return select(accommodationPrice.price)
                 .from(accommodationPrice)
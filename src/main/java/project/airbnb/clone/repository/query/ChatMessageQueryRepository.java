@@ -1,11 +1,13 @@
 package project.airbnb.clone.repository.query;
 
 import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
 import org.springframework.stereotype.Repository;
 import project.airbnb.clone.dto.chat.ChatMessageResDto;
 import project.airbnb.clone.entity.chat.ChatMessage;
 import project.airbnb.clone.repository.query.support.CustomQuerydslRepositorySupport;
 
+import java.util.Collection;
 import java.util.List;
 
 import static project.airbnb.clone.entity.chat.QChatMessage.chatMessage;
@@ -22,6 +24,23 @@ public class ChatMessageQueryRepository extends CustomQuerydslRepositorySupport
 
     public List<ChatMessageResDto> getMessages(Long lastMessageId, Long roomId, int pageSize) {
 
+        return selectMessages(roomId)
+                .where(lastMessageId != null ? chatMessage.id.lt(lastMessageId) : null)
+                .orderBy(chatMessage.id.desc())
+                .limit(pageSize + 1)
+                .fetch();
+    }
+
+    public List<ChatMessageResDto> getMessagesByIds(Long roomId, Collection<Long> messageIds) {
+
+        return selectMessages(roomId)
+                .where(chatMessage.id.in(messageIds))
+                .orderBy(chatMessage.id.desc())
+                .fetch();
+    }
+
+    private JPAQuery<ChatMessageResDto> selectMessages(Long roomId) {
+
         return select(Projections.constructor(
                 ChatMessageResDto.class,
                 chatMessage.id,
@@ -35,13 +54,9 @@ public class ChatMessageQueryRepository extends CustomQuerydslRepositorySupport
                 .join(chatMessage.writer, member)
                 .join(chatParticipant).on(chatParticipant.chatRoom.eq(chatRoom).and(chatParticipant.member.eq(member)))
                 .where(chatRoom.id.eq(roomId),
-                        lastMessageId != null ? chatMessage.id.lt(lastMessageId) : null,
                         chatParticipant.lastRejoinedAt.isNull()
                                                       .or(chatMessage.createdAt.after(chatParticipant.lastRejoinedAt))
-                )
-                .orderBy(chatMessage.id.desc())
-                .limit(pageSize + 1)
-                .fetch();
+                );
     }
 
 }
@@ -17,7 +17,6 @@ import project.airbnb.clone.repository.query.support.CustomQuerydslRepositorySup
 import java.util.List;
 import java.util.Optional;
 
-import static project.airbnb.clone.entity.chat.QChatMessage.chatMessage;
 import static project.airbnb.clone.entity.chat.QChatRoom.chatRoom;
 
 @Repository
@@ -53,7 +52,7 @@ public class ChatRoomQueryRepository extends CustomQuerydslRepositorySupport {
                                                       .and(CP2.member.id.ne(memberId));
 
         return getBaseChatRoomQuery(currentUserCond, otherUserCond)
-                .orderBy(chatMessage.createdAt.desc().nullsLast())
+                .orderBy(chatRoom.lastMessageAt.desc())
                 .fetch();
     }
 
@@ -66,18 +65,13 @@ public class ChatRoomQueryRepository extends CustomQuerydslRepositorySupport {
                 OTHER_MEMBER.name,
                 OTHER_MEMBER.profileUrl,
                 CP2.isActive,
-                chatMessage.content,
-                chatMessage.createdAt,
+                chatRoom.lastMessagePreview,
+                chatRoom.lastMessageAt,
                 Expressions.asNumber(0)))
                 .from(chatRoom)
                 .join(CP1).on(currentUserCond)
                 .join(CP2).on(otherUserCond)
-                .join(CP2.member, OTHER_MEMBER)
-                .leftJoin(chatMessage).on(chatMessage.id.eq(
-                        JPAExpressions.select(SUB_CM.id.max())
-                                      .from(SUB_CM)
-                                      .where(SUB_CM.chatRoom.eq(chatRoom))
-                ));
+                .join(CP2.member, OTHER_MEMBER);
     }
 
     @Deprecated
@@ -5,17 +5,15 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import project.airbnb.clone.dto.member.ChatMemberSearchDto;
-import project.airbnb.clone.dto.member.TripHistoryResDto;
 import project.airbnb.clone.entity.member.Member;
 import project.airbnb.clone.repository.dto.DefaultProfileQueryDto;
+import project.airbnb.clone.repository.dto.TripHistoryQueryDto;
 import project.airbnb.clone.repository.query.support.CustomQuerydslRepositorySupport;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
-import static project.airbnb.clone.entity.accommodation.QAccommodation.accommodation;
-import static project.airbnb.clone.entity.accommodation.QAccommodationImage.accommodationImage;
 import static project.airbnb.clone.entity.member.QMember.member;
 import static project.airbnb.clone.entity.reservation.QReservation.reservation;
 import static project.airbnb.clone.entity.reservation.QReview.review;
@@ -54,27 +52,22 @@ public class MemberQueryRepository extends CustomQuerydslRepositorySupport {
                 .fetch();
     }
 
-    public Page<TripHistoryResDto> getTripsHistory(Long memberId, Pageable pageable) {
+    /**
+     * 지난 예약 목록, 숙소 제목/썸네일은 호출 측에서 숙소 카드로 채운다
+     */
+    public Page<TripHistoryQueryDto> getTripsHistory(Long memberId, Pageable pageable) {
         return applyPagination(pageable,
                 contentQuery ->
                         contentQuery.select(Projections.constructor(
-                                            TripHistoryResDto.class,
+                                            TripHistoryQueryDto.class,
                                             reservation.id,
-                                            accommodation.id,
-                                            accommodationImage.imageUrl,
-                                            accommodation.title,
+                                            reservation.accommodation.id,
                                             reservation.startDate,
                                             reservation.endDate,
                                             review.isNotNull()))
-                                    .from(accommodation)
-                                    .join(accommodationImage)
-                                    .on(accommodationImage.accommodation.eq(accommodation)
-                                                                        .and(accommodationImage.thumbnail.isTrue()))
-                                    .leftJoin(reservation)
-                                    .on(reservation.accommodation.eq(accommodation))
+                                    .from(reservation)
                                     .leftJoin(review).on(review.reservation.eq(reservation))
                                     .where(
-                                            reservation.isNotNull(),
                                             reservation.member.id.eq(memberId),
                                             reservation.endDate.before(LocalDateTime.now()))
                                     .orderBy(reservation.id.desc())
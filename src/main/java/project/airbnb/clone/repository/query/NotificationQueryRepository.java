@@ -4,9 +4,11 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import project.airbnb.clone.config.notification.NotificationProperties;
 import project.airbnb.clone.entity.notification.Notification;
 import project.airbnb.clone.entity.notification.NotificationType;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static project.airbnb.clone.entity.notification.QNotification.notification;
@@ -19,6 +21,7 @@ import static project.airbnb.clone.entity.notification.QNotification.notificatio
 public class NotificationQueryRepository {
 
     private final JPAQueryFactory queryFactory;
+    private final NotificationProperties notificationProperties;
 
     /**
      * 알림 목록 동적 조회
@@ -33,6 +36,7 @@ public class NotificationQueryRepository {
                 .selectFrom(notification)
                 .where(
                         notification.member.id.eq(memberId),
+                        withinRetention(),
                         eqRead(isRead),
                         eqType(type)
                 )
@@ -48,6 +52,7 @@ public class NotificationQueryRepository {
                 .selectFrom(notification)
                 .where(
                         notification.member.id.eq(memberId),
+                        withinRetention(),
                         notification.read.isFalse()
                 )
                 .fetchCount();
@@ -61,12 +66,21 @@ public class NotificationQueryRepository {
                 .selectFrom(notification)
                 .where(
                         notification.member.id.eq(memberId),
+                        withinRetention(),
                         notification.read.isFalse(),
                         eqType(type)
                 )
                 .fetchCount();
     }
 
+    /**
+     * 보관 기간 조건 - created_at 파티션 중 보관 기간 안의 파티션만 읽는다, 보관 기간이 없으면 조건 무시
+     */
+    private BooleanExpression withinRetention() {
+        LocalDateTime retentionStart = notificationProperties.retentionStart();
+        return retentionStart != null ? notification.createdAt.goe(retentionStart) : null;
+    }
+
     /**
      * 읽음 여부 필터링 조건
      */
@@ -4,12 +4,10 @@ import com.querydsl.core.types.Projections;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
-import project.airbnb.clone.dto.review.MyReviewResDto;
 import project.airbnb.clone.entity.reservation.Review;
+import project.airbnb.clone.repository.dto.MyReviewQueryDto;
 import project.airbnb.clone.repository.query.support.CustomQuerydslRepositorySupport;
 
-import static project.airbnb.clone.entity.accommodation.QAccommodation.accommodation;
-import static project.airbnb.clone.entity.accommodation.QAccommodationImage.accommodationImage;
 import static project.airbnb.clone.entity.reservation.QReservation.reservation;
 import static project.airbnb.clone.entity.reservation.QReview.review;
 
@@ -20,24 +18,21 @@ public class ReviewQueryRepository extends CustomQuerydslRepositorySupport {
         super(Review.class);
     }
 
-    public Page<MyReviewResDto> getMyReviews(Long memberId, Pageable pageable) {
+    /**
+     * 작성한 리뷰 목록, 숙소 제목/썸네일은 호출 측에서 숙소 카드로 채운다
+     */
+    public Page<MyReviewQueryDto> getMyReviews(Long memberId, Pageable pageable) {
         return applyPagination(pageable,
                 contentQuery -> contentQuery
-                        .select(Projections.constructor(MyReviewResDto.class,
+                        .select(Projections.constructor(MyReviewQueryDto.class,
                                 review.id,
-                                accommodation.id,
-                                accommodationImage.imageUrl,
-                                accommodation.title,
+                                reservation.accommodation.id,
                                 review.content,
                                 review.rating,
                                 review.createdAt
                         ))
                         .from(review)
                         .join(review.reservation, reservation)
-                        .join(reservation.accommodation, accommodation)
-                        .join(accommodationImage)
-                        .on(accommodationImage.accommodation.eq(accommodation)
-                                                            .and(accommodationImage.thumbnail.isTrue()))
                         .where(review.member.id.eq(memberId))
                 ,
                 countQuery -> countQuery.select(review.count())
@@ -7,6 +7,7 @@ import project.airbnb.clone.dto.wishlist.WishlistsResDto;
 import project.airbnb.clone.entity.wishlist.QWishlistAccommodation;
 import project.airbnb.clone.entity.wishlist.Wishlist;
 import project.airbnb.clone.repository.dto.AccAllImagesQueryDto;
+import project.airbnb.clone.repository.dto.AccMapInfoQueryDto;
 import project.airbnb.clone.repository.dto.WishlistDetailQueryDto;
 import project.airbnb.clone.repository.query.support.CustomQuerydslRepositorySupport;
 
@@ -22,8 +23,6 @@ import static project.airbnb.clone.dto.accommodation.DetailAccommodationResDto.W
 import static project.airbnb.clone.entity.accommodation.QAccommodation.accommodation;
 import static project.airbnb.clone.entity.accommodation.QAccommodationImage.accommodationImage;
 import static project.airbnb.clone.entity.member.QMember.member;
-import static project.airbnb.clone.entity.reservation.QReservation.reservation;
-import static project.airbnb.clone.entity.reservation.QReview.review;
 import static project.airbnb.clone.entity.wishlist.QWishlist.wishlist;
 import static project.airbnb.clone.entity.wishlist.QWishlistAccommodation.wishlistAccommodation;
 
@@ -46,29 +45,44 @@ public class WishlistQueryRepository extends CustomQuerydslRepositorySupport {
                 .fetchFirst() != null;
     }
 
+    /**
+     * 위시리스트에 담긴 숙소 id 와 메모, 카드 정보는 호출 측에서 숙소 카드로 채운다
+     */
     public List<WishlistDetailQueryDto> findWishlistDetails(Long wishlistId, Long memberId) {
         return select(constructor(WishlistDetailQueryDto.class,
-                accommodation.id,
+                wishlistAccommodation.accommodation.id,
                 wishlist.name,
-                accommodation.title,
-                accommodation.description,
-                accommodation.mapX,
-                accommodation.mapY,
-                review.rating.avg().coalesce(0.0),
                 wishlistAccommodation.memo
         ))
                 .from(wishlistAccommodation)
                 .join(wishlistAccommodation.wishlist, wishlist)
-                .join(wishlistAccommodation.accommodation, accommodation)
-                .leftJoin(reservation).on(reservation.accommodation.eq(accommodation))
-                .leftJoin(review).on(review.reservation.eq(reservation))
                 .where(wishlist.id.eq(wishlistId),
                         wishlist.member.id.eq(memberId)
                 )
-                .groupBy(accommodation.id, wishlist.name, accommodation.title, accommodation.description, accommodation.mapX, accommodation.mapY, wishlistAccommodation.memo)
                 .fetch();
     }
 
+    /**
+     * 위시리스트 지도 화면에만 쓰이는 숙소 설명과 좌표(PK 조회)
+     */
+    public Map<Long, AccMapInfoQueryDto> findMapInfos(List<Long> accIds) {
+        if (accIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return select(constructor(AccMapInfoQueryDto.class,
+                accommodation.id,
+                accommodation.description,
+                accommodation.mapX,
+                accommodation.mapY
+        ))
+                .from(accommodation)
+                .where(accommodation.id.in(accIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(AccMapInfoQueryDto::accommodationId, Function.identity()));
+    }
+
     public List<AccAllImagesQueryDto> findAllImages(List<Long> accIds) {
         return select(constructor(AccAllImagesQueryDto.class,
                 accommodationImage.accommodation.id,
@@ -0,0 +1,113 @@
+package project.airbnb.clone.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 숙소 카드 읽기 모델의 Redis Hash 캐시
+ */
+@Component
+@RequiredArgsConstructor
+public class AccommodationCardRepository {
+
+    private static final String KEY_PREFIX = "accommodation:card:";
+    private static final String[] FIELDS = {
+            "title", "thumbnail", "avgRate", "reviewCount", "areaCode", "areaName",
+            "offWeekdayPrice", "offWeekendPrice", "peakWeekdayPrice", "peakWeekendPrice"
+    };
+    private static final Duration TTL = Duration.ofDays(7);
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 파이프라인으로 HMGET 을 한 번에 보내 조회, 캐시에 없는 숙소는 결과에서 빠진다
+     */
+    public Map<Long, AccommodationCardDto> findAll(List<Long> accIds) {
+        if (accIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            accIds.forEach(id -> conn.hMGet(key(id), FIELDS));
+            return null;
+        });
+
+        Map<Long, AccommodationCardDto> cards = new HashMap<>();
+        for (int i = 0; i < accIds.size(); i++) {
+            if (results.get(i) instanceof List<?> values && values.get(0) != null) {
+                Long accId = accIds.get(i);
+                cards.put(accId, new AccommodationCardDto(
+                        accId,
+                        (String) values.get(0),
+                        emptyToNull(values.get(1)),
+                        toDouble(values.get(2)),
+                        toInteger(values.get(3)),
+                        emptyToNull(values.get(4)),
+                        emptyToNull(values.get(5)),
+                        toInteger(values.get(6)),
+                        toInteger(values.get(7)),
+                        toInteger(values.get(8)),
+                        toInteger(values.get(9))));
+            }
+        }
+        return cards;
+    }
+
+    public void saveAll(Collection<AccommodationCardDto> cards) {
+        if (cards.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection conn = (StringRedisConnection) connection;
+            for (AccommodationCardDto card : cards) {
+                String key = key(card.accommodationId());
+                conn.hMSet(key, toHash(card));
+                conn.expire(key, TTL.toSeconds());
+            }
+            return null;
+        });
+    }
+
+    private Map<String, String> toHash(AccommodationCardDto card) {
+        Object[] values = {
+                card.title(), card.thumbnailUrl(), card.avgRate(), card.reviewCount(), card.areaCode(), card.areaName(),
+                card.offWeekdayPrice(), card.offWeekendPrice(), card.peakWeekdayPrice(), card.peakWeekendPrice()
+        };
+
+        Map<String, String> hash = new HashMap<>();
+        for (int i = 0; i < FIELDS.length; i++) {
+            hash.put(FIELDS[i], values[i] == null ? "" : String.valueOf(values[i]));
+        }
+        return hash;
+    }
+
+    private String emptyToNull(Object value) {
+        return value == null || ((String) value).isEmpty() ? null : (String) value;
+    }
+
+    private Double toDouble(Object value) {
+        String str = emptyToNull(value);
+        return str == null ? 0.0 : Double.parseDouble(str);
+    }
+
+    private Integer toInteger(Object value) {
+        String str = emptyToNull(value);
+        return str == null ? null : Integer.parseInt(str);
+    }
+
+    private String key(Long accId) {
+        return KEY_PREFIX + accId;
+    }
+}
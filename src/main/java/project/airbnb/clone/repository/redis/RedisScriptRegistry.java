@@ -0,0 +1,54 @@
+package project.airbnb.clone.repository.redis;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * classpath:redis/{name}.lua 에 있는 Lua 스크립트를 한 번만 읽어 캐싱하고 실행하는 저장소
+ * <p>
+ * 스크립트는 EVALSHA 로 실행되며, Redis 에 캐시되어 있지 않으면 EVAL 로 한 번 보낸 뒤 이후부터는 SHA 만 전송한다.
+ * 여러 Redis 명령을 한 번의 왕복으로 원자적으로 처리해야 할 때 사용한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisScriptRegistry {
+
+    private static final String SCRIPT_LOCATION = "redis/%s.lua";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ConcurrentHashMap<String, RedisScript<?>> scripts = new ConcurrentHashMap<>();
+
+    public <T> T execute(String name, Class<T> resultType, List<String> keys, Object... args) {
+        String[] stringArgs = new String[args.length];
+        for (int i = 0; i < args.length; i++) {
+            stringArgs[i] = String.valueOf(args[i]);
+        }
+        return redisTemplate.execute(getScript(name, resultType), keys, (Object[]) stringArgs);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> RedisScript<T> getScript(String name, Class<T> resultType) {
+        RedisScript<?> script = scripts.computeIfAbsent(name, key -> load(key, resultType));
+
+        if (script.getResultType() != resultType) {
+            throw new IllegalArgumentException("Redis script '%s' is registered with result type %s, not %s"
+                    .formatted(name, script.getResultType(), resultType));
+        }
+        return (RedisScript<T>) script;
+    }
+
+    private static <T> RedisScript<T> load(String name, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(SCRIPT_LOCATION.formatted(name))));
+        script.setResultType(resultType);
+        return script;
+    }
+}
@@ -0,0 +1,127 @@
+package project.airbnb.clone.service.accommodation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.common.annotations.SchedulerLock;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+import project.airbnb.clone.repository.jdbc.AccommodationCardJdbcRepository;
+import project.airbnb.clone.repository.query.AccommodationCardQueryRepository;
+import project.airbnb.clone.repository.redis.AccommodationCardRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 숙소 카드 읽기 모델
+ * <p>
+ * 목록 화면은 숙소 id 만 조회한 뒤 {@link #getCards(List)} 로 카드를 한 번에 채운다.
+ * 조회 순서는 Redis 카드 Hash → accommodation_cards 테이블 → 원본 테이블 재구성이며,
+ * 카드 테이블과 캐시는 숙소 적재, 리뷰/예약 통계 반영, 매일 재구성 작업 시점에 갱신된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccommodationCardService {
+
+    private static final int REBUILD_CHUNK_SIZE = 1000;
+
+    private final AccommodationCardRepository accommodationCardRepository;
+    private final AccommodationCardJdbcRepository accommodationCardJdbcRepository;
+    private final AccommodationCardQueryRepository accommodationCardQueryRepository;
+    private final SchedulerLockManager schedulerLockManager;
+
+    /**
+     * 요청한 숙소 순서대로 카드를 반환, 존재하지 않는 숙소는 결과에서 제외
+     */
+    public Map<Long, AccommodationCardDto> getCards(List<Long> accIds) {
+        if (accIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, AccommodationCardDto> found = new LinkedHashMap<>(accommodationCardRepository.findAll(accIds));
+
+        List<Long> missIds = missing(accIds, found);
+        if (!missIds.isEmpty()) {
+            List<AccommodationCardDto> loaded = new ArrayList<>(accommodationCardQueryRepository.findStoredCards(missIds));
+
+            List<Long> unbuiltIds = missing(missIds, distinct(loaded));
+            if (!unbuiltIds.isEmpty()) {
+                loaded.addAll(accommodationCardQueryRepository.buildCards(unbuiltIds));
+            }
+
+            Map<Long, AccommodationCardDto> loadedMap = distinct(loaded);
+            accommodationCardRepository.saveAll(loadedMap.values());
+            found.putAll(loadedMap);
+        }
+
+        Map<Long, AccommodationCardDto> result = new LinkedHashMap<>();
+        for (Long accId : accIds) {
+            AccommodationCardDto card = found.get(accId);
+            if (card != null) {
+                result.put(accId, card);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 원본 테이블에서 카드를 다시 만들어 카드 테이블과 캐시에 반영
+     * <p>
+     * 커밋 이후 이벤트 리스너에서도 호출되므로 항상 새 트랜잭션에서 실행한다.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void refresh(Collection<Long> accIds) {
+        if (!accIds.isEmpty()) {
+            save(accommodationCardQueryRepository.buildCards(accIds));
+        }
+    }
+
+    @Scheduled(cron = "0 0 4 * * *")
+    @SchedulerLock(name = "accommodation-card-rebuild")
+    public void rebuildAll() {
+        long lastAccId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<AccommodationCardDto> cards = accommodationCardQueryRepository.buildCardsAfter(lastAccId, REBUILD_CHUNK_SIZE);
+            if (cards.isEmpty()) {
+                break;
+            }
+
+            schedulerLockManager.ensureCurrentLockHeld();
+            save(cards);
+            lastAccId = cards.get(cards.size() - 1).accommodationId();
+            total += cards.size();
+        }
+        log.info("숙소 카드 재구성 완료 - {}건", total);
+    }
+
+    private void save(List<AccommodationCardDto> cards) {
+        List<AccommodationCardDto> distinctCards = new ArrayList<>(distinct(cards).values());
+        accommodationCardJdbcRepository.upsertAll(distinctCards);
+        accommodationCardRepository.saveAll(distinctCards);
+    }
+
+    private List<Long> missing(List<Long> accIds, Map<Long, AccommodationCardDto> found) {
+        return accIds.stream()
+                     .filter(id -> !found.containsKey(id))
+                     .toList();
+    }
+
+    /**
+     * 썸네일이 여러 장 등록된 숙소는 첫 번째 썸네일만 사용
+     */
+    private Map<Long, AccommodationCardDto> distinct(List<AccommodationCardDto> cards) {
+        Map<Long, AccommodationCardDto> result = new LinkedHashMap<>();
+        cards.forEach(card -> result.putIfAbsent(card.accommodationId(), card));
+        return result;
+    }
+}
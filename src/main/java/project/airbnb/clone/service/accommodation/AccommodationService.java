@@ -11,7 +11,7 @@ import project.airbnb.clone.consts.DayType;
 import project.airbnb.clone.consts.Season;
 import project.airbnb.clone.dto.PageResponseDto;
 import project.airbnb.clone.dto.accommodation.*;
-import project.airbnb.clone.repository.dto.MainAccListQueryDto;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
 import project.airbnb.clone.repository.dto.ReservedDateQueryDto;
 import project.airbnb.clone.repository.query.AccommodationQueryRepository;
 import project.airbnb.clone.repository.query.ReservationQueryRepository;
@@ -25,7 +25,6 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.groupingBy;
-import static java.util.stream.Collectors.mapping;
 import static java.util.stream.Collectors.toList;
 import static project.airbnb.clone.dto.accommodation.DetailAccommodationResDto.WishlistInfo;
 
@@ -36,6 +35,8 @@ public class AccommodationService {
 
     private final DateManager dateManager;
     private final CacheService cacheService;
+    private final TrendingService trendingService;
+    private final AccommodationCardService accommodationCardService;
     private final ViewHistoryService viewHistoryService;
     private final ApplicationEventPublisher eventPublisher;
     private final WishlistQueryRepository wishlistQueryRepository;
@@ -47,22 +48,30 @@ public class AccommodationService {
         Season season = dateManager.getSeason(now);
         DayType dayType = dateManager.getDayType(now);
 
-        List<MainAccListQueryDto> accommodations = accommodationQueryRepository.getAreaAccommodations(season, dayType, memberId);
-
-        return accommodations
-                .stream()
-                .collect(groupingBy(
-                        MainAccListQueryDto::getAreaKey,
-                        mapping(MainAccListResDto::from, toList())
-                ))
-                .entrySet()
-                .stream()
-                .map(entry -> new MainAccResDto(
-                        entry.getKey().areaName(),
-                        entry.getKey().areaCode(),
-                        entry.getValue())
-                )
-                .toList();
+        List<Long> accIds = accommodationQueryRepository.getAreaAccommodationIds();
+        Map<Long, AccommodationCardDto> cards = accommodationCardService.getCards(accIds);
+        Map<Long, WishlistInfo> wishlistMap = wishlistQueryRepository.getWishlistInfos(accIds, memberId);
+
+        return cards.values()
+                    .stream()
+                    .collect(groupingBy(
+                            AccommodationCardDto::areaCode,
+                            LinkedHashMap::new,
+                            toList()
+                    ))
+                    .values()
+                    .stream()
+                    .map(areaCards -> new MainAccResDto(
+                            areaCards.get(0).areaName(),
+                            areaCards.get(0).areaCode(),
+                            areaCards.stream()
+                                     .map(card -> MainAccListResDto.from(
+                                             card,
+                                             card.priceOf(season, dayType),
+                                             wishlistMap.getOrDefault(card.accommodationId(), WishlistInfo.empty())))
+                                     .toList())
+                    )
+                    .toList();
     }
 
     public PageResponseDto<FilteredAccListResDto> getFilteredPagingAccommodations(AccSearchCondDto searchDto, Long memberId, Pageable pageable) {
@@ -70,10 +79,24 @@ public class AccommodationService {
         Season season = dateManager.getSeason(now);
         DayType dayType = dateManager.getDayType(now);
 
-        Page<FilteredAccListResDto> result = accommodationQueryRepository.getFilteredPagingAccommodations(searchDto, memberId, pageable, season, dayType);
+        Page<Long> result = accommodationQueryRepository.getFilteredPagingAccommodationIds(searchDto, pageable, season, dayType);
+        List<Long> accIds = result.getContent();
+
+        Map<Long, AccommodationCardDto> cards = accommodationCardService.getCards(accIds);
+        Map<Long, List<String>> imagesMap = accommodationQueryRepository.findListImages(accIds);
+        Map<Long, WishlistInfo> wishlistMap = wishlistQueryRepository.getWishlistInfos(accIds, memberId);
+
+        List<FilteredAccListResDto> contents = cards.values()
+                                                    .stream()
+                                                    .map(card -> FilteredAccListResDto.from(
+                                                            card,
+                                                            card.priceOf(season, dayType),
+                                                            imagesMap.getOrDefault(card.accommodationId(), List.of()),
+                                                            wishlistMap.getOrDefault(card.accommodationId(), WishlistInfo.empty())))
+                                                    .toList();
 
         return PageResponseDto.<FilteredAccListResDto>builder()
-                              .contents(result.getContent())
+                              .contents(contents)
                               .pageNumber(pageable.getPageNumber())
                               .pageSize(pageable.getPageSize())
                               .total(result.getTotalElements())
@@ -104,23 +127,25 @@ public class AccommodationService {
         List<Long> accIds = viewInfoMap.keySet().stream().toList();
         Map<Long, WishlistInfo> wishlistMap = wishlistQueryRepository.getWishlistInfos(accIds, memberId);
 
-        List<ViewHistoryDto> historyDtos = accIds.stream()
-                                                 .map(id -> {
-                                                     AccommodationCommonInfo commonInfo = cacheService.getAccCommonInfo(id);
-                                                     WishlistInfo wishInfo = wishlistMap.getOrDefault(id, WishlistInfo.empty());
-
-                                                     return ViewHistoryDto.builder()
-                                                                          .accommodationId(id)
-                                                                          .viewDate(viewInfoMap.get(id))
-                                                                          .title(commonInfo.getTitle())
-                                                                          .avgRate(commonInfo.getAvgRate())
-                                                                          .thumbnailUrl(commonInfo.getImages().getThumbnail())
-                                                                          .isInWishlist(wishInfo.isInWishlist())
-                                                                          .wishlistId(wishInfo.wishlistId())
-                                                                          .wishlistName(wishInfo.wishlistName())
-                                                                          .build();
-                                                 })
-                                                 .toList();
+        Map<Long, AccommodationCardDto> cards = accommodationCardService.getCards(accIds);
+
+        List<ViewHistoryDto> historyDtos = cards.values()
+                                                .stream()
+                                                .map(card -> {
+                                                    WishlistInfo wishInfo = wishlistMap.getOrDefault(card.accommodationId(), WishlistInfo.empty());
+
+                                                    return ViewHistoryDto.builder()
+                                                                         .accommodationId(card.accommodationId())
+                                                                         .viewDate(viewInfoMap.get(card.accommodationId()))
+                                                                         .title(card.title())
+                                                                         .avgRate(card.avgRate())
+                                                                         .thumbnailUrl(card.thumbnailUrl())
+                                                                         .isInWishlist(wishInfo.isInWishlist())
+                                                                         .wishlistId(wishInfo.wishlistId())
+                                                                         .wishlistName(wishInfo.wishlistName())
+                                                                         .build();
+                                                })
+                                                .toList();
 
         return historyDtos.stream()
                           .collect(Collectors.groupingBy(
@@ -134,6 +159,14 @@ public class AccommodationService {
                           .toList();
     }
 
+    public List<TrendingAccResDto> getTrendingAccommodations(String areaCode, int size) {
+        return accommodationCardService.getCards(trendingService.getTrendingIds(areaCode, size))
+                                       .values()
+                                       .stream()
+                                       .map(TrendingAccResDto::from)
+                                       .toList();
+    }
+
     public AccommodationPriceResDto getAccommodationPrice(Long accId, LocalDate date) {
         Season season = dateManager.getSeason(date);
         DayType dayType = dateManager.getDayType(date);
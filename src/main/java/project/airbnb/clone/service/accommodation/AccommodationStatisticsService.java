@@ -1,11 +1,16 @@
 package project.airbnb.clone.service.accommodation;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.common.annotations.SchedulerLock;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
 
 @Slf4j
 @Service
@@ -13,17 +18,33 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AccommodationStatisticsService {
 
+    private static final String STATS_TABLE = "accommodation_stats";
+    private static final String SHADOW_TABLE = "accommodation_stats_shadow";
+    private static final String SWAP_TABLE = "accommodation_stats_swap";
+
     private final EntityManager em;
+    private final MeterRegistry meterRegistry;
+    private final SchedulerLockManager schedulerLockManager;
+    private final AccommodationStatsReconciler accommodationStatsReconciler;
 
-    @Scheduled(cron = "* * 2 * * *")
+    /**
+     * 지역별 인기 숙소 TOP N 통계 갱신
+     * <p>
+     * 섀도 테이블에 새 통계를 모두 적재한 뒤 RENAME TABLE 한 번으로 원본과 교체한다.
+     * 적재 중에도 메인 페이지는 기존 accommodation_stats 를 그대로 읽으며, 교체 후 이전 테이블은 다음 갱신의 섀도 테이블로 재사용된다.
+     * RENAME/TRUNCATE 는 DDL 이므로 MariaDB 에서 암묵적으로 커밋된다.
+     */
+    @Scheduled(cron = "0 0 2 * * *")
+    @SchedulerLock(name = "accommodation-stats-refresh", lockAtLeastMillis = 60_000)
     public void refreshStats() {
         log.info("지역별 인기 숙소 TOP N 통계 갱신");
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-        em.createNativeQuery("DELETE FROM accommodation_stats").executeUpdate();
-        em.flush();
+        em.createNativeQuery("CREATE TABLE IF NOT EXISTS " + SHADOW_TABLE + " LIKE " + STATS_TABLE).executeUpdate();
+        em.createNativeQuery("TRUNCATE TABLE " + SHADOW_TABLE).executeUpdate();
 
         String sql = """
-                INSERT INTO accommodation_stats (accommodation_id, area_code, area_name, title, average_rating, reservation_count, thumbnail_url)
+                INSERT INTO %s (accommodation_id, area_code, area_name, title, average_rating, reservation_count, thumbnail_url)
                 SELECT
                     ranked.accommodation_id,
                     ac.area_code,
@@ -51,65 +72,34 @@ public class AccommodationStatisticsService {
                 ON ai.accommodation_id = ranked.accommodation_id
                 AND ai.thumbnail = true
                 WHERE ranked.rn <= 8
-                """;
+                """.formatted(SHADOW_TABLE);
 
-        em.createNativeQuery(sql).executeUpdate();
-        em.flush();
-    }
+        int rows = em.createNativeQuery(sql).executeUpdate();
 
-    @Scheduled(cron = "0 */30 * * * *")
-    public void refreshRecentStats() {
-        log.info("숙소 반정규화 통계 필드 갱신 - 최근 변경");
-        String sql = """
-                UPDATE accommodations a
-                SET
-                    a.reservation_count = (
-                        SELECT COUNT(*)
-                        FROM reservations r
-                        WHERE r.accommodation_id = a.accommodation_id
-                          AND r.status != 'CANCELED'
-                    ),
-                    a.average_rating = COALESCE((
-                        SELECT ROUND(AVG(rv.rating), 2)
-                        FROM reviews rv
-                        JOIN reservations rs ON rv.reservation_id = rs.reservation_id
-                        WHERE rs.accommodation_id = a.accommodation_id
-                    ), 0.0)
-                WHERE a.accommodation_id IN (
-                    SELECT DISTINCT accommodation_id
-                    FROM reservations
-                    WHERE updated_at >= DATE_SUB(NOW(), INTERVAL 30 MINUTE)
-                    UNION
-                    SELECT DISTINCT rs.accommodation_id
-                    FROM reviews rv
-                    JOIN reservations rs ON rv.reservation_id = rs.reservation_id
-                    WHERE rv.updated_at >= DATE_SUB(NOW(), INTERVAL 30 MINUTE)
-                )
-                """;
-        em.createNativeQuery(sql)
-          .executeUpdate();
+        schedulerLockManager.ensureCurrentLockHeld();
+        em.createNativeQuery("RENAME TABLE %s TO %s, %s TO %s, %s TO %s".formatted(
+                STATS_TABLE, SWAP_TABLE,
+                SHADOW_TABLE, STATS_TABLE,
+                SWAP_TABLE, SHADOW_TABLE
+        )).executeUpdate();
+
+        long elapsedNanos = sample.stop(meterRegistry.timer("accommodation.stats.refresh.duration"));
+        meterRegistry.summary("accommodation.stats.refresh.rows").record(rows);
+
+        log.info("지역별 인기 숙소 TOP N 통계 갱신 완료 - {}건, {}ms", rows, elapsedNanos / 1_000_000);
     }
 
+    /**
+     * 숙소 반정규화 통계 필드 검증 및 보정
+     * <p>
+     * 통계 필드는 예약/리뷰 이벤트로 실시간 증감되며({@link AccommodationStatsBuffer}), 이 작업은 누락/중복으로 생긴 오차만 보정한다.
+     * 구간 분할, 속도 조절, 재개는 {@link AccommodationStatsReconciler} 참고
+     */
     @Scheduled(cron = "0 0 3 * * *")
+    @SchedulerLock(name = "accommodation-stats-reconcile", lockAtLeastMillis = 60_000)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void refreshAllStats() {
-        log.info("숙소 반정규화 통계 필드 갱신 - 전체");
-        String sql = """
-                UPDATE accommodations a
-                SET
-                    a.reservation_count = COALESCE((
-                        SELECT COUNT(*)
-                        FROM reservations r
-                        WHERE r.accommodation_id = a.accommodation_id
-                          AND r.status != 'CANCELED'
-                    ), 0),
-                    a.average_rating = COALESCE((
-                        SELECT ROUND(AVG(rv.rating), 2)
-                        FROM reviews rv
-                        JOIN reservations rs ON rv.reservation_id = rs.reservation_id
-                        WHERE rs.accommodation_id = a.accommodation_id
-                    ), 0.0)
-                """;
-        em.createNativeQuery(sql)
-          .executeUpdate();
+        log.info("숙소 반정규화 통계 필드 검증 - 전체");
+        accommodationStatsReconciler.reconcile();
     }
 }
@@ -0,0 +1,101 @@
+package project.airbnb.clone.service.accommodation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.repository.dto.AccommodationStatsDelta;
+import project.airbnb.clone.repository.jdbc.AccommodationStatsJdbcRepository;
+
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 예약/리뷰 이벤트로 발생한 숙소 통계 변화량을 숙소 단위로 합산해 두었다가 주기적으로 DB에 반영하는 write-behind 버퍼
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationStatsBuffer {
+
+    private final AccommodationCardService accommodationCardService;
+    private final AccommodationStatsJdbcRepository accommodationStatsJdbcRepository;
+    private final ConcurrentHashMap<Long, AccommodationStatsDelta> pending = new ConcurrentHashMap<>();
+
+    public void addReservation(Long accommodationId, int count) {
+        pending.merge(accommodationId, AccommodationStatsDelta.ofReservation(count), AccommodationStatsDelta::plus);
+    }
+
+    public void addReview(Long accommodationId, int count, double ratingSum) {
+        pending.merge(accommodationId, AccommodationStatsDelta.ofReview(count, ratingSum), AccommodationStatsDelta::plus);
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        SortedMap<Long, AccommodationStatsDelta> drained = new TreeMap<>();
+        for (Long accommodationId : pending.keySet()) {
+            AccommodationStatsDelta delta = pending.remove(accommodationId);
+            if (delta != null && !delta.isEmpty()) {
+                drained.put(accommodationId, delta);
+            }
+        }
+
+        try {
+            accommodationStatsJdbcRepository.applyDeltas(drained);
+        } catch (Exception e) {
+            log.error("숙소 통계 변화량 반영 실패 - {}건 재적재", drained.size(), e);
+            drained.forEach((accommodationId, delta) -> pending.merge(accommodationId, delta, AccommodationStatsDelta::plus));
+            return;
+        }
+
+        try {
+            accommodationCardService.refresh(drained.keySet());
+        } catch (Exception e) {
+            log.warn("숙소 카드 평점 갱신 실패 - {}건", drained.size(), e);
+        }
+    }
+
+    /**
+     * 구간 통계 재계산 - 변화량 반영과 겹치지 않도록 버퍼 잠금 안에서 실행한다
+     * <p>
+     * 재계산 전에 쌓인 변화량은 먼저 반영한다. 재계산하는 동안 구간 안 숙소에 쌓인 변화량은 커밋 후 이벤트로 들어오므로
+     * 원본이 이미 재계산에 포함됐을 수 있어, 그대로 반영하면 두 번 더해진다. 이 변화량은 버리고 해당 숙소만 다시 재계산한다.
+     *
+     * @return 보정된 숙소 수
+     */
+    public synchronized int reconcileRange(long fromId, long toId) {
+        flush();
+        int repaired = accommodationStatsJdbcRepository.reconcileRange(fromId, toId);
+
+        Set<Long> raced = new TreeSet<>();
+        for (Long accommodationId : pending.keySet()) {
+            if (accommodationId >= fromId && accommodationId <= toId && pending.remove(accommodationId) != null) {
+                raced.add(accommodationId);
+            }
+        }
+        if (raced.isEmpty()) {
+            return repaired;
+        }
+
+        repaired += accommodationStatsJdbcRepository.reconcileIds(raced);
+        try {
+            accommodationCardService.refresh(raced);
+        } catch (Exception e) {
+            log.warn("숙소 카드 평점 갱신 실패 - {}건", raced.size(), e);
+        }
+        return repaired;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
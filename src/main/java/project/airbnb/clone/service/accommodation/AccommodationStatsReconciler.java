@@ -0,0 +1,180 @@
+package project.airbnb.clone.service.accommodation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
+import project.airbnb.clone.repository.jdbc.AccommodationStatsJdbcRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 숙소 반정규화 통계 필드 전체 검증/보정 작업
+ * <p>
+ * 숙소 ID 구간을 작은 트랜잭션으로 나누어 처리하고, 구간 처리 시간에 맞춰 구간 크기와 휴식 시간을 조절해
+ * 예약/결제 흐름의 비관적 락과 경합하는 시간을 최소화한다.
+ * 마지막으로 완료한 ID 를 Redis 에 체크포인트로 남겨, 중단되더라도 다음 실행에서 이어서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccommodationStatsReconciler {
+
+    private static final String CHECKPOINT_KEY = "stats:reconcile:checkpoint";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(1);
+
+    private static final int MIN_CHUNK_SIZE = 50;
+    private static final int MAX_CHUNK_SIZE = 2000;
+    private static final int INITIAL_CHUNK_SIZE = 500;
+    private static final long TARGET_CHUNK_MILLIS = 200;
+    private static final double PAUSE_RATIO = 1.0;
+
+    private final StringRedisTemplate redisTemplate;
+    private final SchedulerLockManager schedulerLockManager;
+    private final AccommodationStatsBuffer accommodationStatsBuffer;
+    private final AccommodationStatsJdbcRepository accommodationStatsJdbcRepository;
+
+    private volatile Progress progress = Progress.idle();
+
+    public Progress getProgress() {
+        return progress;
+    }
+
+    public void reconcile() {
+        long maxId = accommodationStatsJdbcRepository.findMaxAccommodationId();
+        long startId = loadCheckpoint() + 1;
+        if (startId > 1) {
+            log.info("숙소 통계 검증 체크포인트에서 재개 - accommodationId {}", startId);
+        }
+
+        long startedAtNanos = System.nanoTime();
+        LocalDateTime startedAt = LocalDateTime.now();
+        int chunkSize = INITIAL_CHUNK_SIZE;
+        int repaired = 0;
+
+        progress = Progress.running(startedAt, startId, maxId, startId - 1, 0, chunkSize, null);
+
+        try {
+            long fromId = startId;
+            while (fromId <= maxId) {
+                long toId = Math.min(fromId + chunkSize - 1, maxId);
+
+                schedulerLockManager.ensureCurrentLockHeld();
+                long chunkStart = System.nanoTime();
+                repaired += accommodationStatsBuffer.reconcileRange(fromId, toId);
+                long chunkMillis = Duration.ofNanos(System.nanoTime() - chunkStart).toMillis();
+
+                saveCheckpoint(toId);
+                chunkSize = nextChunkSize(chunkSize, chunkMillis);
+
+                Duration eta = estimateRemaining(startedAtNanos, startId, toId, maxId);
+                progress = Progress.running(startedAt, startId, maxId, toId, repaired, chunkSize, eta);
+
+                if (!pause(chunkMillis)) {
+                    progress = progress.stopped();
+                    log.warn("숙소 통계 검증 중단 - accommodationId {} 까지 처리", toId);
+                    return;
+                }
+                fromId = toId + 1;
+            }
+        } catch (RuntimeException e) {
+            // 체크포인트는 마지막으로 끝낸 구간까지 남아 있어 다음 실행에서 이어서 처리한다
+            progress = progress.failed();
+            log.error("숙소 통계 검증 실패 - accommodationId {} 까지 처리", progress.processedUpToId(), e);
+            throw e;
+        }
+
+        redisTemplate.delete(CHECKPOINT_KEY);
+        progress = progress.completed();
+        log.info("숙소 반정규화 통계 필드 검증 완료 - 보정 {}건", repaired);
+    }
+
+    /**
+     * 구간 처리 시간이 목표보다 길면 구간 크기를 절반으로 줄이고, 목표의 절반보다 짧으면 조금씩 늘린다.
+     */
+    static int nextChunkSize(int chunkSize, long chunkMillis) {
+        if (chunkMillis > TARGET_CHUNK_MILLIS) {
+            return Math.max(MIN_CHUNK_SIZE, chunkSize / 2);
+        }
+        if (chunkMillis < TARGET_CHUNK_MILLIS / 2) {
+            return Math.min(MAX_CHUNK_SIZE, chunkSize + MIN_CHUNK_SIZE);
+        }
+        return chunkSize;
+    }
+
+    private static Duration estimateRemaining(long startedAtNanos, long startId, long doneId, long maxId) {
+        long processed = doneId - startId + 1;
+        long remaining = maxId - doneId;
+        if (processed <= 0) {
+            return null;
+        }
+        long elapsedNanos = System.nanoTime() - startedAtNanos;
+        return Duration.ofNanos((long) (elapsedNanos * ((double) remaining / processed)));
+    }
+
+    /**
+     * 직전 구간 처리 시간에 비례해 쉬어, DB 를 점유하는 시간 비율을 제한한다.
+     */
+    private boolean pause(long chunkMillis) {
+        try {
+            Thread.sleep((long) (chunkMillis * PAUSE_RATIO));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private long loadCheckpoint() {
+        String checkpoint = redisTemplate.opsForValue().get(CHECKPOINT_KEY);
+        return checkpoint == null ? 0L : Long.parseLong(checkpoint);
+    }
+
+    private void saveCheckpoint(long accommodationId) {
+        redisTemplate.opsForValue().set(CHECKPOINT_KEY, String.valueOf(accommodationId), CHECKPOINT_TTL);
+    }
+
+    public record Progress(
+            Status status,
+            LocalDateTime startedAt,
+            long startId,
+            long maxId,
+            long processedUpToId,
+            int repaired,
+            int chunkSize,
+            Duration eta) {
+
+        public enum Status {
+            IDLE, RUNNING, STOPPED, FAILED, COMPLETED
+        }
+
+        static Progress idle() {
+            return new Progress(Status.IDLE, null, 0, 0, 0, 0, 0, null);
+        }
+
+        static Progress running(LocalDateTime startedAt, long startId, long maxId, long processedUpToId, int repaired, int chunkSize, Duration eta) {
+            return new Progress(Status.RUNNING, startedAt, startId, maxId, processedUpToId, repaired, chunkSize, eta);
+        }
+
+        Progress stopped() {
+            return new Progress(Status.STOPPED, startedAt, startId, maxId, processedUpToId, repaired, chunkSize, null);
+        }
+
+        Progress failed() {
+            return new Progress(Status.FAILED, startedAt, startId, maxId, processedUpToId, repaired, chunkSize, null);
+        }
+
+        Progress completed() {
+            return new Progress(Status.COMPLETED, startedAt, startId, maxId, maxId, repaired, chunkSize, Duration.ZERO);
+        }
+
+        public double percent() {
+            if (maxId == 0) {
+                return status == Status.COMPLETED ? 100.0 : 0.0;
+            }
+            return Math.round(processedUpToId * 1000.0 / maxId) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package project.airbnb.clone.service.accommodation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.airbnb.clone.common.annotations.SchedulerLock;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+import project.airbnb.clone.repository.redis.RedisScriptRegistry;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조회/위시리스트/예약 이벤트 기반 실시간 인기 숙소 랭킹
+ * <p>
+ * 지역 코드별 Redis ZSET 에 시간 감쇠 점수를 유지한다. 감쇠는 forward decay 방식으로,
+ * 이벤트 가중치에 2^((now - epoch) / 반감기) 를 곱해 더하므로 기존 점수를 매번 갱신할 필요가 없다.
+ * 점수가 너무 커지지 않도록 주기적으로 전체 점수를 같은 비율로 줄이고 epoch 를 현재로 옮긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    public static final double VIEW_WEIGHT = 1.0;
+    public static final double WISHLIST_WEIGHT = 3.0;
+    public static final double RESERVATION_WEIGHT = 10.0;
+    public static final int MAX_SIZE = 50;
+
+    private static final String KEY_PREFIX = "trending:area:";
+    private static final String EPOCH_KEY = "trending:epoch";
+    private static final String AREAS_KEY = "trending:areas";
+    private static final long HALF_LIFE_MILLIS = Duration.ofHours(12).toMillis();
+    private static final int KEEP_PER_AREA = 500;
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private static final String INCREMENT_SCRIPT = "trending-increment";
+    private static final String RESCALE_SCRIPT = "trending-rescale";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final AccommodationCardService accommodationCardService;
+    private final SchedulerLockManager schedulerLockManager;
+
+    private final ConcurrentHashMap<Long, Double> pending = new ConcurrentHashMap<>();
+
+    public void record(Long accommodationId, double weight) {
+        pending.merge(accommodationId, weight, Double::sum);
+    }
+
+    public List<Long> getTrendingIds(String areaCode, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_SIZE);
+        Set<String> ids = redisTemplate.opsForZSet().reverseRange(KEY_PREFIX + areaCode, 0, limit - 1);
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return ids.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 로컬에 합산해 둔 가중치를 청크 단위 스크립트 호출로 Redis 에 반영
+     */
+    @Scheduled(fixedDelay = 2000)
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Double> drained = new HashMap<>();
+        for (Long accommodationId : pending.keySet()) {
+            Double weight = pending.remove(accommodationId);
+            if (weight != null) {
+                drained.put(accommodationId, weight);
+            }
+        }
+
+        Map<Long, String> areaCodes = resolveAreaCodes(drained.keySet());
+        List<Map.Entry<Long, Double>> entries = drained.entrySet()
+                                                       .stream()
+                                                       .filter(entry -> areaCodes.containsKey(entry.getKey()))
+                                                       .toList();
+        long now = System.currentTimeMillis();
+
+        for (int from = 0; from < entries.size(); from += FLUSH_CHUNK_SIZE) {
+            List<Map.Entry<Long, Double>> chunk = entries.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, entries.size()));
+
+            List<String> keys = new ArrayList<>(chunk.size() + 2);
+            List<Object> args = new ArrayList<>(chunk.size() * 2 + 2);
+            keys.add(EPOCH_KEY);
+            keys.add(AREAS_KEY);
+            args.add(now);
+            args.add(HALF_LIFE_MILLIS);
+
+            for (Map.Entry<Long, Double> entry : chunk) {
+                keys.add(KEY_PREFIX + areaCodes.get(entry.getKey()));
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+            }
+
+            try {
+                redisScriptRegistry.execute(INCREMENT_SCRIPT, Long.class, keys, args.toArray());
+            } catch (Exception e) {
+                log.warn("인기 숙소 점수 반영 실패 - {}건 재적재", chunk.size(), e);
+                chunk.forEach(entry -> record(entry.getKey(), entry.getValue()));
+            }
+        }
+    }
+
+    /**
+     * 모든 지역의 점수를 현재 시점 기준으로 재조정하고 상위 KEEP_PER_AREA 개만 남긴다.
+     */
+    @Scheduled(cron = "0 0 * * * *")
+    @SchedulerLock(name = "trending-rescale")
+    public void rescale() {
+        schedulerLockManager.ensureCurrentLockHeld();
+        redisScriptRegistry.execute(RESCALE_SCRIPT, Long.class, List.of(EPOCH_KEY, AREAS_KEY),
+                System.currentTimeMillis(), HALF_LIFE_MILLIS, KEEP_PER_AREA);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 지역 코드는 숙소 카드(Redis → accommodation_cards)에서 읽어, 별도 로컬 캐시를 두지 않는다
+     */
+    private Map<Long, String> resolveAreaCodes(Set<Long> accommodationIds) {
+        Map<Long, String> result = new HashMap<>();
+        for (AccommodationCardDto card : accommodationCardService.getCards(new ArrayList<>(accommodationIds)).values()) {
+            if (card.areaCode() != null) {
+                result.put(card.accommodationId(), card.areaCode());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,106 @@
+package project.airbnb.clone.service.accommodation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.repository.dto.ViewHistoryUpsertDto;
+import project.airbnb.clone.repository.jdbc.ViewHistoryJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 숙소 상세 조회 이력을 (회원, 숙소) 단위로 모아 두었다가 주기적으로 다중 행 upsert 로 저장하는 write-behind 버퍼
+ * <p>
+ * 같은 회원이 같은 숙소를 여러 번 조회하면 가장 최근 시각 하나만 남는다.
+ * 버퍼가 가득 차면 호출한 스레드가 직접 flush 하여 메모리 사용량을 제한한다(CallerRuns).
+ */
+@Slf4j
+@Component
+public class ViewHistoryWriteBuffer {
+
+    private static final int CAPACITY = 10_000;
+
+    private final MeterRegistry meterRegistry;
+    private final ViewHistoryJdbcRepository viewHistoryJdbcRepository;
+    private final ConcurrentHashMap<ViewKey, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public ViewHistoryWriteBuffer(MeterRegistry meterRegistry, ViewHistoryJdbcRepository viewHistoryJdbcRepository) {
+        this.meterRegistry = meterRegistry;
+        this.viewHistoryJdbcRepository = viewHistoryJdbcRepository;
+        meterRegistry.gaugeMapSize("view.history.buffer.size", List.of(), pending);
+    }
+
+    public void add(Long memberId, Long accommodationId, LocalDateTime viewedAt) {
+        if (pending.size() >= CAPACITY * 2) {
+            // DB 장애로 flush 가 계속 실패하는 경우 무한정 쌓이지 않도록 새 기록은 버린다
+            meterRegistry.counter("view.history.buffer.dropped").increment();
+            return;
+        }
+        merge(memberId, accommodationId, viewedAt);
+
+        if (pending.size() >= CAPACITY) {
+            meterRegistry.counter("view.history.buffer.backpressure").increment();
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<ViewHistoryUpsertDto> rows = new ArrayList<>(pending.size());
+        for (ViewKey key : pending.keySet()) {
+            LocalDateTime viewedAt = pending.remove(key);
+            if (viewedAt != null) {
+                rows.add(new ViewHistoryUpsertDto(key.memberId(), key.accommodationId(), viewedAt));
+            }
+        }
+        rows.sort(Comparator.comparing(ViewHistoryUpsertDto::memberId)
+                            .thenComparing(ViewHistoryUpsertDto::accommodationId));
+
+        try {
+            viewHistoryJdbcRepository.upsertAll(rows);
+            meterRegistry.counter("view.history.buffer.flushed").increment(rows.size());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("조회 이력 일괄 저장 중 제약 조건 위반 - 건별 저장으로 전환: {}건", rows.size());
+            rows.forEach(this::upsertOne);
+        } catch (Exception e) {
+            log.error("조회 이력 저장 실패 - {}건 재적재", rows.size(), e);
+            rows.forEach(row -> merge(row.memberId(), row.accommodationId(), row.viewedAt()));
+        }
+    }
+
+    private void merge(Long memberId, Long accommodationId, LocalDateTime viewedAt) {
+        pending.merge(new ViewKey(memberId, accommodationId), viewedAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    /**
+     * 삭제된 회원/숙소의 이력처럼 저장할 수 없는 행은 버리고 나머지만 저장
+     */
+    private void upsertOne(ViewHistoryUpsertDto row) {
+        try {
+            viewHistoryJdbcRepository.upsertAll(List.of(row));
+            meterRegistry.counter("view.history.buffer.flushed").increment();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("조회 이력 저장 불가로 폐기 - memberId: {}, accommodationId: {}", row.memberId(), row.accommodationId());
+            meterRegistry.counter("view.history.buffer.dropped").increment();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record ViewKey(Long memberId, Long accommodationId) {
+    }
+}
@@ -1,8 +1,10 @@
 package project.airbnb.clone.service.accommodation;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.common.events.wishlist.WishlistAccommodationAddedEvent;
 import project.airbnb.clone.common.exceptions.factory.AccommodationExceptions;
 import project.airbnb.clone.common.exceptions.factory.MemberExceptions;
 import project.airbnb.clone.common.exceptions.factory.WishlistExceptions;
@@ -12,6 +14,8 @@ import project.airbnb.clone.entity.member.Member;
 import project.airbnb.clone.entity.wishlist.Wishlist;
 import project.airbnb.clone.entity.wishlist.WishlistAccommodation;
 import project.airbnb.clone.repository.dto.AccAllImagesQueryDto;
+import project.airbnb.clone.repository.dto.AccMapInfoQueryDto;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
 import project.airbnb.clone.repository.dto.WishlistDetailQueryDto;
 import project.airbnb.clone.repository.jpa.AccommodationRepository;
 import project.airbnb.clone.repository.jpa.MemberRepository;
@@ -33,8 +37,10 @@ public class WishlistService {
 
     private final MemberRepository memberRepository;
     private final WishlistRepository wishlistRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final AccommodationRepository accommodationRepository;
     private final WishlistQueryRepository wishlistQueryRepository;
+    private final AccommodationCardService accommodationCardService;
     private final WishlistAccommodationRepository wishlistAccommodationRepository;
 
     @Transactional
@@ -56,6 +62,7 @@ public class WishlistService {
         Accommodation accommodation = getAccommodationById(accommodationId);
 
         wishlistAccommodationRepository.save(WishlistAccommodation.create(wishlist, accommodation));
+        eventPublisher.publishEvent(new WishlistAccommodationAddedEvent(accommodationId, memberId));
     }
 
     @Transactional
@@ -99,8 +106,16 @@ public class WishlistService {
                                                                       mapping(AccAllImagesQueryDto::imageUrl, toList())
                                                               ));
 
+        Map<Long, AccommodationCardDto> cards = accommodationCardService.getCards(accIds);
+        Map<Long, AccMapInfoQueryDto> mapInfos = wishlistQueryRepository.findMapInfos(accIds);
+
         return detailQueryDtos.stream()
-                              .map(dto -> WishlistDetailResDto.from(dto, imagesMap.getOrDefault(dto.accommodationId(), List.of())))
+                              .filter(dto -> cards.containsKey(dto.accommodationId()) && mapInfos.containsKey(dto.accommodationId()))
+                              .map(dto -> WishlistDetailResDto.from(
+                                      dto,
+                                      cards.get(dto.accommodationId()),
+                                      mapInfos.get(dto.accommodationId()),
+                                      imagesMap.getOrDefault(dto.accommodationId(), List.of())))
                               .toList();
     }
 
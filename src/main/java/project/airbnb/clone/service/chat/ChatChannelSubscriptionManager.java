@@ -0,0 +1,147 @@
+package project.airbnb.clone.service.chat;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static project.airbnb.clone.service.chat.ChatRedisKey.ROOM_CHANNEL;
+
+/**
+ * 로컬 STOMP 구독에 맞춰 채팅방별 Redis 채널을 구독/해지한다
+ * <p>
+ * 이 인스턴스에 /topic/{roomId} 구독자가 한 명이라도 있는 채팅방의 채널만 구독하므로
+ * 다른 인스턴스에서 발행한 메시지는 관심 있는 인스턴스만 받는다.
+ */
+@Component
+public class ChatChannelSubscriptionManager {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/";
+
+    private final MessageListenerAdapter chatListenerAdapter;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChatRecentMessageBuffer chatRecentMessageBuffer;
+
+    /** sessionId -> (subscriptionId -> roomId) */
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new HashMap<>();
+    /** roomId -> 로컬 구독 수 */
+    private final Map<Long, Integer> roomSubscriberCounts = new HashMap<>();
+
+    public ChatChannelSubscriptionManager(@Qualifier("chatListenerAdapter") MessageListenerAdapter chatListenerAdapter,
+                                          RedisMessageListenerContainer listenerContainer,
+                                          ChatRecentMessageBuffer chatRecentMessageBuffer) {
+        this.chatListenerAdapter = chatListenerAdapter;
+        this.listenerContainer = listenerContainer;
+        this.chatRecentMessageBuffer = chatRecentMessageBuffer;
+    }
+
+    /**
+     * 최근 메시지 재전송(ChatRecentMessageReplayer)보다 먼저 채널을 구독하고 버퍼를 연다
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = extractRoomId(accessor.getDestination());
+
+        if (roomId != null && accessor.getSessionId() != null && accessor.getSubscriptionId() != null) {
+            subscribe(accessor.getSessionId(), accessor.getSubscriptionId(), roomId);
+        }
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribe(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    synchronized void subscribe(String sessionId, String subscriptionId, Long roomId) {
+        Long previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new HashMap<>())
+                                            .put(subscriptionId, roomId);
+        if (roomId.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            release(previous);
+        }
+
+        if (roomSubscriberCounts.merge(roomId, 1, Integer::sum) == 1) {
+            chatRecentMessageBuffer.open(roomId);
+            listenerContainer.addMessageListener(chatListenerAdapter, new ChannelTopic(ROOM_CHANNEL.format(roomId)));
+        }
+    }
+
+    synchronized void unsubscribe(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null || subscriptionId == null) {
+            return;
+        }
+
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            sessionSubscriptions.remove(sessionId);
+        }
+        if (roomId != null) {
+            release(roomId);
+        }
+    }
+
+    synchronized void disconnect(String sessionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::release);
+        }
+    }
+
+    synchronized boolean isSubscribed(Long roomId) {
+        return roomSubscriberCounts.containsKey(roomId);
+    }
+
+    /**
+     * 채팅방별 로컬 구독 수 스냅샷
+     */
+    public synchronized Map<Long, Integer> getRoomSubscriberCounts() {
+        return new HashMap<>(roomSubscriberCounts);
+    }
+
+    private void release(Long roomId) {
+        if (!roomSubscriberCounts.containsKey(roomId)) {
+            return;
+        }
+
+        Integer remaining = roomSubscriberCounts.computeIfPresent(roomId, (key, count) -> count > 1 ? count - 1 : null);
+
+        if (remaining == null) {
+            listenerContainer.removeMessageListener(chatListenerAdapter, new ChannelTopic(ROOM_CHANNEL.format(roomId)));
+            chatRecentMessageBuffer.close(roomId);
+        }
+    }
+
+    private Long extractRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+
+        try {
+            return Long.parseLong(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 인스턴스 로컬 채팅방 참여자 캐시 - StompHandler 프레임 인가용
+ * <p>
+ * 채팅방별 참여자 id 를 정렬된 long 배열로 들고 있어 SUBSCRIBE/SEND 검증에 네트워크 호출이 없다.
+ * 참여/나가기 시 chatMembershipTopic 으로 무효화를 발행해 모든 인스턴스가 해당 채팅방을 비운다.
+ * 구독 연결이 끊겨 무효화를 놓치는 경우를 대비해 적재 후 일정 시간이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class ChatMembershipCache {
+
+    static final int MAX_ROOMS = 10_000;
+    static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    static final Duration MAX_AGE = Duration.ofMinutes(30);
+
+    private final ChannelTopic chatMembershipTopic;
+    private final StringRedisTemplate strRedisTemplate;
+    private final Map<Long, Entry> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ChatMembershipCache(MeterRegistry meterRegistry,
+                               ChannelTopic chatMembershipTopic,
+                               StringRedisTemplate strRedisTemplate) {
+        this.chatMembershipTopic = chatMembershipTopic;
+        this.strRedisTemplate = strRedisTemplate;
+        this.hitCounter = meterRegistry.counter("chat.membership.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("chat.membership.cache", "result", "miss");
+        meterRegistry.gaugeMapSize("chat.membership.cache.size", List.of(), rooms);
+    }
+
+    /**
+     * 채팅방 참여 여부, 캐시에 없으면 loader 로 참여자 목록을 읽어 채운다
+     */
+    public boolean isMember(Long roomId, Long memberId, Supplier<long[]> loader) {
+        return Arrays.binarySearch(entry(roomId, loader).members, memberId) >= 0;
+    }
+
+    /**
+     * 채팅방 참여자 id 목록(오름차순), 캐시에 없으면 loader 로 읽어 채운다
+     */
+    public long[] members(Long roomId, Supplier<long[]> loader) {
+        return entry(roomId, loader).members.clone();
+    }
+
+    private Entry entry(Long roomId, Supplier<long[]> loader) {
+        long now = System.nanoTime();
+        Entry entry = rooms.get(roomId);
+
+        if (entry == null || entry.isExpired(now)) {
+            missCounter.increment();
+            entry = load(roomId, loader, now);
+        } else {
+            hitCounter.increment();
+        }
+
+        entry.lastAccess = now;
+        return entry;
+    }
+
+    /**
+     * 채팅방 참여자 변경 - 로컬 캐시를 비우고 다른 인스턴스에 무효화 발행
+     */
+    public void invalidate(Long roomId) {
+        evict(roomId);
+
+        try {
+            strRedisTemplate.convertAndSend(chatMembershipTopic.getTopic(), roomId.toString());
+        } catch (Exception e) {
+            log.warn("채팅방 참여자 캐시 무효화 발행 실패 - roomId: {}", roomId, e);
+        }
+    }
+
+    /**
+     * chatMembershipTopic 구독 - 다른 인스턴스(자신 포함)에서 발행한 무효화 처리
+     */
+    public void handleInvalidation(String roomId) {
+        try {
+            evict(Long.valueOf(roomId.trim()));
+        } catch (NumberFormatException e) {
+            log.warn("채팅방 참여자 캐시 무효화 메시지 파싱 실패: {}", roomId);
+        }
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        rooms.entrySet().removeIf(e -> e.getValue().isIdle(now) || e.getValue().isExpired(now));
+    }
+
+    private Entry load(Long roomId, Supplier<long[]> loader, long now) {
+        long version = invalidations.get();
+
+        long[] members = loader.get().clone();
+        Arrays.sort(members);
+        Entry entry = new Entry(members, now);
+
+        if (rooms.size() >= MAX_ROOMS) {
+            trim();
+        }
+        // 적재 중 무효화가 있었다면 오래된 목록일 수 있으므로 이번 결과만 사용하고 캐시에는 넣지 않는다
+        // 버전 확인과 저장을 같은 키의 compute 안에서 해 evict 의 버전 증가/삭제 사이에 끼어들지 않게 한다
+        rooms.compute(roomId, (key, current) -> invalidations.get() == version ? entry : current);
+        return entry;
+    }
+
+    private void evict(Long roomId) {
+        rooms.compute(roomId, (key, current) -> {
+            invalidations.incrementAndGet();
+            return null;
+        });
+    }
+
+    /**
+     * 용량 초과 시 가장 오래 사용하지 않은 채팅방부터 10% 를 비운다
+     */
+    private synchronized void trim() {
+        evictIdle();
+
+        int excess = rooms.size() - MAX_ROOMS * 9 / 10;
+        if (excess <= 0) {
+            return;
+        }
+
+        // 정렬 중 lastAccess 가 바뀌지 않도록 값을 먼저 복사한다
+        rooms.entrySet()
+             .stream()
+             .map(e -> Map.entry(e.getKey(), e.getValue().lastAccess))
+             .toList()
+             .stream()
+             .sorted(Map.Entry.comparingByValue())
+             .limit(excess)
+             .map(Map.Entry::getKey)
+             .forEach(rooms::remove);
+    }
+
+    int size() {
+        return rooms.size();
+    }
+
+    private static final class Entry {
+
+        private final long[] members;
+        private final long loadedAt;
+        private volatile long lastAccess;
+
+        private Entry(long[] members, long loadedAt) {
+            this.members = members;
+            this.loadedAt = loadedAt;
+            this.lastAccess = loadedAt;
+        }
+
+        private boolean isIdle(long now) {
+            return now - lastAccess > IDLE_TIMEOUT.toNanos();
+        }
+
+        private boolean isExpired(long now) {
+            return now - loadedAt > MAX_AGE.toNanos();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.airbnb.clone.common.annotations.SchedulerLock;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.common.lock.SchedulerLockLostException;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
+import project.airbnb.clone.repository.archive.ChatMessageArchiveRepository;
+import project.airbnb.clone.repository.dto.ChatArchivedMessageDto;
+import project.airbnb.clone.repository.jdbc.ChatArchiveJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 오래된 채팅 메시지를 채팅방별 압축 세그먼트로 옮기는 보관 작업
+ * <p>
+ * 채팅방마다 보관 기준보다 오래된 메시지를 오래된 순으로 SEGMENT_SIZE 개씩 새 세그먼트로 저장하고 chat_messages 에서 지운다.
+ * 보관된 메시지는 {@link project.airbnb.clone.repository.facade.ChatRepositoryFacadeManager#getMessages} 가 이어서 조회한다.
+ */
+@Slf4j
+@Service
+public class ChatMessageArchiver {
+
+    private static final int ROOM_CHUNK_SIZE = 500;
+    static final int SEGMENT_SIZE = 4096;
+
+    private final MeterRegistry meterRegistry;
+    private final SchedulerLockManager schedulerLockManager;
+    private final ChatArchiveJdbcRepository chatArchiveJdbcRepository;
+    private final ChatMessageArchiveRepository chatMessageArchiveRepository;
+    private final int archiveAfterDays;
+
+    public ChatMessageArchiver(MeterRegistry meterRegistry,
+                               SchedulerLockManager schedulerLockManager,
+                               ChatArchiveJdbcRepository chatArchiveJdbcRepository,
+                               ChatMessageArchiveRepository chatMessageArchiveRepository,
+                               @Value("${chat.archive.after-days:180}") int archiveAfterDays) {
+        this.meterRegistry = meterRegistry;
+        this.schedulerLockManager = schedulerLockManager;
+        this.chatArchiveJdbcRepository = chatArchiveJdbcRepository;
+        this.chatMessageArchiveRepository = chatMessageArchiveRepository;
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    @Scheduled(cron = "0 30 4 * * *")
+    @SchedulerLock(name = "chat-message-archive", lockAtLeastMillis = 60_000)
+    public void archive() {
+        int total = archiveBefore(LocalDateTime.now().minusDays(archiveAfterDays));
+        log.info("채팅 메시지 보관 완료 - {}건", total);
+    }
+
+    int archiveBefore(LocalDateTime cutoffAt) {
+        long cutoffId = SnowflakeIdGenerator.minIdAt(cutoffAt.atZone(ZoneId.systemDefault()).toInstant());
+        long lastRoomId = 0L;
+        int total = 0;
+
+        while (true) {
+            List<Long> roomIds = chatArchiveJdbcRepository.findChatRoomIdsAfter(lastRoomId, ROOM_CHUNK_SIZE);
+            if (roomIds.isEmpty()) {
+                break;
+            }
+
+            for (Long roomId : roomIds) {
+                total += archiveRoom(roomId, cutoffId, cutoffAt);
+            }
+            lastRoomId = roomIds.get(roomIds.size() - 1);
+        }
+        return total;
+    }
+
+    private int archiveRoom(Long roomId, long cutoffId, LocalDateTime cutoffAt) {
+        int archived = 0;
+
+        try {
+            while (true) {
+                List<ChatArchivedMessageDto> messages = chatArchiveJdbcRepository.findArchivableMessages(roomId, cutoffId, cutoffAt, SEGMENT_SIZE);
+                if (messages.isEmpty()) {
+                    break;
+                }
+
+                schedulerLockManager.ensureCurrentLockHeld();
+                chatMessageArchiveRepository.append(roomId, messages);
+                archived += messages.size();
+                meterRegistry.counter("chat.archive.segments").increment();
+
+                if (messages.size() < SEGMENT_SIZE) {
+                    break;
+                }
+            }
+        } catch (SchedulerLockLostException e) {
+            throw e;
+        } catch (Exception e) {
+            // 실패한 채팅방은 원본이 그대로 남으므로 다음 회차에 다시 보관한다
+            meterRegistry.counter("chat.archive.failures").increment();
+            log.error("채팅 메시지 보관 실패 - roomId: {}", roomId, e);
+        }
+
+        meterRegistry.counter("chat.archive.messages").increment(archived);
+        return archived;
+    }
+}
@@ -1,66 +1,333 @@
 package project.airbnb.clone.service.chat;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-import project.airbnb.clone.common.exceptions.factory.MemberExceptions;
-import project.airbnb.clone.dto.chat.ChatMessageResDto;
-import project.airbnb.clone.entity.chat.ChatMessage;
-import project.airbnb.clone.entity.chat.ChatRoom;
-import project.airbnb.clone.entity.member.Member;
-import project.airbnb.clone.repository.facade.ChatRepositoryFacadeManager;
-import project.airbnb.clone.repository.jpa.MemberRepository;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+import project.airbnb.clone.repository.jdbc.ChatMessageJdbcRepository;
+import project.airbnb.clone.repository.redis.RedisScriptRegistry;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+/**
+ * chat:stream 에 쌓인 메시지를 컨슈머 그룹으로 읽어 DB 에 저장하는 워커
+ * <p>
+ * 인스턴스마다 고유한 컨슈머 이름으로 XREADGROUP 하므로 여러 인스턴스가 동시에 돌아도 메시지가 나뉘어 처리된다.
+ * 저장에 성공한 배치만 XACK 하고, 죽은 컨슈머에 남은 pending 항목은 일정 시간 뒤 다른 컨슈머가 가져와 다시 저장한다.
+ */
 @Slf4j
 @Component
 public class ChatMessageBatchService {
 
-    private final ObjectMapper redisObjMapper;
-    private final MemberRepository memberRepository;
+    private static final String STREAM_KEY = ChatRedisKey.MESSAGE_STREAM.getTemplate();
+    private static final String LEGACY_QUEUE_KEY = ChatRedisKey.MESSAGE_QUEUE.getTemplate();
+    private static final String DEAD_LETTER_KEY = STREAM_KEY + ":dead";
+    private static final String GROUP = "chat-persist";
+    private static final String TRIM_SCRIPT = "chat-stream-trim";
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int MAX_DELIVERIES = 5;
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofMinutes(1);
+    private static final Duration CONSUMER_MAX_IDLE = Duration.ofHours(1);
+
+    private final MeterRegistry meterRegistry;
+    private final ChatRedisService chatRedisService;
+    private final StringRedisTemplate strRedisTemplate;
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ChatRepositoryFacadeManager chatRepositoryFacade;
+    private final RedisScriptRegistry redisScriptRegistry;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
 
-    public ChatMessageBatchService(@Qualifier("redisObjMapper") ObjectMapper redisObjMapper,
-                                   MemberRepository memberRepository,
+    private final String consumerName = "consumer-" + UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong pendingGauge = new AtomicLong();
+    private final AtomicLong lengthGauge = new AtomicLong();
+    private volatile boolean groupReady;
+
+    public ChatMessageBatchService(MeterRegistry meterRegistry,
+                                   ChatRedisService chatRedisService,
+                                   StringRedisTemplate strRedisTemplate,
                                    RedisTemplate<String, Object> redisTemplate,
-                                   ChatRepositoryFacadeManager chatRepositoryFacade) {
-        this.redisObjMapper = redisObjMapper;
-        this.memberRepository = memberRepository;
+                                   RedisScriptRegistry redisScriptRegistry,
+                                   ChatMessageJdbcRepository chatMessageJdbcRepository) {
+        this.meterRegistry = meterRegistry;
+        this.chatRedisService = chatRedisService;
+        this.strRedisTemplate = strRedisTemplate;
         this.redisTemplate = redisTemplate;
-        this.chatRepositoryFacade = chatRepositoryFacade;
+        this.redisScriptRegistry = redisScriptRegistry;
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+
+        meterRegistry.gauge("chat.stream.pending", pendingGauge);
+        meterRegistry.gauge("chat.stream.length", lengthGauge);
+    }
+
+    /**
+     * 새 메시지를 배치 단위로 읽어 저장, 한 번에 최대 MAX_BATCHES_PER_RUN 배치까지만 처리해 스케줄러 스레드를 오래 잡지 않는다
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void consumeMessages() {
+        if (!ensureGroup()) return;
+
+        Consumer consumer = Consumer.from(GROUP, consumerName);
+        StreamReadOptions options = StreamReadOptions.empty().count(BATCH_SIZE);
+
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            List<MapRecord<String, Object, Object>> records =
+                    streamOps().read(consumer, options, StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+            if (records == null || records.isEmpty()) {
+                return;
+            }
+
+            persistAndAck(records);
+            if (records.size() < BATCH_SIZE) {
+                return;
+            }
+        }
     }
 
+    /**
+     * 오래 확인되지 않은 pending 항목 회수, 처리된 항목 trim, 유휴 컨슈머 정리, 지표 갱신
+     */
     @Scheduled(fixedDelay = 30000)
-    @Transactional
-    public void flushMessagesToDB() {
-        String queueKey = "chat:queue";
-        String backupKey = "chat:queue:backup";
-
-        if (!redisTemplate.hasKey(queueKey)) return;
-
-        redisTemplate.rename(queueKey, backupKey);
-
-        List<Object> rawMessages = redisTemplate.opsForList().range(backupKey, 0, -1);
-        if (rawMessages == null || rawMessages.isEmpty()) return;
-
-        List<ChatMessage> entities = rawMessages.stream()
-                                                .map(obj -> redisObjMapper.convertValue(obj, ChatMessageResDto.class))
-                                                .map(dto -> {
-                                                    ChatRoom room = chatRepositoryFacade.getChatRoomByRoomId(dto.getRoomId());
-                                                    Member writer = memberRepository.findById(dto.getSenderId())
-                                                                                    .orElseThrow(() -> MemberExceptions.notFoundById(dto.getSenderId()));
-                                                    return ChatMessage.create(room, writer, dto.getContent());
-                                                })
-                                                .toList();
-        if (!entities.isEmpty()) {
-            chatRepositoryFacade.saveAllChatMessages(entities);
-            redisTemplate.delete(backupKey);
+    public void maintainStream() {
+        if (!ensureGroup()) return;
+
+        reclaimPending();
+        redisScriptRegistry.execute(TRIM_SCRIPT, Long.class, List.of(STREAM_KEY), GROUP);
+        removeIdleConsumers();
+
+        pendingGauge.set(streamOps().pending(STREAM_KEY, GROUP).getTotalPendingMessages());
+        lengthGauge.set(streamOps().size(STREAM_KEY));
+    }
+
+    private void reclaimPending() {
+        List<RecordId> idleIds = streamOps().pending(STREAM_KEY, GROUP, Range.unbounded(), BATCH_SIZE)
+                                            .stream()
+                                            .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0)
+                                            .map(PendingMessage::getId)
+                                            .toList();
+        if (idleIds.isEmpty()) {
+            return;
+        }
+
+        List<MapRecord<String, Object, Object>> claimed =
+                streamOps().claim(STREAM_KEY, GROUP, consumerName, CLAIM_MIN_IDLE, idleIds.toArray(RecordId[]::new));
+        meterRegistry.counter("chat.stream.reclaimed").increment(claimed.size());
+
+        Set<RecordId> exhaustedIds = streamOps().pending(STREAM_KEY, Consumer.from(GROUP, consumerName), Range.unbounded(), BATCH_SIZE)
+                                                .stream()
+                                                .filter(message -> message.getTotalDeliveryCount() > MAX_DELIVERIES)
+                                                .map(PendingMessage::getId)
+                                                .collect(Collectors.toSet());
+
+        List<MapRecord<String, Object, Object>> exhausted = claimed.stream()
+                                                                   .filter(record -> exhaustedIds.contains(record.getId()))
+                                                                   .toList();
+        if (!exhausted.isEmpty()) {
+            moveToDeadLetter(exhausted, MAX_DELIVERIES + "회 넘게 저장 실패");
+        }
+
+        List<MapRecord<String, Object, Object>> retry = claimed.stream()
+                                                               .filter(record -> !exhaustedIds.contains(record.getId()))
+                                                               .toList();
+        if (!retry.isEmpty()) {
+            persistAndAck(retry);
+        }
+    }
+
+    /**
+     * 저장할 수 없는 메시지는 원본 필드 그대로 별도 스트림에 보관하고 본 스트림에서는 확인 처리한다
+     */
+    private void moveToDeadLetter(List<MapRecord<String, Object, Object>> records, String reason) {
+        log.error("채팅 메시지 {}건을 {} 로 이동 - {}", records.size(), DEAD_LETTER_KEY, reason);
+
+        records.forEach(record -> streamOps().add(StreamRecords.mapBacked(record.getValue()).withStreamKey(DEAD_LETTER_KEY)));
+        streamOps().acknowledge(STREAM_KEY, GROUP, records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+        meterRegistry.counter("chat.stream.dead").increment(records.size());
+    }
+
+    private void removeIdleConsumers() {
+        streamOps().consumers(STREAM_KEY, GROUP).stream().forEach(info -> {
+            if (!info.consumerName().equals(consumerName)
+                    && info.pendingCount() == 0
+                    && info.idleTimeMs() > CONSUMER_MAX_IDLE.toMillis()) {
+                streamOps().deleteConsumer(STREAM_KEY, Consumer.from(GROUP, info.consumerName()));
+            }
+        });
+    }
+
+    /**
+     * 배치를 한 번에 저장하고 확인 처리, 배치 저장이 실패하면 건별로 다시 저장해 저장할 수 없는 메시지만 dead letter 로 보낸다
+     * <p>
+     * DB 장애처럼 건별 저장도 실패하는 경우에는 확인 처리하지 않고 예외를 던져 pending 으로 남긴다(이후 reclaim 에서 재시도).
+     */
+    private void persistAndAck(List<MapRecord<String, Object, Object>> records) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Map<RecordId, ChatMessageInsertDto> messages = new LinkedHashMap<>();
+        List<MapRecord<String, Object, Object>> malformed = new ArrayList<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                messages.put(record.getId(), toInsertDto(record.getId(), record.getValue()));
+            } catch (RuntimeException e) {
+                malformed.add(record);
+            }
+        }
+        if (!malformed.isEmpty()) {
+            moveToDeadLetter(malformed, "형식 오류");
+        }
+
+        Set<Long> roomIds = chatMessageJdbcRepository.findExistingChatRoomIds(
+                messages.values().stream().map(ChatMessageInsertDto::chatRoomId).collect(Collectors.toSet()));
+        Set<Long> memberIds = chatMessageJdbcRepository.findExistingMemberIds(
+                messages.values().stream().map(ChatMessageInsertDto::writerId).collect(Collectors.toSet()));
+
+        Map<RecordId, ChatMessageInsertDto> valid = new LinkedHashMap<>();
+        messages.forEach((id, message) -> {
+            if (roomIds.contains(message.chatRoomId()) && memberIds.contains(message.writerId())) {
+                valid.put(id, message);
+            }
+        });
+
+        int dropped = messages.size() - valid.size();
+        if (dropped > 0) {
+            log.warn("존재하지 않는 채팅방/회원의 메시지 {}건 제외", dropped);
+            meterRegistry.counter("chat.stream.dropped").increment(dropped);
+        }
+
+        List<MapRecord<String, Object, Object>> rejected = List.of();
+        try {
+            chatMessageJdbcRepository.insertAll(List.copyOf(valid.values()));
+        } catch (DataAccessException e) {
+            log.warn("채팅 메시지 일괄 저장 실패 - 건별 저장으로 재시도: {}건", valid.size(), e);
+            rejected = persistOneByOne(records, valid);
+        }
+
+        if (!rejected.isEmpty()) {
+            moveToDeadLetter(rejected, "저장 불가");
+            rejected.forEach(record -> messages.remove(record.getId()));
+        }
+        if (!messages.isEmpty()) {
+            streamOps().acknowledge(STREAM_KEY, GROUP, messages.keySet().toArray(RecordId[]::new));
         }
+
+        meterRegistry.counter("chat.stream.persisted").increment(valid.size() - rejected.size());
+        sample.stop(meterRegistry.timer("chat.stream.persist.duration"));
+    }
+
+    /**
+     * 메시지를 한 건씩 저장해 제약 조건 위반 등으로 저장할 수 없는 메시지만 골라낸다
+     *
+     * @return 저장하지 못한 레코드
+     */
+    private List<MapRecord<String, Object, Object>> persistOneByOne(List<MapRecord<String, Object, Object>> records,
+                                                                    Map<RecordId, ChatMessageInsertDto> valid) {
+        List<MapRecord<String, Object, Object>> rejected = new ArrayList<>();
+
+        for (MapRecord<String, Object, Object> record : records) {
+            ChatMessageInsertDto message = valid.get(record.getId());
+            if (message == null) {
+                continue;
+            }
+            try {
+                chatMessageJdbcRepository.insertAll(List.of(message));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("저장할 수 없는 채팅 메시지 - id: {}, roomId: {}", message.id(), message.chatRoomId(), e);
+                rejected.add(record);
+            }
+        }
+        return rejected;
+    }
+
+    private ChatMessageInsertDto toInsertDto(RecordId recordId, Map<Object, Object> fields) {
+        return new ChatMessageInsertDto(
+                toMessageId(recordId, (String) fields.get("messageId")),
+                Long.valueOf((String) fields.get("roomId")),
+                Long.valueOf((String) fields.get("senderId")),
+                (String) fields.get("content"),
+                LocalDateTime.parse((String) fields.get("sentAt")));
+    }
+
+    /**
+     * 이전 LIST 큐에서 옮겨온 메시지는 UUID id 를 가지므로 스트림 항목 id 로 id 를 만든다
+     * <p>
+     * 재전달될 때마다 같은 id 가 나오므로 중복 저장되지 않는다.
+     */
+    private long toMessageId(RecordId recordId, String messageId) {
+        try {
+            return Long.parseLong(messageId);
+        } catch (NumberFormatException e) {
+            return SnowflakeIdGenerator.reservedIdAt(recordId.getTimestamp(), recordId.getSequence());
+        }
+    }
+
+    /**
+     * 컨슈머 그룹이 없으면 스트림과 함께 생성하고, 이전 LIST 큐에 남아 있던 메시지를 스트림으로 옮긴다
+     */
+    private boolean ensureGroup() {
+        if (groupReady) return true;
+
+        try {
+            strRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands().xGroupCreate(
+                    STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (RedisSystemException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                log.error("채팅 스트림 컨슈머 그룹 생성 실패", e);
+                return false;
+            }
+        }
+
+        migrateLegacyQueue(LEGACY_QUEUE_KEY);
+        migrateLegacyQueue(LEGACY_QUEUE_KEY + ":backup");
+        groupReady = true;
+        return true;
+    }
+
+    private void migrateLegacyQueue(String key) {
+        int migrated = 0;
+        List<Object> rawMessages;
+
+        while ((rawMessages = redisTemplate.opsForList().leftPop(key, BATCH_SIZE)) != null && !rawMessages.isEmpty()) {
+            rawMessages.forEach(raw -> chatRedisService.addMessageToStream(chatRedisService.convert(raw)));
+            migrated += rawMessages.size();
+        }
+
+        if (migrated > 0) {
+            log.info("{} 의 메시지 {}건을 채팅 스트림으로 이전", key, migrated);
+        }
+    }
+
+    private StreamOperations<String, Object, Object> streamOps() {
+        return strRedisTemplate.opsForStream();
     }
 }
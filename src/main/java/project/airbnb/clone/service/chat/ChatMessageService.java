@@ -1,52 +1,111 @@
 package project.airbnb.clone.service.chat;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.common.exceptions.factory.ChatExceptions;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.common.search.BigramTokenizer;
 import project.airbnb.clone.dto.chat.ChatMessageReqDto;
 import project.airbnb.clone.dto.chat.ChatMessageResDto;
+import project.airbnb.clone.dto.chat.ChatMessageSearchResDto;
 import project.airbnb.clone.dto.chat.ChatMessagesResDto;
 import project.airbnb.clone.repository.facade.ChatRepositoryFacadeManager;
+import project.airbnb.clone.repository.jdbc.ChatMessageTokenJdbcRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+    private static final int MAX_SEARCH_QUERY_LENGTH = 50;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    private static final int SEARCH_SCAN_SIZE = 200;
+    private static final int SEARCH_MAX_SCANS = 10;
+
+    private final MeterRegistry meterRegistry;
     private final ChatRoomService chatRoomService;
     private final ChatRedisService chatRedisService;
+    private final SnowflakeIdGenerator snowflakeIdGenerator;
+    private final ChatRecentMessageBuffer chatRecentMessageBuffer;
     private final ChatRepositoryFacadeManager chatRepositoryFacade;
+    private final ChatMessageTokenJdbcRepository chatMessageTokenJdbcRepository;
 
     /**
      * 메시지 기록 조회(커서 기반)
+     * <p>
+     * 아직 DB 에 저장되지 않은 최근 메시지는 Redis 캐시에만 있으므로, 같은 커서 조건으로 캐시와 DB 를 id 순으로 합친다.
      *
      * @param lastMessageId 마지막 조회 메시지
      * @param roomId        채팅방
      * @param pageSize      조회 개수
      */
     public ChatMessagesResDto getMessageHistories(Long lastMessageId, Long roomId, int pageSize) {
-        List<ChatMessageResDto> fetchedMessages = chatRepositoryFacade.getMessages(lastMessageId, roomId, pageSize);
-        List<ChatMessageResDto> resultMessages = new ArrayList<>(fetchedMessages);
-
         if (lastMessageId == null) {
-            List<Object> cachedRaw = chatRedisService.getCachedRaw(roomId);
+            return getRecentMessages(roomId, pageSize);
+        }
+        return loadMessageHistories(lastMessageId, roomId, pageSize);
+    }
+
+    /**
+     * 최근 메시지 조회 - 로컬 버퍼로 응답할 수 있으면 캐시/DB 를 조회하지 않는다
+     * <p>
+     * 버퍼로 응답할 수 없으면 버퍼 크기만큼 읽어 채운 뒤 응답한다(버퍼가 열려 있는 채팅방만 채워진다).
+     *
+     * @param roomId   채팅방
+     * @param pageSize 조회 개수
+     */
+    public ChatMessagesResDto getRecentMessages(Long roomId, int pageSize) {
+        Optional<ChatMessagesResDto> buffered = chatRecentMessageBuffer.recent(roomId, pageSize);
+        if (buffered.isPresent()) {
+            return buffered.get();
+        }
+
+        int loadSize = Math.max(pageSize, ChatRecentMessageBuffer.CAPACITY);
+        ChatMessagesResDto loaded = loadMessageHistories(null, roomId, loadSize);
+        chatRecentMessageBuffer.seed(roomId, loaded.messages(), !loaded.hasMore());
+
+        if (loaded.messages().size() <= pageSize) {
+            return loaded;
+        }
+        return new ChatMessagesResDto(loaded.messages().subList(0, pageSize), true);
+    }
+
+    private ChatMessagesResDto loadMessageHistories(Long lastMessageId, Long roomId, int pageSize) {
+        NavigableMap<Long, ChatMessageResDto> merged = new TreeMap<>(Comparator.reverseOrder());
+
+        chatRepositoryFacade.getMessages(lastMessageId, roomId, pageSize)
+                            .forEach(message -> merged.put(Long.valueOf(message.getMessageId()), message));
 
-            if (cachedRaw != null && !cachedRaw.isEmpty()) {
-                List<ChatMessageResDto> cachedData =
-                        cachedRaw.stream()
-                                 .map(chatRedisService::convert)
-                                 .filter(m -> fetchedMessages.isEmpty() || m.getTimestamp().isAfter(fetchedMessages.get(0).getTimestamp()))
-                                 .toList();
+        List<Object> cachedRaw = chatRedisService.getCachedRaw(roomId);
+        if (cachedRaw != null) {
+            for (Object raw : cachedRaw) {
+                ChatMessageResDto cached = chatRedisService.convert(raw);
+                Long id = parseMessageId(cached.getMessageId());
 
-                resultMessages.addAll(0, cachedData);
+                if (id != null && (lastMessageId == null || id < lastMessageId)) {
+                    merged.putIfAbsent(id, cached);
+                }
             }
         }
 
+        List<ChatMessageResDto> resultMessages = merged.values()
+                                                       .stream()
+                                                       .limit(pageSize + 1L)
+                                                       .collect(Collectors.toCollection(ArrayList::new));
         boolean hasMore = resultMessages.size() > pageSize;
 
         if (hasMore) {
@@ -57,25 +116,123 @@ public class ChatMessageService {
     }
 
     /**
-     * 메시지 전송 처리(읽지 않은 메시지 증가/메시지큐 저장/캐시 저장)
+     * 채팅방 메시지 검색(커서 기반)
+     * <p>
+     * 검색어의 첫 토큰으로 역색인을 최신순으로 읽고, 나머지 토큰을 모두 포함하는 후보만 본문으로 다시 확인한다.
+     * 한 요청에서 읽는 색인 범위가 정해져 있어 기록이 길어져도 응답 시간이 일정하며, 다 채우지 못하면 nextCursor 부터 이어서 검색한다.
+     * 아직 DB 에 저장되지 않은 메시지는 저장된 이후부터 검색된다.
+     *
+     * @param roomId        채팅방
+     * @param memberId      사용자
+     * @param query         검색어
+     * @param lastMessageId 이전 검색의 nextCursor
+     * @param pageSize      조회 개수(1 ~ 100)
+     */
+    public ChatMessageSearchResDto searchMessages(Long roomId, Long memberId, String query, Long lastMessageId, int pageSize) {
+        if (!chatRoomService.isChatRoomParticipant(roomId, memberId)) {
+            throw ChatExceptions.notFoundChatParticipant(roomId, memberId);
+        }
+
+        List<String> terms = BigramTokenizer.terms(query);
+        if (terms.isEmpty() || query.length() > MAX_SEARCH_QUERY_LENGTH) {
+            throw ChatExceptions.invalidSearchQuery(query);
+        }
+        if (pageSize <= 0 || pageSize > MAX_SEARCH_PAGE_SIZE) {
+            throw ChatExceptions.invalidSearchPageSize(pageSize);
+        }
+
+        List<String> tokens = List.copyOf(BigramTokenizer.tokenize(query));
+        List<ChatMessageResDto> matched = new ArrayList<>();
+        Long cursor = lastMessageId;
+        boolean exhausted = false;
+
+        for (int scan = 0; scan < SEARCH_MAX_SCANS && matched.size() < pageSize && !exhausted; scan++) {
+            List<Long> candidates = chatMessageTokenJdbcRepository.findMessageIds(roomId, tokens.get(0), cursor, SEARCH_SCAN_SIZE);
+            Map<Long, ChatMessageResDto> hits = loadSearchHits(roomId, tokens, terms, candidates);
+
+            exhausted = candidates.size() < SEARCH_SCAN_SIZE;
+            for (Long id : candidates) {
+                cursor = id;
+                ChatMessageResDto hit = hits.get(id);
+
+                if (hit != null) {
+                    matched.add(hit);
+                    if (matched.size() == pageSize) {
+                        exhausted = exhausted && id.equals(candidates.get(candidates.size() - 1));
+                        break;
+                    }
+                }
+            }
+        }
+
+        return new ChatMessageSearchResDto(matched, !exhausted, exhausted ? null : cursor);
+    }
+
+    private Map<Long, ChatMessageResDto> loadSearchHits(Long roomId, List<String> tokens, List<String> terms, List<Long> candidates) {
+        Collection<Long> containingAll = tokens.size() == 1
+                ? candidates
+                : chatMessageTokenJdbcRepository.findMessageIdsContainingAll(roomId, tokens, candidates);
+        if (containingAll.isEmpty()) {
+            return Map.of();
+        }
+
+        return chatRepositoryFacade.getMessagesByIds(roomId, containingAll)
+                                   .stream()
+                                   .filter(message -> BigramTokenizer.containsAll(message.getContent(), terms))
+                                   .collect(Collectors.toMap(message -> Long.valueOf(message.getMessageId()), message -> message));
+    }
+
+    private Long parseMessageId(String messageId) {
+        try {
+            return Long.valueOf(messageId);
+        } catch (NumberFormatException e) {
+            // 이전 UUID id 캐시 항목은 커서로 비교할 수 없으므로 제외한다
+            return null;
+        }
+    }
+
+    /**
+     * 메시지 전송(참여 검증/읽지 않은 메시지 증가/저장 스트림 적재/캐시 저장/발행)
+     * <p>
+     * Redis 참여자 캐시가 없으면 DB 로 한 번 재구성한 뒤, 로컬 참여자 캐시가 오래됐으면 다시 읽은 뒤 한 번 더 시도한다.
      *
      * @param roomId         채팅방
      * @param chatMessageDto 전송자, 메시지 내용
      */
-    public void handleMessagePostProcess(Long roomId, ChatMessageReqDto chatMessageDto) {
+    public void sendMessage(Long roomId, ChatMessageReqDto chatMessageDto) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         Long senderId = chatMessageDto.senderId();
 
         ChatMessageResDto responseDto = ChatMessageResDto.builder()
-                                                         .messageId(UUID.randomUUID().toString())
+                                                         .messageId(String.valueOf(snowflakeIdGenerator.nextId()))
                                                          .roomId(roomId)
                                                          .senderId(senderId)
                                                          .content(chatMessageDto.content())
                                                          .timestamp(LocalDateTime.now())
                                                          .left(false)
+                                                         .publishedAt(System.currentTimeMillis())
                                                          .build();
-        chatRoomService.getOpponentId(roomId, senderId)
-                       .ifPresent(opponentId -> chatRedisService.incrementUnreadCount(roomId, senderId));
-        chatRedisService.addMessageToQueueAndCache(roomId, responseDto);
-        chatRedisService.publish(responseDto);
+
+        ChatSendResult result = chatRedisService.sendMessage(responseDto, chatRoomService.getParticipantIds(roomId));
+        if (result == ChatSendResult.MEMBERS_NOT_CACHED) {
+            long refreshStarted = System.nanoTime();
+            chatRoomService.refreshChatMembers(roomId);
+            chatRedisService.recordStage("member_refresh", System.nanoTime() - refreshStarted);
+
+            result = chatRedisService.sendMessage(responseDto, chatRoomService.getParticipantIds(roomId));
+        }
+        if (result == ChatSendResult.MEMBERS_CHANGED) {
+            chatRoomService.evictParticipantIds(roomId);
+            result = chatRedisService.sendMessage(responseDto, chatRoomService.getParticipantIds(roomId));
+        }
+
+        sample.stop(meterRegistry.timer("chat.send.duration", "result", result.name().toLowerCase()));
+
+        if (result == ChatSendResult.PARTICIPANT_LEFT) {
+            throw ChatExceptions.participantLeft(roomId, senderId);
+        }
+        if (result != ChatSendResult.SENT) {
+            throw ChatExceptions.notFoundChatParticipant(roomId, senderId);
+        }
     }
 }
@@ -0,0 +1,124 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.repository.dto.ChatReadReceiptDto;
+import project.airbnb.clone.repository.jdbc.ChatMessageJdbcRepository;
+import project.airbnb.clone.repository.jdbc.ChatParticipantJdbcRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 읽음 처리를 (채팅방, 회원) 단위로 모아 두었다가 주기적으로 일괄 UPDATE 하는 write-behind 버퍼
+ * <p>
+ * 같은 참여자의 읽음 처리는 가장 큰 메시지 id 하나만 남으므로, 몇 번을 읽어도 주기마다 한 번만 저장된다.
+ * 메시지는 스트림을 거쳐 비동기로 저장되므로, 읽은 메시지가 아직 DB 에 없으면 저장될 때까지 버퍼에 남겨 둔다.
+ */
+@Slf4j
+@Component
+public class ChatReadReceiptWriteBuffer {
+
+    private static final int CAPACITY = 10_000;
+    /** 메시지 id 의 발급 시각 이후 이 시간이 지나도 저장되지 않았다면(보관 이동, 잘못된 id) 버린다 */
+    private static final Duration MAX_WAIT_FOR_MESSAGE = Duration.ofMinutes(10);
+
+    private final MeterRegistry meterRegistry;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
+    private final ChatParticipantJdbcRepository chatParticipantJdbcRepository;
+    private final ConcurrentHashMap<ReceiptKey, Long> pending = new ConcurrentHashMap<>();
+
+    public ChatReadReceiptWriteBuffer(MeterRegistry meterRegistry,
+                                      ChatMessageJdbcRepository chatMessageJdbcRepository,
+                                      ChatParticipantJdbcRepository chatParticipantJdbcRepository) {
+        this.meterRegistry = meterRegistry;
+        this.chatMessageJdbcRepository = chatMessageJdbcRepository;
+        this.chatParticipantJdbcRepository = chatParticipantJdbcRepository;
+        meterRegistry.gaugeMapSize("chat.read.buffer.size", List.of(), pending);
+    }
+
+    public void add(Long roomId, Long memberId, Long readUpToId) {
+        if (pending.size() >= CAPACITY * 2) {
+            // DB 장애로 flush 가 계속 실패하는 경우 무한정 쌓이지 않도록 새 기록은 버린다
+            meterRegistry.counter("chat.read.buffer.dropped").increment();
+            return;
+        }
+        merge(roomId, memberId, readUpToId);
+        meterRegistry.counter("chat.read.buffer.received").increment();
+
+        if (pending.size() >= CAPACITY) {
+            meterRegistry.counter("chat.read.buffer.backpressure").increment();
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<ChatReadReceiptDto> rows = new ArrayList<>(pending.size());
+        for (ReceiptKey key : pending.keySet()) {
+            Long readUpToId = pending.remove(key);
+            if (readUpToId != null) {
+                rows.add(new ChatReadReceiptDto(key.roomId(), key.memberId(), readUpToId));
+            }
+        }
+        rows.sort(Comparator.comparing(ChatReadReceiptDto::chatRoomId)
+                            .thenComparing(ChatReadReceiptDto::memberId));
+
+        try {
+            List<ChatReadReceiptDto> ready = excludeUnsaved(rows);
+            chatParticipantJdbcRepository.updateLastReadMessages(ready);
+            meterRegistry.counter("chat.read.buffer.flushed").increment(ready.size());
+        } catch (Exception e) {
+            log.error("채팅 읽음 처리 저장 실패 - {}건 재적재", rows.size(), e);
+            rows.forEach(row -> merge(row.chatRoomId(), row.memberId(), row.readUpToId()));
+        }
+    }
+
+    /**
+     * 읽은 메시지가 아직 저장되지 않은 읽음 처리는 다음 주기로 미루고, 기다릴 시간이 지났으면 버린다
+     */
+    private List<ChatReadReceiptDto> excludeUnsaved(List<ChatReadReceiptDto> rows) {
+        Set<Long> savedIds = chatMessageJdbcRepository.findExistingMessageIds(
+                rows.stream().map(ChatReadReceiptDto::readUpToId).collect(Collectors.toSet()));
+
+        long expiredBefore = SnowflakeIdGenerator.minIdAt(Instant.now().minus(MAX_WAIT_FOR_MESSAGE));
+        List<ChatReadReceiptDto> ready = new ArrayList<>(rows.size());
+        for (ChatReadReceiptDto row : rows) {
+            if (savedIds.contains(row.readUpToId())) {
+                ready.add(row);
+            } else if (row.readUpToId() < expiredBefore) {
+                meterRegistry.counter("chat.read.buffer.expired").increment();
+            } else {
+                meterRegistry.counter("chat.read.buffer.deferred").increment();
+                merge(row.chatRoomId(), row.memberId(), row.readUpToId());
+            }
+        }
+        return ready;
+    }
+
+    private void merge(Long roomId, Long memberId, Long readUpToId) {
+        pending.merge(new ReceiptKey(roomId, memberId), readUpToId, Math::max);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private record ReceiptKey(Long roomId, Long memberId) {
+    }
+}
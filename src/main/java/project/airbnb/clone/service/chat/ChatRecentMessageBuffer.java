@@ -0,0 +1,190 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import project.airbnb.clone.dto.chat.ChatMessageResDto;
+import project.airbnb.clone.dto.chat.ChatMessagesResDto;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 인스턴스 로컬 채팅방별 최근 메시지 버퍼
+ * <p>
+ * 이 인스턴스에 구독자가 있는 채팅방만 열어 두고, 채팅방 채널로 들어오는 메시지를 id 순으로 최대 CAPACITY 개까지 쌓는다.
+ * 처음 열 때 캐시/DB 에서 읽은 메시지로 채우며(seed), 전체 버퍼는 대략적인 메모리 사용량 기준으로 제한한다.
+ */
+@Component
+public class ChatRecentMessageBuffer {
+
+    static final int CAPACITY = 50;
+    static final long MAX_BYTES = 32L * 1024 * 1024;
+    static final Duration RESEED_AFTER = Duration.ofMinutes(5);
+
+    /** 메시지 객체/맵 엔트리 오버헤드 추정치 */
+    private static final int MESSAGE_OVERHEAD_BYTES = 200;
+
+    private final Map<Long, Room> rooms = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public ChatRecentMessageBuffer(MeterRegistry meterRegistry) {
+        meterRegistry.gaugeMapSize("chat.recent.buffer.rooms", List.of(), rooms);
+        meterRegistry.gauge("chat.recent.buffer.bytes", totalBytes);
+    }
+
+    /**
+     * 로컬 구독이 시작된 채팅방 열기 - 이후 들어오는 메시지부터 쌓는다
+     */
+    public void open(Long roomId) {
+        rooms.computeIfAbsent(roomId, key -> new Room());
+    }
+
+    /**
+     * 로컬 구독이 모두 끝난 채팅방 닫기 - 채널 구독이 해지되어 더 이상 최신 상태를 보장할 수 없다
+     */
+    public void close(Long roomId) {
+        Room room = rooms.remove(roomId);
+        if (room != null) {
+            totalBytes.addAndGet(-room.clear());
+        }
+    }
+
+    public void append(ChatMessageResDto message) {
+        Room room = rooms.get(message.getRoomId());
+        if (room == null) {
+            return;
+        }
+
+        totalBytes.addAndGet(room.add(List.of(message)));
+        enforceMemoryLimit();
+    }
+
+    /**
+     * 캐시/DB 에서 읽은 최근 메시지로 채우기, 열려 있는 채팅방에만 반영된다
+     *
+     * @param complete 읽은 메시지가 채팅방의 전체 기록인지 여부
+     */
+    public void seed(Long roomId, List<ChatMessageResDto> messages, boolean complete) {
+        Room room = rooms.get(roomId);
+        if (room == null) {
+            return;
+        }
+
+        totalBytes.addAndGet(room.seed(messages, complete));
+        enforceMemoryLimit();
+    }
+
+    /**
+     * 최근 메시지 limit 개, 버퍼만으로 응답할 수 없으면 빈 값
+     */
+    public Optional<ChatMessagesResDto> recent(Long roomId, int limit) {
+        Room room = rooms.get(roomId);
+        return room != null ? room.recent(limit) : Optional.empty();
+    }
+
+    private void enforceMemoryLimit() {
+        if (totalBytes.get() <= MAX_BYTES) {
+            return;
+        }
+
+        synchronized (this) {
+            List<Map.Entry<Long, Long>> byLastAccess = rooms.entrySet()
+                                                            .stream()
+                                                            .map(e -> Map.entry(e.getKey(), e.getValue().lastAccess))
+                                                            .sorted(Map.Entry.comparingByValue())
+                                                            .toList();
+
+            for (Map.Entry<Long, Long> entry : byLastAccess) {
+                if (totalBytes.get() <= MAX_BYTES * 9 / 10) {
+                    break;
+                }
+                close(entry.getKey());
+            }
+        }
+    }
+
+    private static long sizeOf(ChatMessageResDto message) {
+        String content = message.getContent();
+        return MESSAGE_OVERHEAD_BYTES + (content != null ? content.length() * 2L : 0);
+    }
+
+    private static Long idOf(ChatMessageResDto message) {
+        try {
+            return Long.valueOf(message.getMessageId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Room {
+
+        /** id 내림차순(최신 메시지 먼저) */
+        private final NavigableMap<Long, ChatMessageResDto> messages = new TreeMap<>(Comparator.reverseOrder());
+        private long bytes;
+        private boolean seeded;
+        private boolean complete;
+        private boolean closed;
+        private long seededAt;
+        private volatile long lastAccess = System.nanoTime();
+
+        private synchronized long add(List<ChatMessageResDto> incoming) {
+            if (closed) {
+                return 0;
+            }
+            long before = bytes;
+
+            for (ChatMessageResDto message : incoming) {
+                Long id = idOf(message);
+                if (id != null && !messages.containsKey(id)) {
+                    messages.put(id, message);
+                    bytes += sizeOf(message);
+                }
+            }
+            while (messages.size() > CAPACITY) {
+                bytes -= sizeOf(messages.pollLastEntry().getValue());
+                complete = false;
+            }
+
+            lastAccess = System.nanoTime();
+            return bytes - before;
+        }
+
+        private synchronized long seed(List<ChatMessageResDto> loaded, boolean loadedComplete) {
+            complete = loadedComplete && loaded.size() <= CAPACITY;
+            seeded = true;
+            seededAt = System.nanoTime();
+            return add(loaded);
+        }
+
+        private synchronized Optional<ChatMessagesResDto> recent(int limit) {
+            lastAccess = System.nanoTime();
+
+            if (!seeded || System.nanoTime() - seededAt > RESEED_AFTER.toNanos()) {
+                return Optional.empty();
+            }
+            if (messages.size() > limit) {
+                return Optional.of(new ChatMessagesResDto(messages.values().stream().limit(limit).toList(), true));
+            }
+            if (complete) {
+                return Optional.of(new ChatMessagesResDto(new ArrayList<>(messages.values()), false));
+            }
+            return Optional.empty();
+        }
+
+        private synchronized long clear() {
+            long released = bytes;
+            closed = true;
+            messages.clear();
+            bytes = 0;
+            return released;
+        }
+    }
+}
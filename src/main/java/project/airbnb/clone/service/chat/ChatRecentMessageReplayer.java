@@ -0,0 +1,61 @@
+package project.airbnb.clone.service.chat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import project.airbnb.clone.dto.chat.ChatMessagesResDto;
+
+/**
+ * 채팅방(/topic/{roomId}) 구독 시 최근 메시지를 구독한 세션에만 전달한다
+ * <p>
+ * 클라이언트는 /user/queue/chat/history 를 구독해 두면 채팅방을 열 때 별도 기록 조회 없이 최근 메시지를 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRecentMessageReplayer {
+
+    static final int REPLAY_SIZE = 30;
+    static final String HISTORY_DESTINATION = "/queue/chat/history";
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/";
+
+    private final ChatMessageService chatMessageService;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        String sessionId = accessor.getSessionId();
+
+        if (sessionId == null || destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return;
+        }
+
+        try {
+            Long roomId = Long.valueOf(destination.substring(ROOM_DESTINATION_PREFIX.length()));
+            ChatMessagesResDto recent = chatMessageService.getRecentMessages(roomId, REPLAY_SIZE);
+
+            messagingTemplate.convertAndSendToUser(sessionId, HISTORY_DESTINATION, recent, sessionHeaders(sessionId));
+        } catch (NumberFormatException e) {
+            log.debug("채팅방 구독이 아닌 destination: {}", destination);
+        } catch (Exception e) {
+            log.warn("최근 메시지 전달 실패 - destination: {}, error: {}", destination, e.getMessage());
+        }
+    }
+
+    private static MessageHeaders sessionHeaders(String sessionId) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        return headers.getMessageHeaders();
+    }
+}
@@ -6,10 +6,12 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum ChatRedisKey {
-    UNREAD("chat:unread:%d"),
+    MEMBER_UNREAD("chat:unread:member:%s"),
     ROOM_MEMBERS("chat:room:%d:members"),
     MESSAGE_CACHE("chat:cache:%d"),
+    ROOM_CHANNEL("chat:channel:%d"),
     MESSAGE_QUEUE("chat:queue"),
+    MESSAGE_STREAM("chat:stream"),
     CHAT_REQUEST("chat:chatRequest:%d:%d");
 
     private final String template;
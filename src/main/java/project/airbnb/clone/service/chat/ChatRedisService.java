@@ -1,51 +1,127 @@
 package project.airbnb.clone.service.chat;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 import project.airbnb.clone.dto.chat.ChatMessageResDto;
-import project.airbnb.clone.service.common.RedisMessagePublisher;
+import project.airbnb.clone.repository.redis.RedisScriptRegistry;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static project.airbnb.clone.service.chat.ChatRedisKey.*;
 
 @Service
 public class ChatRedisService {
 
-    private final ChannelTopic chatTopic;
+    private static final String SEND_SCRIPT = "chat-send";
+    private static final int MESSAGE_CACHE_SIZE = 100;
+
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     private final StringRedisTemplate strRedisTemplate;
-    private final RedisMessagePublisher redisMessagePublisher;
+    private final RedisScriptRegistry redisScriptRegistry;
     private final RedisTemplate<String, Object> redisTemplate;
 
     public ChatRedisService(@Qualifier("redisObjMapper") ObjectMapper objectMapper,
-                            RedisMessagePublisher redisMessagePublisher,
-                            ChannelTopic chatTopic,
+                            MeterRegistry meterRegistry,
+                            RedisScriptRegistry redisScriptRegistry,
                             StringRedisTemplate strRedisTemplate,
                             RedisTemplate<String, Object> redisTemplate) {
         this.objectMapper = objectMapper;
-        this.redisMessagePublisher = redisMessagePublisher;
-        this.chatTopic = chatTopic;
+        this.meterRegistry = meterRegistry;
+        this.redisScriptRegistry = redisScriptRegistry;
         this.strRedisTemplate = strRedisTemplate;
         this.redisTemplate = redisTemplate;
     }
 
-    protected void incrementUnreadCount(Long roomId, Long memberId) {
-        String key = UNREAD.format(roomId);
-        strRedisTemplate.opsForHash().increment(key, memberId.toString(), 1);
+    /**
+     * 메시지 전송 - 참여 검증, 상대방 안 읽은 수 증가, 저장 스트림 적재, 캐시 갱신, 발행을 스크립트 한 번으로 처리한다
+     * <p>
+     * 메시지는 한 번만 직렬화해 캐시와 채팅방 채널 발행에 같은 값을 사용한다.
+     * 안 읽은 수를 올릴 회원 키는 로컬 참여자 목록으로 만들어 KEYS 로 넘기고, 스크립트가 Redis 참여자 목록과 다르면 MEMBERS_CHANGED 를 반환한다.
+     *
+     * @param participantIds 채팅방 참여자 id(보낸 사람 포함 가능)
+     */
+    protected ChatSendResult sendMessage(ChatMessageResDto message, long[] participantIds) {
+        Long roomId = message.getRoomId();
+
+        List<String> keys = new ArrayList<>();
+        keys.add(ROOM_MEMBERS.format(roomId));
+        keys.add(MESSAGE_STREAM.getTemplate());
+        keys.add(MESSAGE_CACHE.format(roomId));
+
+        List<Object> recipients = new ArrayList<>();
+        for (long participantId : participantIds) {
+            if (participantId != message.getSenderId()) {
+                keys.add(MEMBER_UNREAD.format(participantId));
+                recipients.add(participantId);
+            }
+        }
+
+        long started = System.nanoTime();
+        String payload = serialize(message);
+        List<Object> args = new ArrayList<>();
+        args.add(message.getSenderId());
+        args.add(payload);
+        args.add(ROOM_CHANNEL.format(roomId));
+        args.add(MESSAGE_CACHE_SIZE);
+        args.add(roomId);
+        args.add(recipients.size());
+        args.addAll(recipients);
+        toStreamFields(message).forEach((field, value) -> {
+            args.add(field);
+            args.add(value);
+        });
+
+        long serialized = System.nanoTime();
+        List<?> reply = redisScriptRegistry.execute(SEND_SCRIPT, List.class, keys, args.toArray());
+        long executed = System.nanoTime();
+
+        long serverNanos = TimeUnit.MICROSECONDS.toNanos(((Number) reply.get(1)).longValue());
+        recordStage("serialize", serialized - started);
+        recordStage("redis_server", serverNanos);
+        recordStage("redis_network", Math.max(0, executed - serialized - serverNanos));
+
+        return ChatSendResult.of(((Number) reply.get(0)).longValue());
     }
 
-    protected void addMessageToQueueAndCache(Long roomId, ChatMessageResDto message) {
-        redisTemplate.opsForList().rightPush(MESSAGE_QUEUE.getTemplate(), message);
+    protected void recordStage(String stage, long nanos) {
+        meterRegistry.timer("chat.send.stage", "stage", stage).record(nanos, TimeUnit.NANOSECONDS);
+    }
 
-        String cacheKey = MESSAGE_CACHE.format(roomId);
-        redisTemplate.opsForList().leftPush(cacheKey, message);
-        redisTemplate.opsForList().trim(cacheKey, 0, 99);
+    /**
+     * DB 저장용 스트림 항목 추가, 저장에 필요한 값만 평문 필드로 담는다
+     */
+    protected void addMessageToStream(ChatMessageResDto message) {
+        strRedisTemplate.opsForStream()
+                        .add(StreamRecords.string(toStreamFields(message)).withStreamKey(MESSAGE_STREAM.getTemplate()));
+    }
+
+    private Map<String, String> toStreamFields(ChatMessageResDto message) {
+        return Map.of(
+                "messageId", message.getMessageId(),
+                "roomId", message.getRoomId().toString(),
+                "senderId", message.getSenderId().toString(),
+                "content", message.getContent(),
+                "sentAt", message.getTimestamp().toString()
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private String serialize(ChatMessageResDto message) {
+        byte[] bytes = ((RedisSerializer<Object>) redisTemplate.getValueSerializer()).serialize(message);
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 
     protected List<Object> getCachedRaw(Long roomId) {
@@ -57,10 +133,6 @@ public class ChatRedisService {
         return objectMapper.convertValue(obj, ChatMessageResDto.class);
     }
 
-    protected void publish(ChatMessageResDto responseDto) {
-        redisMessagePublisher.publish(chatTopic.getTopic(), responseDto);
-    }
-
     protected void addMembers(Long roomId, String... memberIds) {
         String key = ROOM_MEMBERS.format(roomId);
         strRedisTemplate.opsForSet().add(key, memberIds);
@@ -72,27 +144,30 @@ public class ChatRedisService {
         strRedisTemplate.opsForSet().remove(key, memberId.toString());
     }
 
-    protected Boolean isMember(Long roomId, Long memberId) {
-        String key = ROOM_MEMBERS.format(roomId);
-        return strRedisTemplate.opsForSet().isMember(key, memberId.toString());
-    }
-
-    protected boolean hasRoomMembersKey(Long roomId) {
-        return strRedisTemplate.hasKey(ROOM_MEMBERS.format(roomId));
-    }
-
     protected Set<String> getRoomMembers(Long roomId) {
         return strRedisTemplate.opsForSet().members(ROOM_MEMBERS.format(roomId));
     }
 
     protected int getUnreadCount(Long roomId, Long memberId) {
-        String key = UNREAD.format(roomId);
-        Object count = strRedisTemplate.opsForHash().get(key, memberId.toString());
+        String key = MEMBER_UNREAD.format(memberId);
+        Object count = strRedisTemplate.opsForHash().get(key, roomId.toString());
         return (count != null) ? Integer.parseInt(count.toString()) : 0;
     }
 
+    /**
+     * 회원의 채팅방별 안 읽은 수를 HGETALL 한 번으로 조회
+     *
+     * @return roomId -> 안 읽은 수
+     */
+    protected Map<Long, Integer> getUnreadCounts(Long memberId) {
+        Map<Object, Object> entries = strRedisTemplate.opsForHash().entries(MEMBER_UNREAD.format(memberId));
+
+        Map<Long, Integer> counts = new HashMap<>(entries.size());
+        entries.forEach((roomId, count) -> counts.put(Long.valueOf(roomId.toString()), Integer.parseInt(count.toString())));
+        return counts;
+    }
+
     protected void resetUnreadCount(Long roomId, Long memberId) {
-        String key = UNREAD.format(roomId);
-        strRedisTemplate.opsForHash().put(key, memberId.toString(), "0");
+        strRedisTemplate.opsForHash().delete(MEMBER_UNREAD.format(memberId), roomId.toString());
     }
 }
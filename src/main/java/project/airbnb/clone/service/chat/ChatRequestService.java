@@ -32,6 +32,7 @@ public class ChatRequestService {
 
     private final ChatRoomService chatRoomService;
     private final ChatRedisService chatRedisService;
+    private final ChatMembershipCache chatMembershipCache;
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final ChatRequestRepository chatRequestRepository;
@@ -115,6 +116,7 @@ public class ChatRequestService {
         eventPublisher.publishEvent(new ChatRequestAcceptedEvent(requestId, senderId, senderChatRoomInfo));
 
         chatRedisService.addMembers(chatRoom.getId(), senderId.toString(), receiverId.toString());
+        chatMembershipCache.invalidate(chatRoom.getId());
 
         return chatRoomService.getChatRoomInfoWithUnreadCount(receiverId, senderId, chatRoom);
     }
@@ -7,24 +7,32 @@ import org.springframework.transaction.annotation.Transactional;
 import project.airbnb.clone.common.events.chat.ChatLeaveEvent;
 import project.airbnb.clone.common.exceptions.factory.ChatExceptions;
 import project.airbnb.clone.common.exceptions.factory.MemberExceptions;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
 import project.airbnb.clone.dto.chat.ChatRoomResDto;
+import project.airbnb.clone.dto.chat.ChatUnreadCountResDto;
 import project.airbnb.clone.entity.chat.ChatParticipant;
 import project.airbnb.clone.entity.chat.ChatRoom;
 import project.airbnb.clone.entity.member.Member;
 import project.airbnb.clone.repository.facade.ChatRepositoryFacadeManager;
 import project.airbnb.clone.repository.jpa.MemberRepository;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class ChatRoomService {
 
+    private static final Duration MAX_CLOCK_SKEW = Duration.ofMinutes(1);
+
     private final MemberRepository memberRepository;
     private final ChatRedisService chatRedisService;
+    private final ChatMembershipCache chatMembershipCache;
+    private final ChatReadReceiptWriteBuffer chatReadReceiptWriteBuffer;
     private final ApplicationEventPublisher eventPublisher;
     private final ChatRepositoryFacadeManager chatRepositoryFacade;
 
@@ -64,6 +72,8 @@ public class ChatRoomService {
         eventPublisher.publishEvent(new ChatLeaveEvent(chatParticipant.getMember().getName(), roomId));
 
         chatRedisService.removeMember(roomId, memberId);
+        chatRedisService.resetUnreadCount(roomId, memberId);
+        chatMembershipCache.invalidate(roomId);
     }
 
     private ChatParticipant getChatParticipant(Long roomId, Long memberId) {
@@ -78,71 +88,105 @@ public class ChatRoomService {
      */
     public List<ChatRoomResDto> getChatRooms(Long memberId) {
         List<ChatRoomResDto> rooms = chatRepositoryFacade.findChatRoomsByMemberId(memberId);
+        Map<Long, Integer> unreadCounts = chatRedisService.getUnreadCounts(memberId);
 
         return rooms.stream()
-                    .map(room -> {
-                        int unreadCount = chatRedisService.getUnreadCount(room.roomId(), memberId);
-                        return ChatRoomResDto.withUnreadCount(room, unreadCount);
-                    })
+                    .map(room -> ChatRoomResDto.withUnreadCount(room, unreadCounts.getOrDefault(room.roomId(), 0)))
                     .toList();
     }
 
     /**
-     * 채팅 메시지 모두 읽음 처리
+     * 참여 중 채팅방 전체 안 읽은 메시지 수 조회(배지)
      *
-     * @param roomId   채팅방
      * @param memberId 사용자
      */
-    @Transactional
-    public void markChatRoomAsRead(Long roomId, Long memberId) {
-        chatRedisService.resetUnreadCount(roomId, memberId);
+    public ChatUnreadCountResDto getTotalUnreadCount(Long memberId) {
+        long total = chatRedisService.getUnreadCounts(memberId)
+                                     .values()
+                                     .stream()
+                                     .mapToLong(Integer::longValue)
+                                     .sum();
+        return new ChatUnreadCountResDto(total);
+    }
 
-        //TODO : 비동기 or 이벤트 처리
-        ChatParticipant chatParticipant = getChatParticipant(roomId, memberId);
-        chatRepositoryFacade.markLatestMessageAsRead(roomId, chatParticipant);
+    /**
+     * 채팅 메시지 모두 읽음 처리
+     * <p>
+     * 클라이언트가 마지막으로 받은 메시지 id 를 기준으로 읽음 처리를 버퍼에 남기고, DB 의 마지막 읽은 메시지는 주기적으로 일괄 갱신한다.
+     * 아직 저장되지 않은 메시지라면 저장될 때까지 버퍼에 남아 있다가 반영된다.
+     * 메시지 id 를 보내지 않는 이전 클라이언트는 채팅방의 마지막 메시지 스냅샷(chat_rooms.last_message_id)까지 읽음 처리한다.
+     *
+     * @param roomId        채팅방
+     * @param memberId      사용자
+     * @param lastMessageId 클라이언트가 마지막으로 받은 메시지, 없으면 null
+     */
+    public void markChatRoomAsRead(Long roomId, Long memberId, Long lastMessageId) {
+        if (!isChatRoomParticipant(roomId, memberId)) {
+            throw ChatExceptions.notFoundChatParticipant(roomId, memberId);
+        }
+        if (lastMessageId == null) {
+            lastMessageId = chatRepositoryFacade.getChatRoomByRoomId(roomId).getLastMessageId();
+        }
+        if (lastMessageId == null) {
+            chatRedisService.resetUnreadCount(roomId, memberId);
+            return;
+        }
+        // 아직 발급될 수 없는 id 로 읽음 위치가 앞당겨져 이후 읽음 처리가 막히지 않도록 거절한다
+        if (lastMessageId > SnowflakeIdGenerator.minIdAt(Instant.now().plus(MAX_CLOCK_SKEW))) {
+            throw ChatExceptions.invalidLastReadMessage(roomId, lastMessageId);
+        }
+
+        chatRedisService.resetUnreadCount(roomId, memberId);
+        chatReadReceiptWriteBuffer.add(roomId, memberId, lastMessageId);
     }
 
     /**
      * 채팅방 참여 여부 검증 - StompHandler
+     * <p>
+     * 로컬 참여자 캐시로 검증하고, 캐시에 없을 때만 Redis(없으면 DB) 참여자 목록을 읽는다.
      *
      * @param roomId   채팅방
      * @param memberId 사용자
      */
     public boolean isChatRoomParticipant(Long roomId, Long memberId) {
         try {
-            return checkParticipation(roomId, memberId);
+            return chatMembershipCache.isMember(roomId, memberId, () -> loadParticipantIds(roomId));
         } catch (Exception e) {
             return false;
         }
     }
 
     /**
-     * 메시지 전송 가능 여부 검증 - 비즈니스
-     *
-     * @param roomId   채팅방
-     * @param senderId 사용자
+     * 채팅방 참여자 id 목록 - 메시지 전송 시 안 읽은 수를 올릴 회원 키를 만드는 데 사용한다
      */
-    public void validateMessageDelivery(Long roomId, Long senderId) {
-        if (!checkParticipation(roomId, senderId)) {
-            throw ChatExceptions.notFoundChatParticipant(roomId, senderId);
-        }
-        if (chatRedisService.getRoomMembers(roomId).size() < 2) {
-            throw ChatExceptions.participantLeft(roomId, senderId);
-        }
+    protected long[] getParticipantIds(Long roomId) {
+        return chatMembershipCache.members(roomId, () -> loadParticipantIds(roomId));
     }
 
-    private boolean checkParticipation(Long roomId, Long memberId) {
-        Boolean isMember = chatRedisService.isMember(roomId, memberId);
+    /**
+     * 로컬 참여자 캐시가 Redis 참여자 목록과 어긋났을 때 비운다
+     */
+    protected void evictParticipantIds(Long roomId) {
+        chatMembershipCache.invalidate(roomId);
+    }
 
-        if (Boolean.FALSE.equals(isMember) && !chatRedisService.hasRoomMembersKey(roomId)) {
+    private long[] loadParticipantIds(Long roomId) {
+        Set<String> memberIds = chatRedisService.getRoomMembers(roomId);
+
+        if (memberIds == null || memberIds.isEmpty()) {
             refreshChatMembers(roomId);
-            isMember = chatRedisService.isMember(roomId, memberId);
+            memberIds = chatRedisService.getRoomMembers(roomId);
         }
 
-        return Boolean.TRUE.equals(isMember);
+        return memberIds.stream()
+                        .mapToLong(Long::parseLong)
+                        .toArray();
     }
 
-    private void refreshChatMembers(Long roomId) {
+    /**
+     * DB 참여자 목록으로 Redis 채팅방 참여자 캐시 재구성
+     */
+    protected void refreshChatMembers(Long roomId) {
         List<Long> participantIds = chatRepositoryFacade.getParticipantIdsByRoomId(roomId);
 
         if (!participantIds.isEmpty()) {
@@ -189,12 +233,4 @@ public class ChatRoomService {
         return memberRepository.findById(memberId)
                                .orElseThrow(() -> MemberExceptions.notFoundById(memberId));
     }
-
-    protected Optional<Long> getOpponentId(Long roomId, Long senderId) {
-        return Objects.requireNonNull(chatRedisService.getRoomMembers(roomId))
-                      .stream()
-                      .map(Long::valueOf)
-                      .filter(id -> !id.equals(senderId))
-                      .findFirst();
-    }
 }
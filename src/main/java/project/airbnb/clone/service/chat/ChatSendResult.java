@@ -0,0 +1,28 @@
+package project.airbnb.clone.service.chat;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/**
+ * chat-send 스크립트 실행 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChatSendResult {
+    SENT(1),
+    MEMBERS_NOT_CACHED(-1),
+    NOT_PARTICIPANT(-2),
+    PARTICIPANT_LEFT(-3),
+    MEMBERS_CHANGED(-4);
+
+    private final long code;
+
+    public static ChatSendResult of(long code) {
+        return Arrays.stream(values())
+                     .filter(result -> result.code == code)
+                     .findFirst()
+                     .orElseThrow(() -> new IllegalStateException("Unknown chat-send result code: " + code));
+    }
+}
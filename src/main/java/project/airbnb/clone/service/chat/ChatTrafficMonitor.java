@@ -0,0 +1,178 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.user.SimpSession;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUser;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import project.airbnb.clone.dto.chat.ChatMessageResDto;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 인스턴스 로컬 STOMP 채팅 전달 지표
+ * <p>
+ * 세션/구독 수, 발행 -> 구독 서버 -> 클라이언트 전달 지연, 비정상 종료 세션 수를 Micrometer 로 노출하고,
+ * 채팅방별 전달 메시지 수를 1분 단위로 집계해 트래픽 상위 채팅방을 제공한다.
+ * 전달 지연은 인스턴스 간 시계 차이를 포함한다.
+ */
+@Component
+public class ChatTrafficMonitor {
+
+    public static final String PUBLISHED_AT_HEADER = "published-at";
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/";
+    private static final String USER_DESTINATION_PREFIX = "/user/";
+
+    private final MeterRegistry meterRegistry;
+    /** STOMP 설정(인터셉터)이 이 빈을 참조하므로 순환 참조를 피하기 위해 지연 조회한다 */
+    private final ObjectProvider<SimpUserRegistry> simpUserRegistry;
+    private final ChatChannelSubscriptionManager chatChannelSubscriptionManager;
+    private final Timer redisDeliveryTimer;
+    private final Timer clientDeliveryTimer;
+
+    private volatile Map<Long, LongAdder> currentWindow = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> lastWindow = Map.of();
+
+    public ChatTrafficMonitor(MeterRegistry meterRegistry,
+                              ObjectProvider<SimpUserRegistry> simpUserRegistry,
+                              ChatChannelSubscriptionManager chatChannelSubscriptionManager) {
+        this.meterRegistry = meterRegistry;
+        this.simpUserRegistry = simpUserRegistry;
+        this.chatChannelSubscriptionManager = chatChannelSubscriptionManager;
+        this.redisDeliveryTimer = deliveryTimer("redis");
+        this.clientDeliveryTimer = deliveryTimer("client");
+
+        meterRegistry.gauge("chat.stomp.sessions", this, ChatTrafficMonitor::sessionCount);
+        for (String destination : List.of("room", "user", "other")) {
+            meterRegistry.gauge("chat.stomp.subscriptions", Tags.of("destination", destination), this,
+                    monitor -> monitor.subscriptionCount(destination));
+        }
+    }
+
+    /**
+     * Redis 채널로 받은 메시지를 로컬 구독자에게 보내기 직전 호출
+     */
+    public void recordReceived(ChatMessageResDto message) {
+        if (message.getPublishedAt() != null) {
+            recordLatency(redisDeliveryTimer, message.getPublishedAt());
+        }
+        currentWindow.computeIfAbsent(message.getRoomId(), key -> new LongAdder()).increment();
+    }
+
+    /**
+     * 클라이언트 세션으로 MESSAGE 프레임의 소켓 쓰기가 끝난 뒤 호출 - stage=client 는 outbound 채널과 세션 전송 대기열에서 기다린 시간을 포함한다
+     */
+    public void recordDelivered(long publishedAt) {
+        recordLatency(clientDeliveryTimer, publishedAt);
+    }
+
+    public void recordFrame(String direction, String type) {
+        meterRegistry.counter("chat.stomp.frames", "direction", direction, "type", type).increment();
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        meterRegistry.counter("chat.stomp.sessions.closed", "reason", closeReason(event.getCloseStatus())).increment();
+    }
+
+    @Scheduled(fixedRate = 60_000)
+    public void rotateWindow() {
+        Map<Long, LongAdder> finished = currentWindow;
+        currentWindow = new ConcurrentHashMap<>();
+
+        Map<Long, Long> snapshot = new ConcurrentHashMap<>();
+        finished.forEach((roomId, count) -> snapshot.put(roomId, count.sum()));
+        lastWindow = snapshot;
+    }
+
+    /**
+     * 직전 1분 동안 전달 메시지 수 기준 상위 채팅방, 프레임 수는 메시지 수 x 로컬 구독 수
+     */
+    public List<RoomTraffic> getTopRooms(int limit) {
+        Map<Long, Integer> subscribers = chatChannelSubscriptionManager.getRoomSubscriberCounts();
+
+        return lastWindow.entrySet()
+                         .stream()
+                         .map(e -> {
+                             int localSubscribers = subscribers.getOrDefault(e.getKey(), 0);
+                             return new RoomTraffic(e.getKey(), e.getValue(), localSubscribers, e.getValue() * localSubscribers);
+                         })
+                         .sorted(Comparator.comparingLong(RoomTraffic::framesPerMinute)
+                                           .thenComparingLong(RoomTraffic::messagesPerMinute)
+                                           .reversed())
+                         .limit(limit)
+                         .toList();
+    }
+
+    public record RoomTraffic(Long roomId, long messagesPerMinute, int localSubscribers, long framesPerMinute) {
+    }
+
+    private Timer deliveryTimer(String stage) {
+        return Timer.builder("chat.delivery.latency")
+                    .tag("stage", stage)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(Duration.ofSeconds(10))
+                    .register(meterRegistry);
+    }
+
+    private static void recordLatency(Timer timer, long publishedAt) {
+        timer.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+    }
+
+    private double sessionCount() {
+        return users().stream()
+                      .mapToInt(user -> user.getSessions().size())
+                      .sum();
+    }
+
+    private double subscriptionCount(String destination) {
+        return users().stream()
+                      .flatMap(user -> user.getSessions().stream())
+                      .map(SimpSession::getSubscriptions)
+                      .flatMap(subscriptions -> subscriptions.stream().map(SimpSubscription::getDestination))
+                      .filter(subscribed -> destination.equals(destinationKind(subscribed)))
+                      .count();
+    }
+
+    private Set<SimpUser> users() {
+        SimpUserRegistry registry = simpUserRegistry.getIfAvailable();
+        return registry != null ? registry.getUsers() : Set.of();
+    }
+
+    private static String destinationKind(String destination) {
+        if (destination == null) {
+            return "other";
+        }
+        if (destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return "room";
+        }
+        return destination.startsWith(USER_DESTINATION_PREFIX) ? "user" : "other";
+    }
+
+    private static String closeReason(CloseStatus status) {
+        if (status == null || status.equalsCode(CloseStatus.NORMAL) || status.equalsCode(CloseStatus.GOING_AWAY)) {
+            return "normal";
+        }
+        // 전송 시간/버퍼 한도를 넘긴 느린 세션은 SESSION_NOT_RELIABLE 로 종료된다
+        if (status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)) {
+            return "slow";
+        }
+        return "error";
+    }
+}
@@ -11,6 +11,6 @@ public class RedisPublisher {
     private final RedisTemplate<String, Object> redisTemplate;
 
     public void publish(ChatMessageResDto message) {
-        redisTemplate.convertAndSend("chatTopic", message);
+        redisTemplate.convertAndSend(ChatRedisKey.ROOM_CHANNEL.format(message.getRoomId()), message);
     }
 }
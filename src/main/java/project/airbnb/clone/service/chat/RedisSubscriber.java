@@ -7,17 +7,25 @@ import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import project.airbnb.clone.dto.chat.ChatMessageResDto;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 public class RedisSubscriber {
 
     private final ObjectMapper redisObjMapper;
     private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatTrafficMonitor chatTrafficMonitor;
+    private final ChatRecentMessageBuffer chatRecentMessageBuffer;
 
     public RedisSubscriber(@Qualifier("redisObjMapper") ObjectMapper redisObjMapper,
-                           SimpMessageSendingOperations messagingTemplate) {
+                           SimpMessageSendingOperations messagingTemplate,
+                           ChatTrafficMonitor chatTrafficMonitor,
+                           ChatRecentMessageBuffer chatRecentMessageBuffer) {
         this.redisObjMapper = redisObjMapper;
         this.messagingTemplate = messagingTemplate;
+        this.chatTrafficMonitor = chatTrafficMonitor;
+        this.chatRecentMessageBuffer = chatRecentMessageBuffer;
     }
 
     public void sendMessage(String publishMessage) {
@@ -25,10 +33,20 @@ public class RedisSubscriber {
             // RedisTemplate의 serializer에 의해 JSON으로 온 데이터를 객체로 변환
             ChatMessageResDto chatMessage = redisObjMapper.readValue(publishMessage, ChatMessageResDto.class);
             
-            // 실시간으로 해당 채팅방을 구독 중인 클라이언트에게 전달
-            messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage);
+            chatTrafficMonitor.recordReceived(chatMessage);
+
+            // 실시간으로 해당 채팅방을 구독 중인 클라이언트에게 전달, 발행 시각은 클라이언트 전달 지연 측정용 헤더로 함께 보낸다
+            messagingTemplate.convertAndSend("/topic/" + chatMessage.getRoomId(), chatMessage, deliveryHeaders(chatMessage));
+            chatRecentMessageBuffer.append(chatMessage);
         } catch (Exception e) {
             log.error("Redis Subscriber error: {}", e.getMessage());
         }
     }
+
+    private static Map<String, Object> deliveryHeaders(ChatMessageResDto chatMessage) {
+        if (chatMessage.getPublishedAt() == null) {
+            return Map.of();
+        }
+        return Map.of(ChatTrafficMonitor.PUBLISHED_AT_HEADER, String.valueOf(chatMessage.getPublishedAt()));
+    }
 }
@@ -18,11 +18,15 @@ import project.airbnb.clone.dto.PageResponseDto;
 import project.airbnb.clone.dto.member.*;
 import project.airbnb.clone.entity.member.Member;
 import project.airbnb.clone.model.ProviderUser;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
 import project.airbnb.clone.repository.dto.DefaultProfileQueryDto;
+import project.airbnb.clone.repository.dto.TripHistoryQueryDto;
 import project.airbnb.clone.repository.jpa.MemberRepository;
 import project.airbnb.clone.repository.query.MemberQueryRepository;
+import project.airbnb.clone.service.accommodation.AccommodationCardService;
 
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
@@ -33,6 +37,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final MemberQueryRepository memberQueryRepository;
+    private final AccommodationCardService accommodationCardService;
 
     /**
      * OAuth 가입
@@ -96,10 +101,17 @@ public class MemberService {
     }
 
     public PageResponseDto<TripHistoryResDto> getTripsHistory(Long memberId, Pageable pageable) {
-        Page<TripHistoryResDto> result = memberQueryRepository.getTripsHistory(memberId, pageable);
+        Page<TripHistoryQueryDto> result = memberQueryRepository.getTripsHistory(memberId, pageable);
+        Map<Long, AccommodationCardDto> cards = accommodationCardService.getCards(
+                result.getContent().stream().map(TripHistoryQueryDto::accommodationId).distinct().toList());
+
+        List<TripHistoryResDto> contents = result.getContent()
+                                                 .stream()
+                                                 .map(trip -> TripHistoryResDto.from(trip, cards.get(trip.accommodationId())))
+                                                 .toList();
 
         return PageResponseDto.<TripHistoryResDto>builder()
-                              .contents(result.getContent())
+                              .contents(contents)
                               .pageNumber(pageable.getPageNumber())
                               .pageSize(pageable.getPageSize())
                               .total(result.getTotalElements())
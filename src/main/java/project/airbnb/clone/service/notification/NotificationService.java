@@ -6,6 +6,7 @@ import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.config.notification.NotificationProperties;
 import project.airbnb.clone.common.exceptions.factory.MemberExceptions;
 import project.airbnb.clone.dto.notification.NotificationResDto;
 import project.airbnb.clone.dto.notification.UnreadCountResDto;
@@ -30,6 +31,7 @@ public class NotificationService {
     private final RedisMessagePublisher redisMessagePublisher; // 변경: 공통 Publisher 사용
     private final NotificationRepository notificationRepository;
     private final NotificationQueryRepository notificationQueryRepository; // 추가: QueryDSL Repository
+    private final NotificationProperties notificationProperties;
     private final SimpMessageSendingOperations messagingTemplate;
 
     /**
@@ -127,7 +129,7 @@ public class NotificationService {
      */
     @Transactional
     public void markAllAsRead(Long memberId) {
-        int count = notificationRepository.markAllAsReadByMemberId(memberId);
+        int count = notificationRepository.markAllAsReadByMemberId(memberId, notificationProperties.retentionStart());
         log.info("전체 알림 읽음 처리 - 사용자: {}, 개수: {}", memberId, count);
     }
 
@@ -0,0 +1,157 @@
+package project.airbnb.clone.service.partition;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import project.airbnb.clone.common.annotations.SchedulerLock;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
+import project.airbnb.clone.config.notification.NotificationProperties;
+import project.airbnb.clone.repository.jdbc.PartitionJdbcRepository;
+
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 월 단위 RANGE 파티션 관리
+ * <p>
+ * 파티션은 p{yyyyMM} 이름으로 해당 월의 데이터를 담고, 마지막 p_future(MAXVALUE) 파티션을 나눠 MONTHS_AHEAD 개월 앞까지 미리 만든다.
+ * 보관 기간이 지난 파티션은 통째로 지우며, 보관 기간이 없는 테이블은 보관 작업으로 비워진 지난 파티션만 지운다.
+ * 파티셔닝되지 않은 테이블은 건너뛴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    static final int MONTHS_AHEAD = 3;
+    static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'uuuuMM");
+
+    public enum KeyType {
+        /** Snowflake id - 월 시작 시각의 최소 id 를 경계로 사용 */
+        SNOWFLAKE_ID,
+        /** DATETIME 컬럼(RANGE COLUMNS) */
+        DATETIME
+    }
+
+    /**
+     * @param retentionMonths 보관 기간(월), 0 이면 비어 있는 지난 파티션만 지운다
+     */
+    public record PartitionSpec(String table, KeyType keyType, int retentionMonths) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final NotificationProperties notificationProperties;
+    private final SchedulerLockManager schedulerLockManager;
+    private final PartitionJdbcRepository partitionJdbcRepository;
+
+    @Scheduled(cron = "0 0 5 * * *")
+    @SchedulerLock(name = "partition-maintenance", lockAtLeastMillis = 60_000)
+    public void maintainAll() {
+        YearMonth current = YearMonth.now();
+
+        for (PartitionSpec spec : specs()) {
+            schedulerLockManager.ensureCurrentLockHeld();
+            try {
+                maintain(spec, current);
+            } catch (Exception e) {
+                meterRegistry.counter("partition.maintenance.failures", "table", spec.table()).increment();
+                log.error("파티션 관리 실패 - table: {}", spec.table(), e);
+            }
+        }
+    }
+
+    /**
+     * 알림 보관 기간은 조회 조건(NotificationQueryRepository)과 같은 설정을 따른다
+     */
+    List<PartitionSpec> specs() {
+        return List.of(
+                // 오래된 메시지는 ChatMessageArchiver 가 세그먼트로 옮긴다
+                new PartitionSpec("chat_messages", KeyType.SNOWFLAKE_ID, 0),
+                new PartitionSpec("notifications", KeyType.DATETIME, Math.max(notificationProperties.getRetentionMonths(), 0))
+        );
+    }
+
+    void maintain(PartitionSpec spec, YearMonth current) {
+        List<String> partitions = partitionJdbcRepository.findPartitionNames(spec.table());
+        if (partitions.isEmpty()) {
+            log.debug("파티셔닝되지 않은 테이블 - 건너뜀: {}", spec.table());
+            return;
+        }
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            log.warn("{} 파티션이 없어 새 파티션을 만들 수 없음 - table: {}", FUTURE_PARTITION, spec.table());
+            return;
+        }
+
+        createFuturePartitions(spec, current, partitions);
+        // 방금 만든 파티션도 보관 기간이 지났을 수 있으므로(오래 멈춰 있던 경우) 다시 읽어 판단한다
+        dropExpiredPartitions(spec, current, partitionJdbcRepository.findPartitionNames(spec.table()));
+    }
+
+    private void createFuturePartitions(PartitionSpec spec, YearMonth current, List<String> partitions) {
+        YearMonth from = partitions.stream()
+                                   .map(PartitionMaintenanceService::monthOf)
+                                   .flatMap(Optional::stream)
+                                   .max(YearMonth::compareTo)
+                                   .map(last -> last.plusMonths(1))
+                                   .orElse(current);
+
+        Map<String, String> bounds = new LinkedHashMap<>();
+        for (YearMonth month = from; !month.isAfter(current.plusMonths(MONTHS_AHEAD)); month = month.plusMonths(1)) {
+            bounds.put(month.format(PARTITION_NAME), upperBound(spec.keyType(), month));
+        }
+        if (bounds.isEmpty()) {
+            return;
+        }
+
+        partitionJdbcRepository.splitLastPartition(spec.table(), FUTURE_PARTITION, bounds);
+        meterRegistry.counter("partition.created", "table", spec.table()).increment(bounds.size());
+        log.info("파티션 추가 - table: {}, partitions: {}", spec.table(), bounds.keySet());
+    }
+
+    private void dropExpiredPartitions(PartitionSpec spec, YearMonth current, List<String> partitions) {
+        YearMonth expiredBefore = current.minusMonths(spec.retentionMonths());
+
+        List<String> expired = partitions.stream()
+                                         .filter(name -> monthOf(name).filter(month -> month.isBefore(expiredBefore)).isPresent())
+                                         .filter(name -> spec.retentionMonths() > 0 || partitionJdbcRepository.isEmpty(spec.table(), name))
+                                         .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        partitionJdbcRepository.dropPartitions(spec.table(), expired);
+        meterRegistry.counter("partition.dropped", "table", spec.table()).increment(expired.size());
+        log.info("파티션 삭제 - table: {}, partitions: {}", spec.table(), expired);
+    }
+
+    /**
+     * 해당 월 파티션의 VALUES LESS THAN 값(다음 달 시작)
+     */
+    static String upperBound(KeyType keyType, YearMonth month) {
+        YearMonth next = month.plusMonths(1);
+
+        return switch (keyType) {
+            case SNOWFLAKE_ID -> String.valueOf(SnowflakeIdGenerator.minIdAt(next.atDay(1).atStartOfDay(ZoneId.systemDefault()).toInstant()));
+            case DATETIME -> "'%s-%02d-01 00:00:00'".formatted(next.getYear(), next.getMonthValue());
+        };
+    }
+
+    private static Optional<YearMonth> monthOf(String partitionName) {
+        try {
+            return Optional.of(YearMonth.parse(partitionName, PARTITION_NAME));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+}
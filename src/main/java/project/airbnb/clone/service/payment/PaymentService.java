@@ -3,9 +3,11 @@ package project.airbnb.clone.service.payment;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import project.airbnb.clone.common.clients.PaymentClient;
+import project.airbnb.clone.common.events.reservation.ReservationConfirmedEvent;
 import project.airbnb.clone.common.exceptions.BusinessException;
 import project.airbnb.clone.common.exceptions.ErrorCode;
 import project.airbnb.clone.common.exceptions.factory.AccommodationExceptions;
@@ -31,6 +33,7 @@ public class PaymentService {
 
     private final PaymentClient paymentClient;
     private final PaymentRepository paymentRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ReservationRepository reservationRepository;
     private final TempPaymentRepository tempPaymentRepository;
     private final AccommodationRepository accommodationRepository;
@@ -64,6 +67,7 @@ public class PaymentService {
         paymentRepository.save(Payment.of(response, reservation));
         tempPaymentRepository.deleteById(orderId);
         reservation.confirm();
+        eventPublisher.publishEvent(new ReservationConfirmedEvent(reservation.getId(), accommodation.getId()));
 
         String receiptUrl = response.get("receipt").get("url").asText(null);
         return new PaymentResDto(receiptUrl);
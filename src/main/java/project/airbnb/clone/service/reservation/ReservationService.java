@@ -1,8 +1,10 @@
 package project.airbnb.clone.service.reservation;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.common.events.review.ReviewCreatedEvent;
 import project.airbnb.clone.common.exceptions.BusinessException;
 import project.airbnb.clone.common.exceptions.ErrorCode;
 import project.airbnb.clone.common.exceptions.factory.AccommodationExceptions;
@@ -29,6 +31,7 @@ public class ReservationService {
     private final CacheService cacheService;
     private final MemberRepository memberRepository;
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ReservationRepository reservationRepository;
     private final AccommodationRepository accommodationRepository;
     private final ReservationQueryRepository reservationQueryRepository;
@@ -66,7 +69,10 @@ public class ReservationService {
         Member member = memberRepository.findById(memberId)
                                         .orElseThrow(() -> MemberExceptions.notFoundById(memberId));
 
+        Long accommodationId = reservation.getAccommodation().getId();
+
         reviewRepository.save(Review.create(reqDto.rating().doubleValue(), reqDto.content(), reservation, member));
-        cacheService.evictAccCommonInfo(reservation.getAccommodation().getId());
+        cacheService.evictAccCommonInfo(accommodationId);
+        eventPublisher.publishEvent(new ReviewCreatedEvent(accommodationId, reqDto.rating().doubleValue()));
     }
 }
@@ -1,17 +1,26 @@
 package project.airbnb.clone.service.review;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.common.events.review.ReviewDeletedEvent;
+import project.airbnb.clone.common.events.review.ReviewUpdatedEvent;
 import project.airbnb.clone.common.exceptions.factory.ReviewExceptions;
 import project.airbnb.clone.dto.PageResponseDto;
 import project.airbnb.clone.dto.review.MyReviewResDto;
 import project.airbnb.clone.dto.review.UpdateReviewReqDto;
 import project.airbnb.clone.entity.reservation.Review;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+import project.airbnb.clone.repository.dto.MyReviewQueryDto;
 import project.airbnb.clone.repository.jpa.ReviewRepository;
 import project.airbnb.clone.repository.query.ReviewQueryRepository;
+import project.airbnb.clone.service.accommodation.AccommodationCardService;
+
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -19,13 +28,22 @@ import project.airbnb.clone.repository.query.ReviewQueryRepository;
 public class ReviewService {
 
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final ReviewQueryRepository reviewQueryRepository;
+    private final AccommodationCardService accommodationCardService;
 
     public PageResponseDto<MyReviewResDto> getMyReviews(Long memberId, Pageable pageable) {
-        Page<MyReviewResDto> result = reviewQueryRepository.getMyReviews(memberId, pageable);
+        Page<MyReviewQueryDto> result = reviewQueryRepository.getMyReviews(memberId, pageable);
+        Map<Long, AccommodationCardDto> cards = accommodationCardService.getCards(
+                result.getContent().stream().map(MyReviewQueryDto::accommodationId).distinct().toList());
+
+        List<MyReviewResDto> contents = result.getContent()
+                                              .stream()
+                                              .map(review -> MyReviewResDto.from(review, cards.get(review.accommodationId())))
+                                              .toList();
 
         return PageResponseDto.<MyReviewResDto>builder()
-                              .contents(result.getContent())
+                              .contents(contents)
                               .pageNumber(pageable.getPageNumber())
                               .pageSize(pageable.getPageSize())
                               .total(result.getTotalElements())
@@ -35,13 +53,23 @@ public class ReviewService {
     @Transactional
     public void updateReview(Long reviewId, UpdateReviewReqDto reqDto, Long memberId) {
         Review review = getReview(reviewId, memberId);
+        double oldRating = review.getRating();
+
         review.update(reqDto.rating().doubleValue(), reqDto.content());
+        eventPublisher.publishEvent(new ReviewUpdatedEvent(getAccommodationId(review), oldRating, review.getRating()));
     }
 
     @Transactional
     public void deleteReview(Long reviewId, Long memberId) {
         Review review = getReview(reviewId, memberId);
+        Long accommodationId = getAccommodationId(review);
+
         reviewRepository.delete(review);
+        eventPublisher.publishEvent(new ReviewDeletedEvent(accommodationId, review.getRating()));
+    }
+
+    private Long getAccommodationId(Review review) {
+        return review.getReservation().getAccommodation().getId();
     }
 
     private Review getReview(Long reviewId, Long memberId) {
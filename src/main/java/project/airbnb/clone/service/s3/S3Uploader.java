@@ -9,6 +9,7 @@ import project.airbnb.clone.common.exceptions.ImageUploadException;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.BufferedInputStream;
@@ -91,6 +92,36 @@ public class S3Uploader {
         }
     }
 
+    /**
+     * 이미지가 아닌 파일 업로드(채팅 보관 세그먼트 등), 공개 URL 이 없는 별도 버킷을 사용한다
+     *
+     * @param bucket 저장할 버킷
+     * @param key    저장할 파일 이름
+     */
+    public void uploadFile(String bucket, String key, byte[] content, String contentType) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                                                            .bucket(bucket)
+                                                            .key(key)
+                                                            .contentType(contentType)
+                                                            .build();
+
+        s3Client.putObject(putObjectRequest, RequestBody.fromBytes(content));
+        log.debug("Uploaded file to R2: bucket={}, key={}", bucket, key);
+    }
+
+    /**
+     * 저장된 파일의 바이트 범위 읽기 - 파일 전체를 내려받지 않는다
+     */
+    public byte[] downloadRange(String bucket, String key, long offset, int length) {
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                                                            .bucket(bucket)
+                                                            .key(key)
+                                                            .range("bytes=%d-%d".formatted(offset, offset + length - 1))
+                                                            .build();
+
+        return s3Client.getObjectAsBytes(getObjectRequest).asByteArray();
+    }
+
     private String uploadToS3(InputStream inputStream, long contentLength, String contentType, String key) {
         try {
             RequestBody requestBody = RequestBody.fromInputStream(inputStream, contentLength);
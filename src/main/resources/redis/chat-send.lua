@@ -0,0 +1,48 @@
+-- 채팅 메시지 전송: 참여 검증, 상대방 안 읽은 수 증가, 저장 스트림 적재, 채팅방 캐시 갱신, 발행을 한 번에 처리한다.
+-- KEYS[1] = 채팅방 참여자 SET, KEYS[2] = 저장 스트림, KEYS[3] = 채팅방 메시지 캐시 LIST, KEYS[4..] = 받는 회원별 안 읽은 수 HASH
+-- ARGV[1] = 보낸 사람 id, ARGV[2] = 캐시/발행용 직렬화 메시지, ARGV[3] = 채팅방 발행 채널, ARGV[4] = 캐시 유지 개수
+-- ARGV[5] = 채팅방 id, ARGV[6] = 받는 회원 수 n, ARGV[7..6+n] = 받는 회원 id(KEYS[4..] 와 같은 순서), ARGV[7+n..] = 스트림 필드/값 쌍
+-- 반환: { 결과 코드, 서버 처리 시간(us) }
+--   1 = 전송, -1 = 참여자 캐시 없음, -2 = 참여자 아님, -3 = 상대방 나감, -4 = 받는 회원 목록이 참여자 SET 과 다름(아무것도 변경하지 않음)
+local function now()
+    local t = redis.call('TIME')
+    return tonumber(t[1]) * 1000000 + tonumber(t[2])
+end
+
+local started = now()
+local sender = ARGV[1]
+local recipients = tonumber(ARGV[6])
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return { -1, now() - started }
+end
+if redis.call('SISMEMBER', KEYS[1], sender) == 0 then
+    return { -2, now() - started }
+end
+
+local members = redis.call('SCARD', KEYS[1])
+if members < 2 then
+    return { -3, now() - started }
+end
+
+-- 호출한 쪽의 참여자 목록이 오래돼 빠진 회원이 있으면 안 읽은 수가 어긋나므로 쓰기 전에 거절한다
+if members - 1 ~= recipients then
+    return { -4, now() - started }
+end
+for i = 1, recipients do
+    if redis.call('SISMEMBER', KEYS[1], ARGV[6 + i]) == 0 then
+        return { -4, now() - started }
+    end
+end
+
+for i = 1, recipients do
+    redis.call('HINCRBY', KEYS[3 + i], ARGV[5], 1)
+end
+
+redis.call('XADD', KEYS[2], '*', unpack(ARGV, 7 + recipients))
+
+redis.call('LPUSH', KEYS[3], ARGV[2])
+redis.call('LTRIM', KEYS[3], 0, tonumber(ARGV[4]) - 1)
+
+redis.call('PUBLISH', ARGV[3], ARGV[2])
+return { 1, now() - started }
@@ -0,0 +1,25 @@
+-- 컨슈머 그룹이 아직 처리하지 않은 항목은 남기고 그 이전 항목만 잘라낸다.
+-- 기준은 가장 오래된 pending 항목, pending 이 없으면 그룹의 last-delivered-id
+-- KEYS[1] = 스트림 키
+-- ARGV[1] = 컨슈머 그룹
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return 0
+end
+
+local minId = redis.call('XPENDING', KEYS[1], ARGV[1])[2]
+if not minId then
+    for _, group in ipairs(redis.call('XINFO', 'GROUPS', KEYS[1])) do
+        local info = {}
+        for i = 1, #group, 2 do
+            info[group[i]] = group[i + 1]
+        end
+        if info['name'] == ARGV[1] then
+            minId = info['last-delivered-id']
+        end
+    end
+end
+
+if not minId then
+    return 0
+end
+return redis.call('XTRIM', KEYS[1], 'MINID', '~', minId)
@@ -0,0 +1,7 @@
+-- 락 획득에 성공하면 fencing token 을 증가시켜 반환하고, 실패하면 0 을 반환
+-- KEYS[1] = 락 키, KEYS[2] = fencing token 키
+-- ARGV[1] = 소유자, ARGV[2] = 임대 시간(ms)
+if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return redis.call('INCR', KEYS[2])
+end
+return 0
@@ -0,0 +1,7 @@
+-- 락 소유자와 fencing token 이 모두 그대로면 1, 다른 인스턴스가 락을 가져갔으면 0 을 반환
+-- KEYS[1] = 락 키, KEYS[2] = fencing token 키
+-- ARGV[1] = 소유자, ARGV[2] = fencing token
+if redis.call('GET', KEYS[1]) == ARGV[1] and redis.call('GET', KEYS[2]) == ARGV[2] then
+    return 1
+end
+return 0
@@ -0,0 +1,10 @@
+-- ARGV[2] 가 0 보다 크면 즉시 삭제하지 않고 남은 최소 유지 시간만큼만 락을 남겨둔다.
+-- KEYS[1] = 락 키
+-- ARGV[1] = 소유자, ARGV[2] = 남은 최소 유지 시간(ms)
+if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+    return 0
+end
+if tonumber(ARGV[2]) > 0 then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return redis.call('DEL', KEYS[1])
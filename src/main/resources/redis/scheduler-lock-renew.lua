@@ -0,0 +1,6 @@
+-- KEYS[1] = 락 키
+-- ARGV[1] = 소유자, ARGV[2] = 임대 시간(ms)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
@@ -0,0 +1,7 @@
+-- 워커 id 임대 반납, 이 인스턴스가 소유한 경우에만 삭제한다
+-- KEYS[1] = 워커 id 키
+-- ARGV[1] = 소유자
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
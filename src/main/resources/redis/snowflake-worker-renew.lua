@@ -0,0 +1,7 @@
+-- 워커 id 임대 연장, 아직 이 인스턴스가 소유한 경우에만 만료 시간을 늘린다
+-- KEYS[1] = 워커 id 키
+-- ARGV[1] = 소유자, ARGV[2] = 임대 시간(ms)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+return 0
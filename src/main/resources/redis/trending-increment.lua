@@ -0,0 +1,18 @@
+-- KEYS[3..] 의 각 ZSET 에 ARGV 의 (member, weight) 쌍을 감쇠 보정해 더한다.
+-- epoch 를 스크립트 안에서 읽으므로 재조정 작업과 원자적으로 직렬화된다.
+-- KEYS[1] = epoch 키, KEYS[2] = 지역 키 목록 SET, KEYS[3..] = trending:area:{areaCode}
+-- ARGV[1] = now(ms), ARGV[2] = 반감기(ms), ARGV[3..] = (accommodationId, weight) 쌍
+local now = tonumber(ARGV[1])
+local epoch = tonumber(redis.call('GET', KEYS[1]))
+if not epoch then
+    epoch = now
+    redis.call('SET', KEYS[1], now)
+end
+
+local boost = 2 ^ ((now - epoch) / tonumber(ARGV[2]))
+for i = 3, #KEYS do
+    local j = (i - 3) * 2 + 3
+    redis.call('ZINCRBY', KEYS[i], tonumber(ARGV[j + 1]) * boost, ARGV[j])
+    redis.call('SADD', KEYS[2], KEYS[i])
+end
+return #KEYS - 2
@@ -0,0 +1,18 @@
+-- 모든 지역 점수를 현재 시점 기준으로 줄이고 상위 N 개만 남긴 뒤 epoch 를 현재로 옮긴다.
+-- KEYS[1] = epoch 키, KEYS[2] = 지역 키 목록 SET
+-- ARGV[1] = now(ms), ARGV[2] = 반감기(ms), ARGV[3] = 지역별 유지 개수
+local now = tonumber(ARGV[1])
+local epoch = tonumber(redis.call('GET', KEYS[1]))
+if not epoch then
+    return 0
+end
+
+local factor = 2 ^ (-(now - epoch) / tonumber(ARGV[2]))
+local keep = tonumber(ARGV[3])
+for _, key in ipairs(redis.call('SMEMBERS', KEYS[2])) do
+    redis.call('ZUNIONSTORE', key, 1, key, 'WEIGHTS', factor)
+    redis.call('ZREMRANGEBYRANK', key, 0, -(keep + 1))
+end
+
+redis.call('SET', KEYS[1], now)
+return 1
@@ -0,0 +1,15 @@
+-- 최근 본 숙소 기록: 추가, 30일 지난 기록 삭제, 최대 개수 유지, TTL 갱신을 한 번에 처리
+-- KEYS[1] = member:history:{memberId}
+-- ARGV[1] = accommodationId, ARGV[2] = now(ms), ARGV[3] = 만료 기준 시각(ms), ARGV[4] = 최대 개수, ARGV[5] = TTL(s)
+redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+redis.call('ZREMRANGEBYSCORE', KEYS[1], 0, ARGV[3])
+
+local max = tonumber(ARGV[4])
+local size = redis.call('ZCARD', KEYS[1])
+if size > max then
+    redis.call('ZREMRANGEBYRANK', KEYS[1], 0, size - max - 1)
+    size = max
+end
+
+redis.call('EXPIRE', KEYS[1], ARGV[5])
+return size
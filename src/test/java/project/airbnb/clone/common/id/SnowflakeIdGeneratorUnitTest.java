@@ -0,0 +1,109 @@
+package project.airbnb.clone.common.id;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import project.airbnb.clone.repository.redis.RedisScriptRegistry;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("SnowflakeIdGenerator 단위 테스트")
+class SnowflakeIdGeneratorUnitTest {
+
+    SnowflakeIdGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        generator = new SnowflakeIdGenerator(null, null, 7);
+        generator.init();
+    }
+
+    @Test
+    @DisplayName("발급한 id 는 항상 증가하고 워커 id 를 담는다")
+    void nextId_is_monotonic() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat((ids.get(0) >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 발급해도 id 가 겹치지 않는다")
+    void nextId_is_unique_across_threads() {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 40_000).parallel().forEach(i -> ids.add(generator.nextId()));
+
+        assertThat(ids).hasSize(40_000);
+    }
+
+    @Test
+    @DisplayName("임대한 워커 id 를 다른 인스턴스가 가져갔으면 새 워커 id 를 임대한다")
+    void renewLease_leases_new_worker_id_when_lost() {
+        ValueOperations<String, String> valueOps = mockValueOps();
+        RedisScriptRegistry scripts = mock(RedisScriptRegistry.class);
+        given(valueOps.increment(anyString())).willReturn(3L, 8L);
+        given(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true);
+        given(scripts.execute(eq("snowflake-worker-renew"), eq(Long.class), eq(List.of("id:snowflake:worker:3")), any(), any()))
+                .willReturn(0L);
+
+        SnowflakeIdGenerator leased = new SnowflakeIdGenerator(redisTemplate(valueOps), scripts, -1);
+        leased.init();
+        assertThat(workerIdOf(leased.nextId())).isEqualTo(3);
+
+        leased.renewLease();
+
+        assertThat(workerIdOf(leased.nextId())).isEqualTo(8);
+        leased.releaseLease();
+    }
+
+    @Test
+    @DisplayName("임대를 확인하지 못하면 같은 워커 id 로 중복 발급하지 않도록 발급을 거부한다")
+    void nextId_fails_fast_without_lease() {
+        ValueOperations<String, String> valueOps = mockValueOps();
+        RedisScriptRegistry scripts = mock(RedisScriptRegistry.class);
+        given(valueOps.increment(anyString())).willReturn(3L);
+        given(valueOps.setIfAbsent(anyString(), anyString(), any(Duration.class))).willReturn(true, false);
+        given(scripts.execute(eq("snowflake-worker-renew"), eq(Long.class), any(), any(), any())).willReturn(0L);
+
+        SnowflakeIdGenerator leased = new SnowflakeIdGenerator(redisTemplate(valueOps), scripts, -1);
+        leased.init();
+        leased.renewLease();
+
+        assertThatThrownBy(leased::nextId).isInstanceOf(IllegalStateException.class);
+        leased.releaseLease();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ValueOperations<String, String> mockValueOps() {
+        return mock(ValueOperations.class);
+    }
+
+    private static StringRedisTemplate redisTemplate(ValueOperations<String, String> valueOps) {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.opsForValue()).willReturn(valueOps);
+        return redisTemplate;
+    }
+
+    private static long workerIdOf(long id) {
+        return (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID;
+    }
+}
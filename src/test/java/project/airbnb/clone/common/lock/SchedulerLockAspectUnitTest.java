@@ -0,0 +1,120 @@
+package project.airbnb.clone.common.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import project.airbnb.clone.common.annotations.SchedulerLock;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SchedulerLockAspect 단위 테스트")
+class SchedulerLockAspectUnitTest {
+
+    static final SchedulerLockHandle HANDLE = new SchedulerLockHandle("job", "owner", 1L, System.currentTimeMillis());
+
+    @Mock
+    SchedulerLockManager lockManager;
+
+    @Mock
+    ProceedingJoinPoint joinPoint;
+
+    SimpleMeterRegistry meterRegistry;
+    SchedulerLockAspect aspect;
+    SchedulerLock schedulerLock;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        aspect = new SchedulerLockAspect(meterRegistry, lockManager);
+        schedulerLock = getClass().getDeclaredMethod("lockedJob").getAnnotation(SchedulerLock.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspect.shutdown();
+    }
+
+    @SchedulerLock(name = "job", leaseMillis = 90, lockAtLeastMillis = 1_000)
+    void lockedJob() {
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 락을 가지고 있으면 작업을 실행하지 않는다")
+    void skip_when_not_acquired() throws Throwable {
+        given(lockManager.tryAcquire(anyString(), any())).willReturn(Optional.empty());
+
+        Object result = aspect.runWithLock(joinPoint, schedulerLock);
+
+        assertThat(result).isNull();
+        verify(joinPoint, never()).proceed();
+        assertThat(meterRegistry.counter("scheduler.lock.skipped", "name", "job").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("작업 중에는 락을 연장하고, 끝나면 핸들을 비운 뒤 최소 유지 시간으로 해제한다")
+    void renew_while_running_and_release() throws Throwable {
+        AtomicReference<SchedulerLockHandle> contextInJob = new AtomicReference<>();
+        given(lockManager.tryAcquire("job", Duration.ofMillis(90))).willReturn(Optional.of(HANDLE));
+        given(lockManager.renew(HANDLE, Duration.ofMillis(90))).willReturn(true);
+        given(joinPoint.proceed()).willAnswer(invocation -> {
+            contextInJob.set(SchedulerLockContext.current());
+            Thread.sleep(200);
+            return "done";
+        });
+
+        Object result = aspect.runWithLock(joinPoint, schedulerLock);
+
+        assertThat(result).isEqualTo("done");
+        assertThat(contextInJob.get()).isEqualTo(HANDLE);
+        assertThat(SchedulerLockContext.current()).isNull();
+        verify(lockManager, atLeastOnce()).renew(HANDLE, Duration.ofMillis(90));
+        verify(lockManager).release(HANDLE, Duration.ofMillis(1_000));
+        verify(lockManager, never()).markLost(HANDLE);
+    }
+
+    @Test
+    @DisplayName("락 연장에 실패하면 작업 스레드를 인터럽트해 중단시키고 락을 해제하지 않는다")
+    void abort_job_when_renewal_fails() throws Throwable {
+        AtomicBoolean lost = new AtomicBoolean();
+        given(lockManager.tryAcquire("job", Duration.ofMillis(90))).willReturn(Optional.of(HANDLE));
+        given(lockManager.renew(HANDLE, Duration.ofMillis(90))).willReturn(false);
+        given(lockManager.isLost(HANDLE)).willAnswer(invocation -> lost.get());
+        willAnswer(invocation -> {
+            lost.set(true);
+            return null;
+        }).given(lockManager).markLost(HANDLE);
+        given(joinPoint.proceed()).willAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return "done";
+        });
+
+        assertThatThrownBy(() -> aspect.runWithLock(joinPoint, schedulerLock))
+                .isInstanceOf(InterruptedException.class);
+
+        assertThat(Thread.currentThread().isInterrupted()).isFalse();
+        assertThat(meterRegistry.counter("scheduler.lock.lost", "name", "job").count()).isEqualTo(1.0);
+        verify(lockManager).markLost(HANDLE);
+        verify(lockManager, never()).release(any(), any());
+        verify(lockManager).forget(HANDLE);
+    }
+}
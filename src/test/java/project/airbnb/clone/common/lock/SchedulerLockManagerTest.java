@@ -0,0 +1,86 @@
+package project.airbnb.clone.common.lock;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import project.airbnb.clone.TestContainerSupport;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SchedulerLockManagerTest extends TestContainerSupport {
+
+    static final String NAME = "scheduler-lock-manager-test";
+    static final Duration LEASE = Duration.ofSeconds(30);
+
+    @Autowired SchedulerLockManager lockManager;
+    @Autowired StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        SchedulerLockContext.clear();
+        redisTemplate.delete(List.of("scheduler:lock:" + NAME, "scheduler:lock:" + NAME + ":fence"));
+    }
+
+    @Test
+    @DisplayName("성공 - 이미 소유자가 있으면 락을 얻지 못하고, 해제 후 다시 얻으면 fencing token 이 증가한다")
+    void tryAcquire_contention() {
+        SchedulerLockHandle first = lockManager.tryAcquire(NAME, LEASE).orElseThrow();
+
+        assertThat(lockManager.tryAcquire(NAME, LEASE)).isEmpty();
+
+        lockManager.release(first, Duration.ZERO);
+        Optional<SchedulerLockHandle> second = lockManager.tryAcquire(NAME, LEASE);
+
+        assertThat(second).isPresent();
+        assertThat(second.get().fencingToken()).isEqualTo(first.fencingToken() + 1);
+    }
+
+    @Test
+    @DisplayName("성공 - 소유자만 락을 연장할 수 있다")
+    void renew_only_by_owner() {
+        SchedulerLockHandle handle = lockManager.tryAcquire(NAME, LEASE).orElseThrow();
+        SchedulerLockHandle stranger = new SchedulerLockHandle(NAME, "stranger", handle.fencingToken(), handle.acquiredAtMillis());
+
+        assertThat(lockManager.renew(handle, LEASE)).isTrue();
+        assertThat(lockManager.renew(stranger, LEASE)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공 - 소유자가 아닌 핸들로 해제해도 락은 그대로 남는다")
+    void release_by_non_owner_keeps_lock() {
+        SchedulerLockHandle handle = lockManager.tryAcquire(NAME, LEASE).orElseThrow();
+        SchedulerLockHandle stranger = new SchedulerLockHandle(NAME, "stranger", handle.fencingToken(), handle.acquiredAtMillis());
+
+        lockManager.release(stranger, Duration.ZERO);
+
+        assertThat(lockManager.isHeld(handle)).isTrue();
+        assertThat(lockManager.tryAcquire(NAME, LEASE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공 - 다른 소유자가 락을 가져가면 이전 핸들로는 쓰기 전 확인에 실패한다")
+    void ensureCurrentLockHeld_fails_after_takeover() {
+        SchedulerLockHandle stale = lockManager.tryAcquire(NAME, LEASE).orElseThrow();
+        redisTemplate.delete("scheduler:lock:" + NAME); // 임대 만료
+        SchedulerLockHandle current = lockManager.tryAcquire(NAME, LEASE).orElseThrow();
+
+        assertThat(lockManager.isHeld(stale)).isFalse();
+        assertThat(lockManager.isHeld(current)).isTrue();
+
+        SchedulerLockContext.set(stale);
+        assertThatThrownBy(() -> lockManager.ensureCurrentLockHeld())
+                .isInstanceOf(SchedulerLockLostException.class);
+        assertThat(lockManager.isLost(stale)).isTrue();
+
+        SchedulerLockContext.set(current);
+        lockManager.ensureCurrentLockHeld();
+        lockManager.forget(stale);
+    }
+}
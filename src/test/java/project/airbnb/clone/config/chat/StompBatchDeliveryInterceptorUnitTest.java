@@ -0,0 +1,144 @@
+package project.airbnb.clone.config.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static project.airbnb.clone.config.chat.StompBatchDeliveryInterceptor.BATCH_DELIVERY;
+import static project.airbnb.clone.config.chat.StompBatchDeliveryInterceptor.BATCH_SIZE_HEADER;
+import static project.airbnb.clone.config.chat.StompBatchDeliveryInterceptor.DELIVERY_HEADER;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompBatchDeliveryInterceptor 단위 테스트")
+class StompBatchDeliveryInterceptorUnitTest {
+
+    @Mock
+    MessageChannel outboundChannel;
+
+    StompBatchDeliveryInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new StompBatchDeliveryInterceptor(new StompProperties(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        interceptor.shutdown();
+    }
+
+    @Test
+    @DisplayName("x-delivery: batch 구독은 window 안에 이어진 메시지를 JSON 배열 한 프레임으로 받는다")
+    void batch_within_window() {
+        interceptor.preSend(subscribe("sub-0", BATCH_DELIVERY), null);
+
+        Message<?> first = message("sub-0", "{\"id\":1}");
+        assertThat(interceptor.preSend(first, outboundChannel)).isSameAs(first);
+        assertThat(interceptor.preSend(message("sub-0", "{\"id\":2}"), outboundChannel)).isNull();
+        assertThat(interceptor.preSend(message("sub-0", "{\"id\":3}"), outboundChannel)).isNull();
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(outboundChannel, timeout(1000)).send(captor.capture());
+
+        Message<?> batch = captor.getValue();
+        assertThat(new String((byte[]) batch.getPayload(), StandardCharsets.UTF_8)).isEqualTo("[{\"id\":2},{\"id\":3}]");
+        assertThat(NativeMessageHeaderAccessor.getFirstNativeHeader(BATCH_SIZE_HEADER, batch.getHeaders())).isEqualTo("2");
+        assertThat(SimpMessageHeaderAccessor.getSubscriptionId(batch.getHeaders())).isEqualTo("sub-0");
+    }
+
+    @Test
+    @DisplayName("헤더 없이 구독한 클라이언트는 메시지마다 한 프레임을 받는다")
+    void single_without_header() {
+        interceptor.preSend(subscribe("sub-0", BATCH_DELIVERY), null);
+        interceptor.preSend(subscribe("sub-1", null), null);
+
+        for (int i = 0; i < 3; i++) {
+            Message<?> message = message("sub-1", "{\"id\":" + i + "}");
+            assertThat(interceptor.preSend(message, outboundChannel)).isSameAs(message);
+        }
+    }
+
+    @Test
+    @DisplayName("실제 outbound 채널에서 window 안에 한 건만 모였어도 flush 후 한 번만 전달된다")
+    void flush_single_through_channel() throws Exception {
+        BlockingQueue<Message<?>> delivered = new LinkedBlockingQueue<>();
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+        channel.addInterceptor(interceptor);
+        channel.subscribe(delivered::add);
+
+        interceptor.preSend(subscribe("sub-0", BATCH_DELIVERY), null);
+        channel.send(message("sub-0", "{\"id\":1}"));
+        channel.send(message("sub-0", "{\"id\":2}"));
+
+        assertThat(payloadOf(delivered.poll(1, TimeUnit.SECONDS))).isEqualTo("{\"id\":1}");
+        Message<?> flushed = delivered.poll(1, TimeUnit.SECONDS);
+        assertThat(payloadOf(flushed)).isEqualTo("{\"id\":2}");
+        assertThat(NativeMessageHeaderAccessor.getFirstNativeHeader(BATCH_SIZE_HEADER, flushed.getHeaders())).isNull();
+        assertThat(delivered.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    @DisplayName("실제 outbound 채널에서 flush 된 묶음은 다시 묶이지 않고 한 번만 전달된다")
+    void flush_batch_through_channel() throws Exception {
+        BlockingQueue<Message<?>> delivered = new LinkedBlockingQueue<>();
+        ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+        channel.addInterceptor(interceptor);
+        channel.subscribe(delivered::add);
+
+        interceptor.preSend(subscribe("sub-0", BATCH_DELIVERY), null);
+        for (int i = 1; i <= 3; i++) {
+            channel.send(message("sub-0", "{\"id\":" + i + "}"));
+        }
+
+        assertThat(payloadOf(delivered.poll(1, TimeUnit.SECONDS))).isEqualTo("{\"id\":1}");
+        assertThat(payloadOf(delivered.poll(1, TimeUnit.SECONDS))).isEqualTo("[{\"id\":2},{\"id\":3}]");
+        assertThat(delivered.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private static String payloadOf(Message<?> message) {
+        assertThat(message).isNotNull();
+        return new String((byte[]) message.getPayload(), StandardCharsets.UTF_8);
+    }
+
+    private static Message<?> subscribe(String subscriptionId, String delivery) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.SUBSCRIBE);
+        accessor.setSessionId("s1");
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/topic/1");
+        if (delivery != null) {
+            accessor.setNativeHeader(DELIVERY_HEADER, delivery);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static Message<?> message(String subscriptionId, String json) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("s1");
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination("/topic/1");
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        return MessageBuilder.createMessage(json.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,123 @@
+package project.airbnb.clone.config.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import project.airbnb.clone.service.chat.ChatTrafficMonitor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StompSlowConsumerGuard 단위 테스트")
+class StompSlowConsumerGuardUnitTest {
+
+    @Mock
+    WebSocketHandler handler;
+    @Mock
+    WebSocketSession session;
+    @Mock
+    ChatTrafficMonitor chatTrafficMonitor;
+
+    SimpleMeterRegistry meterRegistry;
+    StompSlowConsumerGuard guard;
+    WebSocketSession guarded;
+    CountDownLatch blocked = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        StompProperties properties = new StompProperties();
+        properties.setSendBufferSizeLimit(1_000);
+        properties.setSendTimeLimit(Duration.ofSeconds(2));
+
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new StompSlowConsumerGuard(properties, meterRegistry, chatTrafficMonitor);
+
+        given(session.getId()).willReturn("s1");
+        // 첫 프레임 전송이 끝나지 않는 느린 클라이언트
+        willAnswer(invocation -> {
+            blocked.await();
+            return null;
+        }).given(session).sendMessage(any());
+
+        guard.decorate(handler).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        guarded = captor.getValue();
+    }
+
+    @AfterEach
+    void tearDown() {
+        blocked.countDown();
+        guard.shutdown();
+    }
+
+    @Test
+    @DisplayName("알림 프레임만 밀려 있으면 오래된 것부터 버리고 세션은 유지한다")
+    void drop_oldest_notifications() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            guarded.sendMessage(frame("/user/queue/notifications"));
+        }
+
+        verify(session, timeout(1000)).sendMessage(any());
+        assertThat(meterRegistry.get("chat.stomp.outbound.dropped").counter().count()).isPositive();
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("채팅 프레임이 한도를 넘게 밀리면 세션을 종료한다")
+    void disconnect_on_chat_overflow() throws Exception {
+        for (int i = 0; i < 20; i++) {
+            guarded.sendMessage(frame("/topic/1"));
+        }
+
+        verify(session, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("chat.stomp.outbound.disconnected").tag("reason", "buffer").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 프레임 전송이 sendTimeLimit 를 넘기면 전용 스케줄러가 세션을 종료한다")
+    void disconnect_on_send_time_limit() throws Exception {
+        guarded.sendMessage(frame("/topic/1"));
+
+        verify(session, timeout(5000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("chat.stomp.outbound.disconnected").tag("reason", "time").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 지표는 대기열을 거쳐 소켓 쓰기가 끝난 뒤에 기록한다")
+    void record_delivery_after_socket_write() throws Exception {
+        guarded.sendMessage(new TextMessage("MESSAGE\ndestination:/topic/1\npublished-at:123\n\n{}\0"));
+
+        verify(session, timeout(1000)).sendMessage(any());
+        verify(chatTrafficMonitor, never()).recordDelivered(anyLong());
+
+        blocked.countDown();
+
+        verify(chatTrafficMonitor, timeout(1000)).recordDelivered(123L);
+        verify(chatTrafficMonitor).recordFrame("outbound", "message");
+    }
+
+    private static TextMessage frame(String destination) {
+        return new TextMessage("MESSAGE\ndestination:" + destination + "\ncontent-type:application/json\n\n" + "x".repeat(100) + "\0");
+    }
+}
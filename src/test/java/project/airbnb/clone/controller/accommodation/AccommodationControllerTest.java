@@ -21,6 +21,7 @@ import static com.epages.restdocs.apispec.ResourceSnippetParameters.builder;
 import static com.epages.restdocs.apispec.Schema.schema;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
@@ -481,6 +482,58 @@ class AccommodationControllerTest extends RestDocsTestSupport {
                        )));
     }
 
+    @Test
+    @DisplayName("지역별 실시간 인기 숙소 조회")
+    void getTrendingAccommodations() throws Exception {
+        //given
+        List<TrendingAccResDto> result = List.of(
+                new TrendingAccResDto(1L, "호텔A", 4.5, "https://example.com/a.jpg"),
+                new TrendingAccResDto(2L, "호텔B", 3.8, "https://example.com/b.jpg")
+        );
+        given(accommodationService.getTrendingAccommodations(any(), anyInt())).willReturn(result);
+
+        //when
+        //then
+        mockMvc.perform(get("/api/accommodations/trending")
+                       .param("areaCode", "1")
+                       .param("size", "2")
+               )
+               .andExpectAll(
+                       handler().handlerType(AccommodationController.class),
+                       handler().methodName("getTrendingAccommodations"),
+                       status().isOk(),
+                       jsonPath("$", hasSize(result.size())),
+                       jsonPath("$[0].accommodationId").value(result.get(0).accommodationId()),
+                       jsonPath("$[1].title").value(result.get(1).title())
+               )
+               .andDo(document("get-trending-accommodations",
+                       resource(
+                               builder()
+                                       .tag(ACCOMMODATION_API_TAG)
+                                       .summary("지역별 실시간 인기 숙소 조회")
+                                       .queryParameters(
+                                               parameterWithName("areaCode").description("지역 코드"),
+                                               parameterWithName("size").optional().description("조회 개수 (기본 10, 최대 50)")
+                                       )
+                                       .responseFields(
+                                               fieldWithPath("[].accommodationId")
+                                                       .type(NUMBER)
+                                                       .description("숙소 ID"),
+                                               fieldWithPath("[].title")
+                                                       .type(STRING)
+                                                       .description("숙소 이름"),
+                                               fieldWithPath("[].avgRate")
+                                                       .type(NUMBER)
+                                                       .description("평균 평점"),
+                                               fieldWithPath("[].thumbnailUrl")
+                                                       .type(STRING)
+                                                       .description("썸네일 URL")
+                                       )
+                                       .responseSchema(schema("TrendingAccommodationsResponse"))
+                                       .build()
+                       )));
+    }
+
     @Test
     @DisplayName("숙소 특정 날짜 가격 조회")
     void getAccommodationPrice() throws Exception {
@@ -22,7 +22,10 @@ import static com.epages.restdocs.apispec.Schema.schema;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.payload.JsonFieldType.BOOLEAN;
@@ -118,6 +121,43 @@ class ChatRoomControllerTest extends RestDocsTestSupport {
                ));
     }
 
+    @Test
+    @DisplayName("참여 중인 채팅방 전체 안 읽은 메시지 수 조회")
+    @WithMockMember
+    void getTotalUnreadCount() throws Exception {
+        //given
+        ChatUnreadCountResDto response = new ChatUnreadCountResDto(12);
+
+        given(chatRoomService.getTotalUnreadCount(anyLong())).willReturn(response);
+
+        //when
+        //then
+        mockMvc.perform(get(PATH_PREFIX + "/unread-count")
+                       .header(AUTHORIZATION, "Bearer {access-token}")
+               )
+               .andExpectAll(
+                       handler().handlerType(ChatRoomController.class),
+                       handler().methodName("getTotalUnreadCount"),
+                       status().isOk(),
+                       jsonPath("$.count").value(response.count())
+               )
+               .andDo(document("get-chat-unread-count",
+                       resource(
+                               builder()
+                                       .tag(API_TAG)
+                                       .summary("참여 중인 채팅방 전체 안 읽은 메시지 수 조회")
+                                       .requestHeaders(headerWithName(AUTHORIZATION).description("Bearer {액세스 토큰}"))
+                                       .responseFields(
+                                               fieldWithPath("count")
+                                                       .type(NUMBER)
+                                                       .description("전체 안 읽은 메시지 개수")
+                                       )
+                                       .responseSchema(schema("ChatUnreadCountResponse"))
+                                       .build()
+                       )
+               ));
+    }
+
     @Test
     @DisplayName("채팅방 메시지 기록 조회")
     @WithMockMember
@@ -193,6 +233,88 @@ class ChatRoomControllerTest extends RestDocsTestSupport {
                ));
     }
 
+    @Test
+    @DisplayName("채팅방 메시지 검색")
+    @WithMockMember
+    void searchMessages() throws Exception {
+        //given
+        List<ChatMessageResDto> messages = List.of(
+                new ChatMessageResDto(7L, 1L, 4L, "Maria Lai", "체크인 시간이 언제인가요?", LocalDateTime.now().minusDays(2)),
+                new ChatMessageResDto(3L, 1L, 5L, "Ha Cui", "체크인은 오후 3시부터입니다", LocalDateTime.now().minusDays(3))
+        );
+        ChatMessageSearchResDto response = new ChatMessageSearchResDto(messages, true, 3L);
+
+        given(chatMessageService.searchMessages(anyLong(), anyLong(), anyString(), anyLong(), anyInt())).willReturn(response);
+
+        //when
+        //then
+        mockMvc.perform(get(PATH_PREFIX + "/{roomId}/messages/search", 1L)
+                       .header(AUTHORIZATION, "Bearer {access-token}")
+                       .param("q", "체크인")
+                       .param("lastMessageId", "10")
+                       .param("size", "20")
+               )
+               .andExpectAll(
+                       handler().handlerType(ChatRoomController.class),
+                       handler().methodName("searchMessages"),
+                       status().isOk(),
+                       jsonPath("$.messages.length()").value(response.messages().size()),
+                       jsonPath("$.hasMore").value(response.hasMore()),
+                       jsonPath("$.nextCursor").value(response.nextCursor())
+               )
+               .andDo(document("search-chat-messages",
+                       resource(
+                               builder()
+                                       .tag(API_TAG)
+                                       .summary("특정 채팅방 메시지 검색")
+                                       .description("특정 채팅방의 메시지를 검색어로 최신순 조회합니다. 다음 페이지는 응답의 nextCursor를 lastMessageId로 전달하면 됩니다. 결과가 size보다 적어도 hasMore가 true이면 이어서 검색할 수 있습니다.")
+                                       .requestHeaders(headerWithName(AUTHORIZATION).description("Bearer {액세스 토큰}"))
+                                       .pathParameters(parameterWithName("roomId").description("채팅방 ID"))
+                                       .queryParameters(
+                                               parameterWithName("q")
+                                                       .description("검색어(최대 50자)"),
+                                               parameterWithName("lastMessageId")
+                                                       .optional()
+                                                       .description("이전 검색 응답의 nextCursor"),
+                                               parameterWithName("size")
+                                                       .description("한번에 조회할 개수")
+                                       )
+                                       .responseFields(
+                                               fieldWithPath("messages[].messageId")
+                                                       .type(STRING)
+                                                       .description("메시지 ID"),
+                                               fieldWithPath("messages[].roomId")
+                                                       .type(NUMBER)
+                                                       .description("채팅방 ID"),
+                                               fieldWithPath("messages[].senderId")
+                                                       .type(NUMBER)
+                                                       .description("전송자 ID"),
+                                               fieldWithPath("messages[].senderName")
+                                                       .type(STRING)
+                                                       .description("전송자 이름"),
+                                               fieldWithPath("messages[].content")
+                                                       .type(STRING)
+                                                       .description("메시지 내용"),
+                                               fieldWithPath("messages[].timestamp")
+                                                       .type(STRING)
+                                                       .description("메시지 전송 시간"),
+                                               fieldWithPath("messages[].left")
+                                                       .type(BOOLEAN)
+                                                       .description("채팅방 나감 메시지 여부"),
+                                               fieldWithPath("hasMore")
+                                                       .type(BOOLEAN)
+                                                       .description("이어서 검색할 메시지 존재 여부"),
+                                               fieldWithPath("nextCursor")
+                                                       .type(NUMBER)
+                                                       .optional()
+                                                       .description("다음 검색 요청의 lastMessageId")
+                                       )
+                                       .responseSchema(schema("ChatMessageSearchResponse"))
+                                       .build()
+                       )
+               ));
+    }
+
     @Test
     @DisplayName("채팅방 이름 설정")
     @WithMockMember
@@ -317,11 +439,14 @@ class ChatRoomControllerTest extends RestDocsTestSupport {
     void markChatRoomAsRead() throws Exception {
         //given
         Long roomId = 1L;
+        ReadChatRoomReqDto request = new ReadChatRoomReqDto(100L);
 
         //when
         //then
         mockMvc.perform(put(PATH_PREFIX + "/{roomId}/read", roomId)
                        .header(AUTHORIZATION, "Bearer {access-token}")
+                       .contentType(MediaType.APPLICATION_JSON_VALUE)
+                       .content(creatJson(request))
                )
                .andExpectAll(
                        handler().handlerType(ChatRoomController.class),
@@ -336,8 +461,31 @@ class ChatRoomControllerTest extends RestDocsTestSupport {
                                        .description("특정 채팅방의 읽지 않은 메시지 카운트를 0으로 초기화하고, 마지막 읽은 메시지 지점을 갱신합니다.")
                                        .requestHeaders(headerWithName(AUTHORIZATION).description("Bearer {액세스 토큰}"))
                                        .pathParameters(parameterWithName("roomId").description("채팅방 ID"))
+                                       .requestFields(fieldWithPath("lastMessageId").description("마지막으로 읽은 메시지 ID").type(NUMBER))
+                                       .requestSchema(schema("ReadChatRoomRequest"))
                                        .build()
                        )
                ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("채팅방 메시지 모두 읽음 처리 - 요청 본문 없이 호출")
+    @WithMockMember
+    void markChatRoomAsRead_withoutBody() throws Exception {
+        //given
+        Long roomId = 1L;
+
+        //when
+        //then
+        mockMvc.perform(put(PATH_PREFIX + "/{roomId}/read", roomId)
+                       .header(AUTHORIZATION, "Bearer {access-token}")
+               )
+               .andExpectAll(
+                       handler().handlerType(ChatRoomController.class),
+                       handler().methodName("markChatRoomAsRead"),
+                       status().isOk()
+               );
+
+        verify(chatRoomService).markChatRoomAsRead(eq(roomId), anyLong(), isNull());
+    }
+}
@@ -0,0 +1,76 @@
+package project.airbnb.clone.repository.jdbc;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.airbnb.clone.TestContainerSupport;
+import project.airbnb.clone.entity.accommodation.Accommodation;
+import project.airbnb.clone.entity.area.AreaCode;
+import project.airbnb.clone.entity.area.SigunguCode;
+import project.airbnb.clone.entity.member.Member;
+import project.airbnb.clone.entity.reservation.Reservation;
+import project.airbnb.clone.entity.reservation.Review;
+import project.airbnb.clone.fixtures.AccommodationFixture;
+import project.airbnb.clone.fixtures.MemberFixture;
+import project.airbnb.clone.fixtures.ReservationFixture;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccommodationStatsJdbcRepositoryTest extends TestContainerSupport {
+
+    @Autowired AccommodationStatsJdbcRepository accommodationStatsJdbcRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager em;
+
+    Accommodation accommodation;
+
+    @BeforeEach
+    void setUp() {
+        AreaCode areaCode = AreaCode.create("11", "서울");
+        SigunguCode sigunguCode = SigunguCode.create("11680", "강남구", areaCode);
+        Member member = MemberFixture.create();
+        em.persist(areaCode);
+        em.persist(sigunguCode);
+        em.persist(member);
+
+        accommodation = AccommodationFixture.create("숙소", sigunguCode, 127.0, 37.5);
+        em.persist(accommodation);
+
+        Reservation confirmed = ReservationFixture.create(member, accommodation);
+        confirmed.confirm();
+        em.persist(confirmed);
+        em.persist(Review.create(4.0, "좋아요", confirmed, member));
+
+        // 확정되지 않은 예약은 집계하지 않는다
+        em.persist(ReservationFixture.create(member, accommodation));
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("Success: 어긋난 통계 필드를 원본 예약/리뷰 기준으로 보정하고, 맞는 숙소는 건드리지 않는다.")
+    void reconcileRange_repairsDriftedCounters() {
+        jdbcTemplate.update("""
+                UPDATE accommodations
+                SET reservation_count = 7, review_count = 0, rating_sum = 0, average_rating = 0
+                WHERE accommodation_id = ?
+                """, accommodation.getId());
+
+        int repaired = accommodationStatsJdbcRepository.reconcileRange(accommodation.getId(), accommodation.getId());
+
+        assertThat(repaired).isEqualTo(1);
+        Map<String, Object> stats = jdbcTemplate.queryForMap(
+                "SELECT reservation_count, review_count, rating_sum, average_rating FROM accommodations WHERE accommodation_id = ?",
+                accommodation.getId());
+        assertThat(((Number) stats.get("reservation_count")).intValue()).isEqualTo(1);
+        assertThat(((Number) stats.get("review_count")).intValue()).isEqualTo(1);
+        assertThat(((Number) stats.get("rating_sum")).doubleValue()).isEqualTo(4.0);
+        assertThat(((Number) stats.get("average_rating")).doubleValue()).isEqualTo(4.0);
+
+        assertThat(accommodationStatsJdbcRepository.reconcileRange(accommodation.getId(), accommodation.getId())).isZero();
+    }
+}
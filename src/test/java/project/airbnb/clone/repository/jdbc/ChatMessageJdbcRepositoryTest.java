@@ -0,0 +1,111 @@
+package project.airbnb.clone.repository.jdbc;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.airbnb.clone.TestContainerSupport;
+import project.airbnb.clone.entity.chat.ChatRoom;
+import project.airbnb.clone.entity.member.Member;
+import project.airbnb.clone.fixtures.MemberFixture;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageJdbcRepositoryTest extends TestContainerSupport {
+
+    @Autowired ChatMessageJdbcRepository chatMessageJdbcRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager em;
+
+    ChatRoom chatRoom;
+    Member sender;
+    LocalDateTime sentAt;
+
+    @BeforeEach
+    void setUp() {
+        chatRoom = new ChatRoom();
+        sender = MemberFixture.create();
+        em.persist(chatRoom);
+        em.persist(sender);
+        em.flush();
+
+        sentAt = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Success: 메시지를 전송 시점의 id 와 시각 그대로 한 번에 저장하고, 채팅방 마지막 메시지와 검색 색인을 함께 갱신한다.")
+    void insertAll_persistsBatchWithSnapshotAndTokens() {
+        List<ChatMessageInsertDto> messages = List.of(
+                new ChatMessageInsertDto(101L, chatRoom.getId(), sender.getId(), "안녕하세요", sentAt),
+                new ChatMessageInsertDto(103L, chatRoom.getId(), sender.getId(), "체크인 시간", sentAt.plusMinutes(2)),
+                new ChatMessageInsertDto(102L, chatRoom.getId(), sender.getId(), "반가워요", sentAt.plusMinutes(1)));
+
+        chatMessageJdbcRepository.insertAll(messages);
+
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT chat_message_id, content FROM chat_messages WHERE chat_room_id = ? ORDER BY chat_message_id", chatRoom.getId());
+        assertThat(rows).extracting(row -> ((Number) row.get("chat_message_id")).longValue()).containsExactly(101L, 102L, 103L);
+
+        Map<String, Object> room = jdbcTemplate.queryForMap(
+                "SELECT last_message_id, last_message_preview, last_message_sender_id, last_message_at FROM chat_rooms WHERE chat_room_id = ?",
+                chatRoom.getId());
+        assertThat(((Number) room.get("last_message_id")).longValue()).isEqualTo(103L);
+        assertThat(room.get("last_message_preview")).isEqualTo("체크인 시간");
+        assertThat(((Number) room.get("last_message_sender_id")).longValue()).isEqualTo(sender.getId());
+        assertThat(((Timestamp) room.get("last_message_at")).toLocalDateTime()).isEqualTo(sentAt.plusMinutes(2));
+
+        Long tokenCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_message_tokens WHERE chat_room_id = ? AND token = ? AND chat_message_id = ?",
+                Long.class, chatRoom.getId(), "체크", 103L);
+        assertThat(tokenCount).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Success: 재전달로 같은 메시지가 다시 들어와도 한 번만 저장된다.")
+    void insertAll_isIdempotentForRedelivery() {
+        List<ChatMessageInsertDto> messages = List.of(
+                new ChatMessageInsertDto(201L, chatRoom.getId(), sender.getId(), "중복 전달", sentAt));
+
+        chatMessageJdbcRepository.insertAll(messages);
+        chatMessageJdbcRepository.insertAll(messages);
+
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_messages WHERE chat_message_id = ?", Long.class, 201L);
+        assertThat(count).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("Fail: 같은 id 로 내용이 다른 메시지가 들어오면 덮어쓰지 않고 예외가 발생한다.")
+    void insertAll_conflictingDuplicate_throwsException() {
+        chatMessageJdbcRepository.insertAll(List.of(
+                new ChatMessageInsertDto(301L, chatRoom.getId(), sender.getId(), "원본", sentAt)));
+
+        assertThatThrownBy(() -> chatMessageJdbcRepository.insertAll(List.of(
+                new ChatMessageInsertDto(302L, chatRoom.getId(), sender.getId(), "새 메시지", sentAt),
+                new ChatMessageInsertDto(301L, chatRoom.getId(), sender.getId(), "다른 메시지", sentAt))))
+                .isInstanceOf(DuplicateKeyException.class);
+
+        String content = jdbcTemplate.queryForObject(
+                "SELECT content FROM chat_messages WHERE chat_message_id = ?", String.class, 301L);
+        assertThat(content).isEqualTo("원본");
+    }
+
+    @Test
+    @DisplayName("Success: 존재하는 채팅방/회원 id 만 골라낸다.")
+    void findExistingIds() {
+        assertThat(chatMessageJdbcRepository.findExistingChatRoomIds(List.of(chatRoom.getId(), -1L))).containsExactly(chatRoom.getId());
+        assertThat(chatMessageJdbcRepository.findExistingMemberIds(List.of(sender.getId(), -1L))).containsExactly(sender.getId());
+        assertThat(chatMessageJdbcRepository.findExistingMemberIds(List.of())).isEmpty();
+    }
+}
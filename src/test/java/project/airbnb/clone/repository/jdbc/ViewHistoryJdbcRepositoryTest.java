@@ -0,0 +1,103 @@
+package project.airbnb.clone.repository.jdbc;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import project.airbnb.clone.TestContainerSupport;
+import project.airbnb.clone.entity.accommodation.Accommodation;
+import project.airbnb.clone.entity.area.AreaCode;
+import project.airbnb.clone.entity.area.SigunguCode;
+import project.airbnb.clone.entity.history.ViewHistory;
+import project.airbnb.clone.entity.member.Member;
+import project.airbnb.clone.fixtures.AccommodationFixture;
+import project.airbnb.clone.fixtures.MemberFixture;
+import project.airbnb.clone.repository.dto.ViewHistoryUpsertDto;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ViewHistoryJdbcRepositoryTest extends TestContainerSupport {
+
+    @Autowired ViewHistoryJdbcRepository viewHistoryJdbcRepository;
+    @Autowired EntityManager em;
+
+    Member member;
+    Accommodation accommodation;
+
+    @BeforeEach
+    void setUp() {
+        member = MemberFixture.create();
+        em.persist(member);
+
+        AreaCode areaCode = AreaCode.create("11", "서울");
+        em.persist(areaCode);
+
+        SigunguCode sigunguCode = SigunguCode.create("11680", "강남구", areaCode);
+        em.persist(sigunguCode);
+
+        accommodation = AccommodationFixture.create("테스트 숙소", sigunguCode, 1.0, 1.1);
+        em.persist(accommodation);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("Success: 최초 조회 시 새로운 조회 이력을 생성한다.")
+    void upsertAll_createsNew() {
+        LocalDateTime viewedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        viewHistoryJdbcRepository.upsertAll(List.of(new ViewHistoryUpsertDto(member.getId(), accommodation.getId(), viewedAt)));
+
+        List<ViewHistory> result = findViewHistories();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getViewedAt()).isEqualTo(viewedAt);
+    }
+
+    @Test
+    @DisplayName("Success: 기존 조회 이력이 있으면 같은 행의 viewedAt 만 더 최근 값으로 갱신한다.")
+    void upsertAll_updatesExisting() {
+        LocalDateTime firstViewTime = LocalDateTime.now().minusHours(2).truncatedTo(ChronoUnit.SECONDS);
+        ViewHistory existing = ViewHistory.create(member, accommodation, firstViewTime);
+        em.persist(existing);
+        em.flush();
+        em.clear();
+
+        LocalDateTime latest = firstViewTime.plusHours(1);
+        viewHistoryJdbcRepository.upsertAll(List.of(new ViewHistoryUpsertDto(member.getId(), accommodation.getId(), latest)));
+        // 늦게 도착한 이전 조회 시각으로는 되돌리지 않는다
+        viewHistoryJdbcRepository.upsertAll(List.of(new ViewHistoryUpsertDto(member.getId(), accommodation.getId(), firstViewTime)));
+
+        List<ViewHistory> result = findViewHistories();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getId()).isEqualTo(existing.getId());
+        assertThat(result.get(0).getViewedAt()).isEqualTo(latest);
+    }
+
+    @Test
+    @DisplayName("Success: 같은 회원, 숙소로 두 번 upsert 하면 행은 하나만 남고 viewedAt 은 더 최근 값이다.")
+    void upsertAll_twiceForSameKey() {
+        LocalDateTime firstViewTime = LocalDateTime.now().minusMinutes(10).truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime secondViewTime = firstViewTime.plusMinutes(5);
+
+        viewHistoryJdbcRepository.upsertAll(List.of(new ViewHistoryUpsertDto(member.getId(), accommodation.getId(), firstViewTime)));
+        viewHistoryJdbcRepository.upsertAll(List.of(new ViewHistoryUpsertDto(member.getId(), accommodation.getId(), secondViewTime)));
+
+        List<ViewHistory> result = findViewHistories();
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getViewedAt()).isEqualTo(secondViewTime);
+    }
+
+    private List<ViewHistory> findViewHistories() {
+        em.clear();
+        return em.createQuery("SELECT vh FROM ViewHistory vh " +
+                                 "WHERE vh.accommodation.id = :accommodationId " +
+                                 "AND vh.member.id = :memberId", ViewHistory.class)
+                 .setParameter("accommodationId", accommodation.getId())
+                 .setParameter("memberId", member.getId())
+                 .getResultList();
+    }
+}
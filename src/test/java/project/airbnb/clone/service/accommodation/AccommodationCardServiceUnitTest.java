@@ -0,0 +1,89 @@
+package project.airbnb.clone.service.accommodation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
+import project.airbnb.clone.repository.dto.AccommodationCardDto;
+import project.airbnb.clone.repository.jdbc.AccommodationCardJdbcRepository;
+import project.airbnb.clone.repository.query.AccommodationCardQueryRepository;
+import project.airbnb.clone.repository.redis.AccommodationCardRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static project.airbnb.clone.consts.DayType.WEEKEND;
+import static project.airbnb.clone.consts.Season.PEAK;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccommodationCardService 단위 테스트")
+class AccommodationCardServiceUnitTest {
+
+    @Mock
+    AccommodationCardRepository accommodationCardRepository;
+
+    @Mock
+    AccommodationCardJdbcRepository accommodationCardJdbcRepository;
+
+    @Mock
+    AccommodationCardQueryRepository accommodationCardQueryRepository;
+
+    @Mock
+    SchedulerLockManager schedulerLockManager;
+
+    AccommodationCardService accommodationCardService;
+
+    @BeforeEach
+    void setUp() {
+        accommodationCardService = new AccommodationCardService(accommodationCardRepository, accommodationCardJdbcRepository, accommodationCardQueryRepository, schedulerLockManager);
+    }
+
+    @Test
+    @DisplayName("캐시 → 카드 테이블 → 원본 재구성 순으로 채우고 요청 순서를 유지한다")
+    void getCards_fallback_in_order() {
+        // given
+        given(accommodationCardRepository.findAll(List.of(3L, 1L, 2L, 4L))).willReturn(Map.of(1L, card(1L)));
+        given(accommodationCardQueryRepository.findStoredCards(List.of(3L, 2L, 4L))).willReturn(List.of(card(2L)));
+        given(accommodationCardQueryRepository.buildCards(List.of(3L, 4L))).willReturn(List.of(card(3L)));
+
+        // when
+        Map<Long, AccommodationCardDto> result = accommodationCardService.getCards(List.of(3L, 1L, 2L, 4L));
+
+        // then
+        assertThat(result.keySet()).containsExactly(3L, 1L, 2L);
+        assertThat(result.get(3L).priceOf(PEAK, WEEKEND)).isEqualTo(100000);
+
+        ArgumentCaptor<Collection<AccommodationCardDto>> captor = ArgumentCaptor.captor();
+        verify(accommodationCardRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).extracting(AccommodationCardDto::accommodationId).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("모두 캐시에 있으면 DB 를 조회하지 않는다")
+    void getCards_all_cached() {
+        // given
+        given(accommodationCardRepository.findAll(List.of(1L, 2L))).willReturn(Map.of(1L, card(1L), 2L, card(2L)));
+
+        // when
+        Map<Long, AccommodationCardDto> result = accommodationCardService.getCards(List.of(1L, 2L));
+
+        // then
+        assertThat(result.keySet()).containsExactly(1L, 2L);
+        verify(accommodationCardQueryRepository, never()).findStoredCards(any());
+    }
+
+    private AccommodationCardDto card(Long id) {
+        return new AccommodationCardDto(id, "숙소" + id, "https://example.com/" + id + ".jpg", 4.5, 3,
+                "11", "서울", 50000, 60000, 90000, 100000);
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.event.ApplicationEvents;
 import org.springframework.test.context.event.RecordApplicationEvents;
@@ -49,6 +50,7 @@ class AccommodationServiceTest extends TestContainerSupport {
     @Autowired AccommodationService accommodationService;
     @Autowired AccommodationStatisticsService statisticsService;
     @Autowired EntityManager em;
+    @Autowired StringRedisTemplate redisTemplate;
 
     @MockitoBean DateManager dateManager;
 
@@ -60,6 +62,9 @@ class AccommodationServiceTest extends TestContainerSupport {
 
     @BeforeEach
     void setUp() {
+        // 다른 테스트 컨텍스트에서 같은 id 로 만들어진 숙소 카드가 남아 있지 않도록 정리
+        redisTemplate.delete(redisTemplate.keys("accommodation:card:*"));
+
         member = MemberFixture.create();
         em.persist(member);
 
@@ -343,6 +348,25 @@ class AccommodationServiceTest extends TestContainerSupport {
             assertThat(totalAccs).isEqualTo(3);
         }
 
+        @Test
+        @DisplayName("성공 - 카드가 없으면 원본 테이블에서 재구성해 Redis 카드로 채운다")
+        void getRecentViewAccommodations_fills_cards() {
+            // given
+            Accommodation acc = createAccommodation("카드 숙소", gangnamSigungu, 127.0, 37.5);
+            em.persist(acc);
+            createImage(acc);
+
+            viewHistoryService.addHistory(member.getId(), acc.getId());
+
+            // when
+            List<ViewHistoryResDto> result = accommodationService.getRecentViewAccommodations(member.getId());
+
+            // then
+            assertThat(result.get(0).accommodations().get(0).title()).isEqualTo("카드 숙소");
+            assertThat(result.get(0).accommodations().get(0).thumbnailUrl()).isEqualTo("https://example.com/image.jpg");
+            assertThat(redisTemplate.opsForHash().get("accommodation:card:" + acc.getId(), "title")).isEqualTo("카드 숙소");
+        }
+
         @Disabled
         @Test
         @DisplayName("성공 - 30일 이전 데이터는 조회되지 않음")
@@ -0,0 +1,87 @@
+package project.airbnb.clone.service.accommodation;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.airbnb.clone.TestContainerSupport;
+import project.airbnb.clone.entity.accommodation.Accommodation;
+import project.airbnb.clone.entity.accommodation.AccommodationImage;
+import project.airbnb.clone.entity.area.AreaCode;
+import project.airbnb.clone.entity.area.SigunguCode;
+import project.airbnb.clone.fixtures.AccommodationFixture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * RENAME/TRUNCATE 는 암묵적으로 커밋되므로 테스트 트랜잭션 없이 검증하고 직접 정리한다
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccommodationStatisticsServiceTest extends TestContainerSupport {
+
+    private static final String AREA_CODE = "99";
+    private static final String SIGUNGU_CODE = "99990";
+
+    @Autowired AccommodationStatisticsService statisticsService;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(status -> {
+            AreaCode areaCode = AreaCode.create(AREA_CODE, "테스트");
+            em.persist(areaCode);
+            em.persist(SigunguCode.create(SIGUNGU_CODE, "테스트구", areaCode));
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM accommodation_stats WHERE area_code = ?", AREA_CODE);
+        jdbcTemplate.update("DELETE FROM accommodation_stats_shadow WHERE area_code = ?", AREA_CODE);
+        jdbcTemplate.update("""
+                DELETE ai FROM accommodation_images ai
+                JOIN accommodations a ON a.accommodation_id = ai.accommodation_id
+                WHERE a.sigungu_code = ?
+                """, SIGUNGU_CODE);
+        jdbcTemplate.update("DELETE FROM accommodations WHERE sigungu_code = ?", SIGUNGU_CODE);
+        jdbcTemplate.update("DELETE FROM sigungu_codes WHERE sigungu_code = ?", SIGUNGU_CODE);
+        jdbcTemplate.update("DELETE FROM area_codes WHERE area_code = ?", AREA_CODE);
+    }
+
+    @Test
+    @DisplayName("Success: 새 통계는 섀도 테이블에 적재된 뒤 교체되고, 이전 통계는 다음 갱신의 섀도 테이블로 남는다.")
+    void refreshStats_swapsShadowTable() {
+        createAccommodations(2);
+        statisticsService.refreshStats();
+
+        assertThat(countRows("accommodation_stats")).isEqualTo(2);
+
+        createAccommodations(1);
+        statisticsService.refreshStats();
+
+        assertThat(countRows("accommodation_stats")).isEqualTo(3);
+        assertThat(countRows("accommodation_stats_shadow")).isEqualTo(2);
+    }
+
+    private void createAccommodations(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                Accommodation accommodation = AccommodationFixture.create("숙소" + i, em.getReference(SigunguCode.class, SIGUNGU_CODE), 127.0, 37.5);
+                em.persist(accommodation);
+                em.persist(AccommodationImage.thumbnailOf(accommodation, "https://example.com/image.jpg"));
+            }
+        });
+    }
+
+    private int countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE area_code = ?", Integer.class, AREA_CODE);
+    }
+}
@@ -0,0 +1,137 @@
+package project.airbnb.clone.service.accommodation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import project.airbnb.clone.repository.dto.AccommodationStatsDelta;
+import project.airbnb.clone.repository.jdbc.AccommodationStatsJdbcRepository;
+
+import java.util.Set;
+import java.util.SortedMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccommodationStatsBuffer 단위 테스트")
+class AccommodationStatsBufferUnitTest {
+
+    @Mock
+    AccommodationCardService accommodationCardService;
+
+    @Mock
+    AccommodationStatsJdbcRepository accommodationStatsJdbcRepository;
+
+    AccommodationStatsBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new AccommodationStatsBuffer(accommodationCardService, accommodationStatsJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("같은 숙소의 변화량은 하나로 합산되어 반영된다")
+    void flush_coalesces_by_accommodation() {
+        // given
+        buffer.addReservation(1L, 1);
+        buffer.addReservation(1L, 1);
+        buffer.addReview(1L, 1, 4.5);
+        buffer.addReview(1L, 0, -0.5);
+        buffer.addReview(2L, 1, 3.0);
+
+        // when
+        buffer.flush();
+
+        // then
+        SortedMap<Long, AccommodationStatsDelta> applied = captureApplied();
+        assertThat(applied).containsOnlyKeys(1L, 2L);
+        assertThat(applied.get(1L)).isEqualTo(new AccommodationStatsDelta(2, 1, 4.0));
+        assertThat(applied.get(2L)).isEqualTo(new AccommodationStatsDelta(0, 1, 3.0));
+    }
+
+    @Test
+    @DisplayName("서로 상쇄된 변화량은 반영하지 않는다")
+    void flush_skips_empty_delta() {
+        // given
+        buffer.addReview(1L, 1, 4.0);
+        buffer.addReview(1L, -1, -4.0);
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(captureApplied()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 변화량을 다시 적재해 다음 flush 에 반영한다")
+    void flush_requeues_on_failure() {
+        // given
+        buffer.addReservation(1L, 1);
+        willThrow(new RuntimeException("db down")).willDoNothing()
+                                                 .given(accommodationStatsJdbcRepository).applyDeltas(any());
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<SortedMap<Long, AccommodationStatsDelta>> captor = ArgumentCaptor.captor();
+        buffer.addReservation(1L, 1);
+        buffer.flush();
+
+        verify(accommodationStatsJdbcRepository, times(2)).applyDeltas(captor.capture());
+        assertThat(captor.getAllValues().get(1).get(1L)).isEqualTo(AccommodationStatsDelta.ofReservation(2));
+    }
+
+    @Test
+    @DisplayName("적재된 변화량이 없으면 DB 를 호출하지 않는다")
+    void flush_noop_when_empty() {
+        // when
+        buffer.flush();
+
+        // then
+        verify(accommodationStatsJdbcRepository, never()).applyDeltas(any());
+    }
+
+    @Test
+    @DisplayName("구간 재계산 중 구간 안 숙소에 들어온 변화량은 버리고 그 숙소만 다시 재계산한다")
+    void reconcileRange_discards_deltas_raced_with_recompute() {
+        // given
+        buffer.addReservation(1L, 1);
+        given(accommodationStatsJdbcRepository.reconcileRange(1L, 10L)).willAnswer(invocation -> {
+            // 재계산하는 동안 커밋된 예약/리뷰 이벤트
+            buffer.addReservation(3L, 1);
+            buffer.addReservation(20L, 1);
+            return 1;
+        });
+        given(accommodationStatsJdbcRepository.reconcileIds(Set.of(3L))).willReturn(1);
+
+        // when
+        int repaired = buffer.reconcileRange(1L, 10L);
+
+        // then
+        assertThat(repaired).isEqualTo(2);
+        assertThat(captureApplied()).containsOnlyKeys(1L);
+        verify(accommodationCardService).refresh(Set.of(3L));
+
+        buffer.flush();
+        ArgumentCaptor<SortedMap<Long, AccommodationStatsDelta>> captor = ArgumentCaptor.captor();
+        verify(accommodationStatsJdbcRepository, times(2)).applyDeltas(captor.capture());
+        assertThat(captor.getAllValues().get(1)).containsOnlyKeys(20L);
+    }
+
+    private SortedMap<Long, AccommodationStatsDelta> captureApplied() {
+        ArgumentCaptor<SortedMap<Long, AccommodationStatsDelta>> captor = ArgumentCaptor.captor();
+        verify(accommodationStatsJdbcRepository).applyDeltas(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,68 @@
+package project.airbnb.clone.service.accommodation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import project.airbnb.clone.common.lock.SchedulerLockManager;
+import project.airbnb.clone.repository.jdbc.AccommodationStatsJdbcRepository;
+import project.airbnb.clone.service.accommodation.AccommodationStatsReconciler.Progress.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AccommodationStatsReconciler 단위 테스트")
+class AccommodationStatsReconcilerUnitTest {
+
+    @Mock StringRedisTemplate redisTemplate;
+    @Mock ValueOperations<String, String> valueOperations;
+    @Mock SchedulerLockManager schedulerLockManager;
+    @Mock AccommodationStatsBuffer accommodationStatsBuffer;
+    @Mock AccommodationStatsJdbcRepository accommodationStatsJdbcRepository;
+
+    @InjectMocks AccommodationStatsReconciler reconciler;
+
+    @Test
+    @DisplayName("구간 처리가 목표 시간보다 오래 걸리면 구간 크기를 절반으로 줄이되 최소 크기 아래로는 줄이지 않는다")
+    void shrink_when_slow() {
+        assertThat(AccommodationStatsReconciler.nextChunkSize(500, 400)).isEqualTo(250);
+        assertThat(AccommodationStatsReconciler.nextChunkSize(60, 400)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("구간 처리가 목표의 절반보다 빠르면 조금씩 늘리되 최대 크기를 넘지 않는다")
+    void grow_when_fast() {
+        assertThat(AccommodationStatsReconciler.nextChunkSize(500, 20)).isEqualTo(550);
+        assertThat(AccommodationStatsReconciler.nextChunkSize(1990, 20)).isEqualTo(2000);
+    }
+
+    @Test
+    @DisplayName("목표 시간 근처면 구간 크기를 유지한다")
+    void keep_when_on_target() {
+        assertThat(AccommodationStatsReconciler.nextChunkSize(500, 150)).isEqualTo(500);
+    }
+
+    @Test
+    @DisplayName("구간 처리 중 예외가 발생하면 진행 상태를 FAILED 로 남기고 예외를 다시 던진다")
+    void failed_when_chunk_throws() {
+        // given
+        given(accommodationStatsJdbcRepository.findMaxAccommodationId()).willReturn(100L);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("stats:reconcile:checkpoint")).willReturn("10");
+        given(accommodationStatsBuffer.reconcileRange(anyLong(), anyLong())).willThrow(new RuntimeException("db down"));
+
+        // when
+        assertThatThrownBy(() -> reconciler.reconcile()).hasMessage("db down");
+
+        // then
+        assertThat(reconciler.getProgress().status()).isEqualTo(Status.FAILED);
+        assertThat(reconciler.getProgress().processedUpToId()).isEqualTo(10L);
+    }
+}
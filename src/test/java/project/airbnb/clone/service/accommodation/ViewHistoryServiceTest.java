@@ -6,17 +6,17 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import project.airbnb.clone.TestContainerSupport;
 import project.airbnb.clone.entity.accommodation.Accommodation;
 import project.airbnb.clone.entity.area.AreaCode;
 import project.airbnb.clone.entity.member.Member;
 import project.airbnb.clone.entity.area.SigunguCode;
-import project.airbnb.clone.entity.history.ViewHistory;
 import project.airbnb.clone.fixtures.AccommodationFixture;
 import project.airbnb.clone.fixtures.MemberFixture;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -24,6 +24,7 @@ class ViewHistoryServiceTest extends TestContainerSupport {
 
     @Autowired ViewHistoryService viewHistoryService;
     @Autowired EntityManager em;
+    @Autowired StringRedisTemplate redisTemplate;
 
     Member member;
     Accommodation accommodation;
@@ -46,103 +47,48 @@ class ViewHistoryServiceTest extends TestContainerSupport {
     }
 
     @Nested
-    @DisplayName("saveRecentView 메서드 테스트")
-    class SaveRecentViewTest {
+    @DisplayName("addHistory 메서드 테스트")
+    class AddHistoryTest {
 
         @Test
-        @DisplayName("성공 - 최초 조회 시 새로운 ViewHistory 생성")
-        void saveRecentView_create_new() {
+        @DisplayName("성공 - 최신 조회 순으로 기록되고 TTL 이 설정된다")
+        void addHistory_ordered_with_ttl() throws InterruptedException {
             // given
-            Long accommodationId = accommodation.getId();
             Long memberId = member.getId();
 
             // when
-            viewHistoryService.saveRecentView(accommodationId, memberId);
-            em.flush();
-            em.clear();
+            viewHistoryService.addHistory(memberId, 1L);
+            Thread.sleep(2);
+            viewHistoryService.addHistory(memberId, 2L);
+            Thread.sleep(2);
+            viewHistoryService.addHistory(memberId, 1L);
 
             // then
-            ViewHistory result = findViewHistory(accommodationId, memberId);
+            Map<Long, LocalDateTime> result = viewHistoryService.getRecentViewIdsWithTime(memberId);
+            assertThat(result.keySet()).containsExactly(1L, 2L);
+            assertThat(redisTemplate.getExpire("member:history:" + memberId)).isPositive();
 
-            assertThat(result).isNotNull();
-            assertThat(result.getAccommodation().getId()).isEqualTo(accommodationId);
-            assertThat(result.getMember().getId()).isEqualTo(memberId);
-            assertThat(result.getViewedAt()).isNotNull();
-            assertThat(result.getViewedAt()).isBeforeOrEqualTo(LocalDateTime.now());
+            redisTemplate.delete("member:history:" + memberId);
         }
 
         @Test
-        @DisplayName("성공 - 기존 조회 이력이 있으면 viewedAt만 업데이트")
-        void saveRecentView_update_existing() {
+        @DisplayName("성공 - 최대 개수를 넘으면 오래된 기록부터 삭제된다")
+        void addHistory_limit_size() throws InterruptedException {
             // given
-            Long accommodationId = accommodation.getId();
             Long memberId = member.getId();
 
-            LocalDateTime firstViewTime = LocalDateTime.now().minusHours(2);
-            ViewHistory existingHistory = ViewHistory.create(member, accommodation, firstViewTime);
-            em.persist(existingHistory);
-            Long existingId = existingHistory.getId();
-
-            em.flush();
-            em.clear();
-
             // when
-            viewHistoryService.saveRecentView(accommodationId, memberId);
-            em.flush();
-            em.clear();
-
-            // then
-            ViewHistory result = findViewHistory(accommodationId, memberId);
-
-            assertThat(result).isNotNull();
-            assertThat(result.getId()).isEqualTo(existingId); // 같은 엔티티
-            assertThat(result.getViewedAt()).isAfter(firstViewTime); // 시간만 업데이트됨
-            assertThat(result.getViewedAt()).isBeforeOrEqualTo(LocalDateTime.now());
-
-            // 새로운 레코드가 생성되지 않았는지 확인
-            long count = countViewHistories(accommodationId, memberId);
-            assertThat(count).isEqualTo(1);
-        }
-
-        @Test
-        @DisplayName("성공 - 동일 숙소를 여러 번 조회해도 1개의 이력만 유지")
-        void saveRecentView_multiple_times() {
-            // given
-            Long accommodationId = accommodation.getId();
-            Long memberId = member.getId();
-
-            // when - 3번 조회
-            viewHistoryService.saveRecentView(accommodationId, memberId);
-            viewHistoryService.saveRecentView(accommodationId, memberId);
-            viewHistoryService.saveRecentView(accommodationId, memberId);
-
-            em.flush();
-            em.clear();
+            for (long accId = 1; accId <= 55; accId++) {
+                viewHistoryService.addHistory(memberId, accId);
+                Thread.sleep(2);
+            }
 
             // then
-            long count = countViewHistories(accommodationId, memberId);
+            Map<Long, LocalDateTime> result = viewHistoryService.getRecentViewIdsWithTime(memberId);
+            assertThat(result).hasSize(50);
+            assertThat(result).doesNotContainKeys(1L, 2L, 3L, 4L, 5L);
 
-            assertThat(count).isEqualTo(1);
+            redisTemplate.delete("member:history:" + memberId);
         }
     }
-
-    private ViewHistory findViewHistory(Long accommodationId, Long memberId) {
-        List<ViewHistory> results = em.createQuery("SELECT vh FROM ViewHistory vh " +
-                                                      "WHERE vh.accommodation.id = :accommodationId " +
-                                                      "AND vh.member.id = :memberId", ViewHistory.class)
-                                      .setParameter("accommodationId", accommodationId)
-                                      .setParameter("memberId", memberId)
-                                      .getResultList();
-
-        return results.isEmpty() ? null : results.get(0);
-    }
-
-    private long countViewHistories(Long accommodationId, Long memberId) {
-        return em.createQuery("SELECT COUNT(vh) FROM ViewHistory vh " +
-                                 "WHERE vh.accommodation.id = :accommodationId " +
-                                 "AND vh.member.id = :memberId", Long.class)
-                 .setParameter("accommodationId", accommodationId)
-                 .setParameter("memberId", memberId)
-                 .getSingleResult();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,86 @@
+package project.airbnb.clone.service.accommodation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import project.airbnb.clone.repository.dto.ViewHistoryUpsertDto;
+import project.airbnb.clone.repository.jdbc.ViewHistoryJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.willReturn;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewHistoryWriteBuffer 단위 테스트")
+class ViewHistoryWriteBufferUnitTest {
+
+    @Mock
+    ViewHistoryJdbcRepository viewHistoryJdbcRepository;
+
+    ViewHistoryWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ViewHistoryWriteBuffer(new SimpleMeterRegistry(), viewHistoryJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("같은 회원-숙소 조회는 가장 최근 시각 하나로 합쳐져 저장된다")
+    void flush_coalesces_latest_view() {
+        // given
+        LocalDateTime first = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime latest = first.plusMinutes(5);
+
+        buffer.add(1L, 10L, latest);
+        buffer.add(1L, 10L, first);
+        buffer.add(2L, 10L, first);
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<ViewHistoryUpsertDto>> captor = ArgumentCaptor.captor();
+        verify(viewHistoryJdbcRepository).upsertAll(captor.capture());
+        assertThat(captor.getValue()).containsExactly(
+                new ViewHistoryUpsertDto(1L, 10L, latest),
+                new ViewHistoryUpsertDto(2L, 10L, first)
+        );
+    }
+
+    @Test
+    @DisplayName("제약 조건 위반 시 건별로 저장하고 저장할 수 없는 행만 버린다")
+    void flush_falls_back_to_single_rows() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        ViewHistoryUpsertDto valid = new ViewHistoryUpsertDto(1L, 10L, now);
+        ViewHistoryUpsertDto orphan = new ViewHistoryUpsertDto(2L, 99L, now);
+
+        buffer.add(1L, 10L, now);
+        buffer.add(2L, 99L, now);
+
+        willThrow(new DataIntegrityViolationException("fk")).given(viewHistoryJdbcRepository)
+                                                            .upsertAll(argThat(rows -> rows.size() == 2 || rows.contains(orphan)));
+        willReturn(1).given(viewHistoryJdbcRepository).upsertAll(List.of(valid));
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then
+        verify(viewHistoryJdbcRepository).upsertAll(List.of(valid));
+        verify(viewHistoryJdbcRepository, times(3)).upsertAll(any());
+    }
+}
@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import project.airbnb.clone.TestContainerSupport;
 import project.airbnb.clone.dto.wishlist.AddAccToWishlistReqDto;
 import project.airbnb.clone.dto.wishlist.MemoUpdateReqDto;
@@ -36,11 +37,15 @@ class WishlistServiceTest extends TestContainerSupport {
     @Autowired WishlistService wishlistService;
     @Autowired WishlistRepository wishlistRepository;
     @Autowired WishlistAccommodationRepository wishlistAccommodationRepository;
+    @Autowired StringRedisTemplate redisTemplate;
 
     Member member;
 
     @BeforeEach
     void setUp() {
+        // 다른 테스트 컨텍스트에서 같은 id 로 만들어진 숙소 카드가 남아 있지 않도록 정리
+        redisTemplate.delete(redisTemplate.keys("accommodation:card:*"));
+
         member = MemberFixture.create();
         em.persist(member);
     }
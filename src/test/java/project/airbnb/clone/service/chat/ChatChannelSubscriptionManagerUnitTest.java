@@ -0,0 +1,62 @@
+package project.airbnb.clone.service.chat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatChannelSubscriptionManager 단위 테스트")
+class ChatChannelSubscriptionManagerUnitTest {
+
+    @Mock
+    MessageListenerAdapter chatListenerAdapter;
+    @Mock
+    RedisMessageListenerContainer listenerContainer;
+    @Mock
+    ChatRecentMessageBuffer chatRecentMessageBuffer;
+
+    ChatChannelSubscriptionManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = new ChatChannelSubscriptionManager(chatListenerAdapter, listenerContainer, chatRecentMessageBuffer);
+    }
+
+    @Test
+    @DisplayName("같은 채팅방을 여러 세션이 구독해도 Redis 채널은 한 번만 구독한다")
+    void subscribe_once_per_room() {
+        manager.subscribe("s1", "sub-0", 1L);
+        manager.subscribe("s2", "sub-0", 1L);
+
+        verify(listenerContainer, times(1)).addMessageListener(chatListenerAdapter, new ChannelTopic("chat:channel:1"));
+        verify(chatRecentMessageBuffer, times(1)).open(1L);
+        assertThat(manager.isSubscribed(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 로컬 구독이 끝나면 Redis 채널 구독을 해지한다")
+    void release_on_last_unsubscribe() {
+        manager.subscribe("s1", "sub-0", 1L);
+        manager.subscribe("s2", "sub-0", 1L);
+
+        manager.unsubscribe("s1", "sub-0");
+        verify(listenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+        manager.disconnect("s2");
+        verify(listenerContainer).removeMessageListener(chatListenerAdapter, new ChannelTopic("chat:channel:1"));
+        verify(chatRecentMessageBuffer).close(1L);
+        assertThat(manager.isSubscribed(1L)).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMembershipCache 단위 테스트")
+class ChatMembershipCacheUnitTest {
+
+    @Mock
+    StringRedisTemplate strRedisTemplate;
+
+    ChatMembershipCache cache;
+    AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ChatMembershipCache(new SimpleMeterRegistry(), new ChannelTopic("chatMembershipTopic"), strRedisTemplate);
+        loads = new AtomicInteger();
+    }
+
+    private Supplier<long[]> loader(long... memberIds) {
+        return () -> {
+            loads.incrementAndGet();
+            return memberIds;
+        };
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 채팅방은 다시 읽지 않고 로컬에서 검증한다")
+    void isMember_loads_once() {
+        assertThat(cache.isMember(1L, 20L, loader(20L, 10L))).isTrue();
+        assertThat(cache.isMember(1L, 10L, loader(20L, 10L))).isTrue();
+        assertThat(cache.isMember(1L, 30L, loader(20L, 10L))).isFalse();
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("참여자 목록은 한 번 읽은 뒤 로컬에서 정렬된 복사본으로 돌려준다")
+    void members_loads_once_and_returns_copy() {
+        long[] first = cache.members(1L, loader(20L, 10L));
+        first[0] = 99L;
+
+        assertThat(cache.members(1L, loader(20L, 10L))).containsExactly(10L, 20L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬 캐시를 비우고 다른 인스턴스에 발행한다")
+    void invalidate_evicts_and_publishes() {
+        cache.isMember(1L, 10L, loader(10L, 20L));
+
+        cache.invalidate(1L);
+
+        verify(strRedisTemplate).convertAndSend("chatMembershipTopic", "1");
+        assertThat(cache.isMember(1L, 10L, loader(20L))).isFalse();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("구독으로 받은 무효화 메시지는 해당 채팅방만 비운다")
+    void handleInvalidation_evicts_room() {
+        cache.isMember(1L, 10L, loader(10L, 20L));
+        cache.isMember(2L, 10L, loader(10L, 30L));
+
+        cache.handleInvalidation("1");
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("적재 중 무효화가 들어오면 읽은 목록은 이번 검증에만 쓰고 캐시에 넣지 않는다")
+    void load_skips_cache_when_invalidated_during_load() {
+        Supplier<long[]> racingLoader = () -> {
+            loads.incrementAndGet();
+            cache.handleInvalidation("1");
+            return new long[]{10L, 20L};
+        };
+
+        assertThat(cache.isMember(1L, 10L, racingLoader)).isTrue();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.isMember(1L, 10L, loader(20L))).isFalse();
+        assertThat(loads).hasValue(2);
+    }
+}
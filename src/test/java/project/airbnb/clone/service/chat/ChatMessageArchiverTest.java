@@ -0,0 +1,131 @@
+package project.airbnb.clone.service.chat;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import project.airbnb.clone.TestContainerSupport;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.dto.chat.ChatMessageResDto;
+import project.airbnb.clone.dto.chat.ChatMessagesResDto;
+import project.airbnb.clone.dto.chat.RequestChatResDto;
+import project.airbnb.clone.entity.member.Member;
+import project.airbnb.clone.fixtures.MemberFixture;
+import project.airbnb.clone.repository.archive.ChatMessageArchiveRepository;
+import project.airbnb.clone.repository.dto.ChatArchivedMessageDto;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+import project.airbnb.clone.repository.jdbc.ChatArchiveJdbcRepository;
+import project.airbnb.clone.repository.jdbc.ChatMessageJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageArchiverTest extends TestContainerSupport {
+
+    @Autowired EntityManager em;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired ChatMessageArchiver chatMessageArchiver;
+    @Autowired ChatMessageService chatMessageService;
+    @Autowired ChatRequestService chatRequestService;
+    @Autowired SnowflakeIdGenerator snowflakeIdGenerator;
+    @Autowired ChatMessageJdbcRepository chatMessageJdbcRepository;
+    @Autowired ChatArchiveJdbcRepository chatArchiveJdbcRepository;
+    @Autowired ChatMessageArchiveRepository chatMessageArchiveRepository;
+
+    private Long roomId;
+    private Member receiver;
+    /** old1 ~ old5 의 id */
+    private final List<Long> oldIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Member sender = MemberFixture.create();
+        receiver = MemberFixture.create();
+        em.persist(sender);
+        em.persist(receiver);
+
+        RequestChatResDto request = chatRequestService.requestChat(receiver.getId(), sender.getId());
+        roomId = chatRequestService.acceptRequestChat(request.requestId(), receiver.getId()).roomId();
+
+        // 운영과 같이 id 의 시각과 created_at 이 일치하도록 작성 시각으로 id 를 만든다
+        LocalDateTime oldSentAt = LocalDateTime.now().minusYears(1);
+        List<ChatMessageInsertDto> messages = new ArrayList<>();
+        for (int i = 1; i <= 5; i++) {
+            LocalDateTime sentAt = oldSentAt.plusMinutes(i);
+            long id = SnowflakeIdGenerator.reservedIdAt(sentAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli(), i);
+            oldIds.add(id);
+            messages.add(new ChatMessageInsertDto(id, roomId, sender.getId(), "old" + i, sentAt));
+        }
+        messages.add(new ChatMessageInsertDto(snowflakeIdGenerator.nextId(), roomId, receiver.getId(), "new", LocalDateTime.now()));
+        chatMessageJdbcRepository.insertAll(messages);
+    }
+
+    @Test
+    @DisplayName("Success: 보관 기준보다 오래된 메시지는 세그먼트로 옮겨지고 커서 조회는 보관 메시지까지 이어진다.")
+    void archive_andContinueIntoArchive() {
+        int archived = chatMessageArchiver.archiveBefore(LocalDateTime.now().minusDays(30));
+
+        assertThat(archived).isGreaterThanOrEqualTo(5);
+        assertThat(hotContents()).containsExactly("new");
+
+        assertHistories();
+    }
+
+    @Test
+    @DisplayName("Success: 마지막 읽은 메시지로 참조 중인 메시지는 남겨 두고, 커서 조회는 DB 와 보관 메시지를 합쳐 이어진다.")
+    void archive_keepsLastReadMessage_andMergesWithArchive() {
+        markAsLastRead(oldIds.get(2));
+
+        chatMessageArchiver.archiveBefore(LocalDateTime.now().minusDays(30));
+
+        assertThat(hotContents()).containsExactly("old3", "new");
+        assertHistories();
+    }
+
+    @Test
+    @DisplayName("Success: 보관 대상 조회 이후 마지막 읽은 메시지가 된 메시지는 세그먼트에 담겨도 DB 에서 지워지지 않는다.")
+    void append_keepsMessageReadAfterSelect() {
+        LocalDateTime cutoffAt = LocalDateTime.now().minusDays(30);
+        long cutoffId = SnowflakeIdGenerator.minIdAt(cutoffAt.atZone(ZoneId.systemDefault()).toInstant());
+        List<ChatArchivedMessageDto> archivable = chatArchiveJdbcRepository.findArchivableMessages(roomId, cutoffId, cutoffAt, 100);
+        assertThat(archivable).extracting(ChatArchivedMessageDto::id).containsExactlyElementsOf(oldIds);
+
+        // 조회와 삭제 사이에 읽음 처리가 반영된 경우
+        markAsLastRead(oldIds.get(2));
+        chatMessageArchiveRepository.append(roomId, archivable);
+
+        assertThat(hotContents()).containsExactly("old3", "new");
+        Long tokenCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM chat_message_tokens WHERE chat_room_id = ? AND chat_message_id = ?", Long.class, roomId, oldIds.get(2));
+        assertThat(tokenCount).isPositive();
+
+        assertHistories();
+    }
+
+    private void markAsLastRead(Long messageId) {
+        jdbcTemplate.update("UPDATE chat_participants SET last_read_message = ? WHERE chat_room_id = ? AND member_id = ?",
+                messageId, roomId, receiver.getId());
+    }
+
+    private List<String> hotContents() {
+        return jdbcTemplate.queryForList(
+                "SELECT content FROM chat_messages WHERE chat_room_id = ? ORDER BY chat_message_id", String.class, roomId);
+    }
+
+    private void assertHistories() {
+        ChatMessagesResDto first = chatMessageService.getMessageHistories(null, roomId, 3);
+        assertThat(first.messages()).extracting(ChatMessageResDto::getContent).containsExactly("new", "old5", "old4");
+        assertThat(first.hasMore()).isTrue();
+
+        Long cursor = Long.valueOf(first.messages().get(2).getMessageId());
+        ChatMessagesResDto next = chatMessageService.getMessageHistories(cursor, roomId, 3);
+        assertThat(next.messages()).extracting(ChatMessageResDto::getContent).containsExactly("old3", "old2", "old1");
+        assertThat(next.hasMore()).isFalse();
+    }
+}
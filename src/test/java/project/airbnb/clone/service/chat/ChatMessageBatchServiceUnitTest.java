@@ -0,0 +1,186 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+import project.airbnb.clone.repository.jdbc.ChatMessageJdbcRepository;
+import project.airbnb.clone.repository.redis.RedisScriptRegistry;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatMessageBatchService 단위 테스트")
+class ChatMessageBatchServiceUnitTest {
+
+    static final String STREAM_KEY = "chat:stream";
+    static final String DEAD_LETTER_KEY = "chat:stream:dead";
+    static final String GROUP = "chat-persist";
+    static final LocalDateTime SENT_AT = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    @Mock ChatRedisService chatRedisService;
+    @Mock StringRedisTemplate strRedisTemplate;
+    @Mock RedisTemplate<String, Object> redisTemplate;
+    @Mock RedisScriptRegistry redisScriptRegistry;
+    @Mock ChatMessageJdbcRepository chatMessageJdbcRepository;
+    @Mock StreamOperations<String, Object, Object> streamOps;
+    @Mock ListOperations<String, Object> listOps;
+
+    ChatMessageBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        given(strRedisTemplate.<Object, Object>opsForStream()).willReturn(streamOps);
+        given(redisTemplate.opsForList()).willReturn(listOps);
+
+        service = new ChatMessageBatchService(new SimpleMeterRegistry(), chatRedisService, strRedisTemplate, redisTemplate,
+                redisScriptRegistry, chatMessageJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("읽은 배치를 한 번에 저장하고 모두 확인 처리한다")
+    void persist_and_ack() {
+        givenRecords(record("1-0", 101L, "안녕"), record("2-0", 102L, "반가워요"));
+        givenExisting();
+
+        service.consumeMessages();
+
+        verify(chatMessageJdbcRepository).insertAll(List.of(dto(101L, "안녕"), dto(102L, "반가워요")));
+        verify(streamOps).acknowledge(STREAM_KEY, GROUP, RecordId.of("1-0"), RecordId.of("2-0"));
+        verify(streamOps, never()).add(any(MapRecord.class));
+    }
+
+    @Test
+    @DisplayName("배치 저장이 실패하면 건별로 다시 저장해 저장할 수 없는 메시지만 dead letter 로 보낸다")
+    void retry_row_by_row_and_dead_letter_only_bad_record() {
+        givenRecords(record("1-0", 101L, "안녕"), record("2-0", 102L, "너무 긴 메시지"), record("3-0", 103L, "반가워요"));
+        givenExisting();
+        willAnswer(invocation -> {
+            List<ChatMessageInsertDto> batch = invocation.getArgument(0);
+            if (batch.size() > 1 || batch.get(0).id() == 102L) {
+                throw new DataIntegrityViolationException("Data too long for column 'content'");
+            }
+            return null;
+        }).given(chatMessageJdbcRepository).insertAll(anyList());
+
+        service.consumeMessages();
+
+        verify(chatMessageJdbcRepository).insertAll(List.of(dto(101L, "안녕")));
+        verify(chatMessageJdbcRepository).insertAll(List.of(dto(103L, "반가워요")));
+        verify(streamOps).add(argThat((MapRecord<String, Object, Object> dead) ->
+                DEAD_LETTER_KEY.equals(dead.getStream()) && "102".equals(dead.getValue().get("messageId"))));
+        verify(streamOps).acknowledge(STREAM_KEY, GROUP, RecordId.of("2-0"));
+        verify(streamOps).acknowledge(STREAM_KEY, GROUP, RecordId.of("1-0"), RecordId.of("3-0"));
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 메시지는 저장하지 않고 dead letter 로 보낸다")
+    void dead_letter_malformed_record() {
+        Map<Object, Object> fields = fields(102L, "채팅방 없음");
+        fields.remove("roomId");
+        givenRecords(record("1-0", 101L, "안녕"), record("2-0", fields));
+        givenExisting();
+
+        service.consumeMessages();
+
+        verify(chatMessageJdbcRepository).insertAll(List.of(dto(101L, "안녕")));
+        verify(streamOps).add(argThat((MapRecord<String, Object, Object> dead) -> DEAD_LETTER_KEY.equals(dead.getStream())));
+        verify(streamOps).acknowledge(STREAM_KEY, GROUP, RecordId.of("2-0"));
+        verify(streamOps).acknowledge(STREAM_KEY, GROUP, RecordId.of("1-0"));
+    }
+
+    @Test
+    @DisplayName("id 가 숫자가 아닌 이전 큐 메시지는 스트림 항목 id 로 만든 같은 id 로 저장된다")
+    void legacy_message_id_is_derived_from_record_id() {
+        Map<Object, Object> fields = fields(0L, "이전 메시지");
+        fields.put("messageId", "3f0c2b1e-legacy");
+        givenRecords(record("1767225600000-5", fields));
+        givenExisting();
+
+        service.consumeMessages();
+        service.consumeMessages();
+
+        long expectedId = SnowflakeIdGenerator.reservedIdAt(1767225600000L, 5);
+        verify(chatMessageJdbcRepository, times(2)).insertAll(List.of(new ChatMessageInsertDto(expectedId, 1L, 10L, "이전 메시지", SENT_AT)));
+    }
+
+    @Test
+    @DisplayName("DB 장애로 건별 저장도 실패하면 확인 처리하지 않아 이후 재시도되도록 pending 으로 남긴다")
+    void leave_pending_when_database_unavailable() {
+        givenRecords(record("1-0", 101L, "안녕"), record("2-0", 102L, "반가워요"));
+        givenExisting();
+        willThrow(new DataAccessResourceFailureException("connection refused"))
+                .given(chatMessageJdbcRepository).insertAll(anyList());
+
+        assertThatThrownBy(() -> service.consumeMessages()).isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(streamOps, never()).acknowledge(anyString(), anyString(), any(RecordId[].class));
+        verify(streamOps, never()).add(any(MapRecord.class));
+    }
+
+    @SafeVarargs
+    private void givenRecords(MapRecord<String, Object, Object>... records) {
+        given(streamOps.read(any(Consumer.class), any(StreamReadOptions.class), any(StreamOffset.class)))
+                .willReturn(List.of(records));
+    }
+
+    private void givenExisting() {
+        given(chatMessageJdbcRepository.findExistingChatRoomIds(any())).willReturn(Set.of(1L));
+        given(chatMessageJdbcRepository.findExistingMemberIds(any())).willReturn(Set.of(10L));
+    }
+
+    private static MapRecord<String, Object, Object> record(String recordId, long messageId, String content) {
+        return record(recordId, fields(messageId, content));
+    }
+
+    private static MapRecord<String, Object, Object> record(String recordId, Map<Object, Object> fields) {
+        return StreamRecords.<String, Object, Object>mapBacked(fields).withStreamKey(STREAM_KEY).withId(RecordId.of(recordId));
+    }
+
+    private static Map<Object, Object> fields(long messageId, String content) {
+        Map<Object, Object> fields = new HashMap<>();
+        fields.put("messageId", String.valueOf(messageId));
+        fields.put("roomId", "1");
+        fields.put("senderId", "10");
+        fields.put("content", content);
+        fields.put("sentAt", SENT_AT.toString());
+        return fields;
+    }
+
+    private static ChatMessageInsertDto dto(long messageId, String content) {
+        return new ChatMessageInsertDto(messageId, 1L, 10L, content, SENT_AT);
+    }
+}
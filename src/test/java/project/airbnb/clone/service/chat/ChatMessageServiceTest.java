@@ -8,12 +8,21 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import project.airbnb.clone.TestContainerSupport;
 import project.airbnb.clone.common.exceptions.BusinessException;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.dto.chat.ChatMessageReqDto;
+import project.airbnb.clone.dto.chat.ChatMessageResDto;
+import project.airbnb.clone.dto.chat.ChatMessageSearchResDto;
 import project.airbnb.clone.dto.chat.ChatMessagesResDto;
 import project.airbnb.clone.dto.chat.RequestChatResDto;
 import project.airbnb.clone.entity.chat.ChatMessage;
 import project.airbnb.clone.entity.chat.ChatRoom;
 import project.airbnb.clone.entity.member.Member;
 import project.airbnb.clone.fixtures.MemberFixture;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+import project.airbnb.clone.repository.jdbc.ChatMessageJdbcRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -22,8 +31,11 @@ class ChatMessageServiceTest extends TestContainerSupport {
 
     @Autowired EntityManager em;
     @Autowired ChatRoomService chatRoomService;
+    @Autowired ChatRedisService chatRedisService;
     @Autowired ChatMessageService chatMessageService;
     @Autowired ChatRequestService chatRequestService;
+    @Autowired SnowflakeIdGenerator snowflakeIdGenerator;
+    @Autowired ChatMessageJdbcRepository chatMessageJdbcRepository;
 
     private Member sender;
     private Member receiver;
@@ -56,7 +68,7 @@ class ChatMessageServiceTest extends TestContainerSupport {
         @Test
         @DisplayName("Success: 메시지를 저장하고 이력을 조회한다.")
         void saveAndGetMessages_success() {
-            ChatMessage msg = ChatMessage.create(chatRoom, sender, "Hello");
+            ChatMessage msg = ChatMessage.create(snowflakeIdGenerator.nextId(), chatRoom, sender, "Hello");
             em.persist(msg);
 
             em.flush();
@@ -67,12 +79,57 @@ class ChatMessageServiceTest extends TestContainerSupport {
             assertThat(histories.messages().get(0).getContent()).isEqualTo("Hello");
         }
 
+        @Test
+        @DisplayName("Success: 캐시에만 있는 메시지와 DB 메시지를 같은 커서로 이어서 조회한다.")
+        void getMessageHistories_mergesCacheAndDb() {
+            em.persist(ChatMessage.create(snowflakeIdGenerator.nextId(), chatRoom, sender, "stored"));
+            em.flush();
+            em.clear();
+
+            chatMessageService.sendMessage(roomId, new ChatMessageReqDto(receiver.getId(), "live"));
+
+            ChatMessagesResDto first = chatMessageService.getMessageHistories(null, roomId, 1);
+            assertThat(first.messages()).extracting(ChatMessageResDto::getContent).containsExactly("live");
+            assertThat(first.hasMore()).isTrue();
+
+            Long cursor = Long.valueOf(first.messages().get(0).getMessageId());
+            ChatMessagesResDto next = chatMessageService.getMessageHistories(cursor, roomId, 1);
+            assertThat(next.messages()).extracting(ChatMessageResDto::getContent).containsExactly("stored");
+            assertThat(next.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Success: 메시지를 보내면 상대방의 안 읽은 수만 증가하고 캐시에 쌓인다.")
+        void sendMessage_incrementsOpponentUnread() {
+            chatMessageService.sendMessage(roomId, new ChatMessageReqDto(sender.getId(), "hi"));
+
+            assertThat(chatRedisService.getUnreadCount(roomId, receiver.getId())).isEqualTo(1);
+            assertThat(chatRedisService.getUnreadCount(roomId, sender.getId())).isZero();
+            assertThat(chatRedisService.getCachedRaw(roomId))
+                    .extracting(raw -> chatRedisService.convert(raw).getContent())
+                    .contains("hi");
+        }
+
+        @Test
+        @DisplayName("Success: 로컬 참여자 목록이 Redis 참여자 목록과 다르면 다시 읽어 모든 상대방의 안 읽은 수를 올린다.")
+        void sendMessage_refreshesStaleParticipants() {
+            chatMessageService.sendMessage(roomId, new ChatMessageReqDto(sender.getId(), "first"));
+            chatRedisService.addMembers(roomId, "999999");
+
+            chatMessageService.sendMessage(roomId, new ChatMessageReqDto(sender.getId(), "second"));
+
+            assertThat(chatRedisService.getUnreadCount(roomId, receiver.getId())).isEqualTo(2);
+            assertThat(chatRedisService.getUnreadCount(roomId, 999999L)).isEqualTo(1);
+            chatRedisService.removeMember(roomId, 999999L);
+            chatRedisService.resetUnreadCount(roomId, 999999L);
+        }
+
         @Test
         @DisplayName("Fail: 상대방이 나간 채팅방에는 메시지를 보낼 수 없다.")
         void saveMessage_whenPartnerLeft_throwsException() {
             chatRoomService.leaveChatRoom(roomId, receiver.getId(), false);
 
-            assertThatThrownBy(() -> chatRoomService.validateMessageDelivery(roomId, sender.getId()))
+            assertThatThrownBy(() -> chatMessageService.sendMessage(roomId, new ChatMessageReqDto(sender.getId(), "hi")))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("채팅방을 나가 메시지 전송에 실패");
         }
@@ -83,7 +140,7 @@ class ChatMessageServiceTest extends TestContainerSupport {
             Member stranger = MemberFixture.create();
             em.persist(stranger);
 
-            assertThatThrownBy(() -> chatRoomService.validateMessageDelivery(roomId, stranger.getId()))
+            assertThatThrownBy(() -> chatMessageService.sendMessage(roomId, new ChatMessageReqDto(stranger.getId(), "hi")))
                     .isInstanceOf(BusinessException.class)
                     .hasMessageContaining("사용자 조회 실패");
         }
@@ -102,7 +159,7 @@ class ChatMessageServiceTest extends TestContainerSupport {
             ChatRoom chatRoom = em.find(ChatRoom.class, roomId);
 
             for (int i = 1; i <= 3; i++) {
-                em.persist(ChatMessage.create(chatRoom, sender, "M" + i));
+                em.persist(ChatMessage.create(snowflakeIdGenerator.nextId(), chatRoom, sender, "M" + i));
             }
 
             em.flush();
@@ -118,4 +175,64 @@ class ChatMessageServiceTest extends TestContainerSupport {
             assertThat(result.hasMore()).isTrue();
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("메시지 검색 테스트")
+    class MessageSearchTest {
+
+        private Long roomId;
+
+        @BeforeEach
+        void setUp() {
+            RequestChatResDto request = chatRequestService.requestChat(receiver.getId(), sender.getId());
+            roomId = chatRequestService.acceptRequestChat(request.requestId(), receiver.getId()).roomId();
+
+            LocalDateTime sentAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            chatMessageJdbcRepository.insertAll(List.of(
+                    new ChatMessageInsertDto(snowflakeIdGenerator.nextId(), roomId, sender.getId(), "체크인 시간이 언제인가요?", sentAt),
+                    new ChatMessageInsertDto(snowflakeIdGenerator.nextId(), roomId, receiver.getId(), "체크 크인", sentAt.plusMinutes(1)),
+                    new ChatMessageInsertDto(snowflakeIdGenerator.nextId(), roomId, receiver.getId(), "오후 3시에 체크인 가능합니다", sentAt.plusMinutes(2))
+            ));
+        }
+
+        @Test
+        @DisplayName("Success: 검색어를 포함한 메시지만 최신순으로 커서 조회한다.")
+        void searchMessages_paging() {
+            ChatMessageSearchResDto first = chatMessageService.searchMessages(roomId, sender.getId(), "체크인", null, 1);
+            assertThat(first.messages()).extracting(ChatMessageResDto::getContent).containsExactly("오후 3시에 체크인 가능합니다");
+            assertThat(first.hasMore()).isTrue();
+
+            ChatMessageSearchResDto next = chatMessageService.searchMessages(roomId, sender.getId(), "체크인", first.nextCursor(), 1);
+            assertThat(next.messages()).extracting(ChatMessageResDto::getContent).containsExactly("체크인 시간이 언제인가요?");
+            assertThat(next.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Success: 한 글자 검색어로 단어 중간의 글자도 찾는다.")
+        void searchMessages_singleCharacter() {
+            ChatMessageSearchResDto result = chatMessageService.searchMessages(roomId, sender.getId(), "시", null, 10);
+
+            assertThat(result.messages()).extracting(ChatMessageResDto::getContent)
+                                         .containsExactly("오후 3시에 체크인 가능합니다", "체크인 시간이 언제인가요?");
+            assertThat(result.hasMore()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Fail: 조회 개수가 0 이하면 검색할 수 없다.")
+        void searchMessages_invalidPageSize_throwsException() {
+            assertThatThrownBy(() -> chatMessageService.searchMessages(roomId, sender.getId(), "체크인", null, 0))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("Fail: 참여하지 않은 채팅방은 검색할 수 없다.")
+        void searchMessages_notParticipant_throwsException() {
+            Member stranger = MemberFixture.create();
+            em.persist(stranger);
+
+            assertThatThrownBy(() -> chatMessageService.searchMessages(roomId, stranger.getId(), "체크인", null, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .hasMessageContaining("사용자 조회 실패");
+        }
+    }
+}
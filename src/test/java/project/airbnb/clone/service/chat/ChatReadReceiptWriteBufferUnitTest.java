@@ -0,0 +1,102 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
+import project.airbnb.clone.repository.dto.ChatReadReceiptDto;
+import project.airbnb.clone.repository.jdbc.ChatMessageJdbcRepository;
+import project.airbnb.clone.repository.jdbc.ChatParticipantJdbcRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatReadReceiptWriteBuffer 단위 테스트")
+class ChatReadReceiptWriteBufferUnitTest {
+
+    @Mock
+    ChatMessageJdbcRepository chatMessageJdbcRepository;
+
+    @Mock
+    ChatParticipantJdbcRepository chatParticipantJdbcRepository;
+
+    ChatReadReceiptWriteBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ChatReadReceiptWriteBuffer(new SimpleMeterRegistry(), chatMessageJdbcRepository, chatParticipantJdbcRepository);
+    }
+
+    @Test
+    @DisplayName("같은 참여자의 읽음 처리는 가장 큰 메시지 id 하나로 합쳐져 저장된다")
+    void flush_coalesces_latest_receipt() {
+        buffer.add(1L, 10L, 100L);
+        buffer.add(1L, 10L, 300L);
+        buffer.add(1L, 10L, 200L);
+        buffer.add(1L, 20L, 150L);
+        given(chatMessageJdbcRepository.findExistingMessageIds(Set.of(300L, 150L))).willReturn(Set.of(300L, 150L));
+
+        buffer.flush();
+
+        verify(chatParticipantJdbcRepository).updateLastReadMessages(List.of(
+                new ChatReadReceiptDto(1L, 10L, 300L),
+                new ChatReadReceiptDto(1L, 20L, 150L)
+        ));
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 다음 주기에 다시 저장한다")
+    void flush_requeues_on_failure() {
+        buffer.add(1L, 10L, 100L);
+        given(chatMessageJdbcRepository.findExistingMessageIds(Set.of(100L))).willReturn(Set.of(100L));
+        willThrow(new DataAccessResourceFailureException("db down"))
+                .given(chatParticipantJdbcRepository).updateLastReadMessages(anyList());
+
+        buffer.flush();
+        buffer.flush();
+
+        verify(chatParticipantJdbcRepository, times(2)).updateLastReadMessages(List.of(new ChatReadReceiptDto(1L, 10L, 100L)));
+    }
+
+    @Test
+    @DisplayName("읽은 메시지가 아직 저장되지 않았으면 저장될 때까지 남겨 두었다가 반영한다")
+    void flush_defers_until_message_saved() {
+        long messageId = SnowflakeIdGenerator.minIdAt(Instant.now());
+        buffer.add(1L, 10L, messageId);
+        given(chatMessageJdbcRepository.findExistingMessageIds(Set.of(messageId))).willReturn(Set.of(), Set.of(messageId));
+
+        buffer.flush();
+        buffer.flush();
+
+        verify(chatParticipantJdbcRepository).updateLastReadMessages(List.of());
+        verify(chatParticipantJdbcRepository).updateLastReadMessages(List.of(new ChatReadReceiptDto(1L, 10L, messageId)));
+    }
+
+    @Test
+    @DisplayName("오래전에 발급된 메시지가 끝내 저장되지 않으면 읽음 처리를 버린다")
+    void flush_drops_receipt_for_missing_old_message() {
+        long messageId = SnowflakeIdGenerator.minIdAt(Instant.now().minus(Duration.ofHours(1)));
+        buffer.add(1L, 10L, messageId);
+        given(chatMessageJdbcRepository.findExistingMessageIds(Set.of(messageId))).willReturn(Set.of());
+
+        buffer.flush();
+        buffer.flush();
+
+        verify(chatMessageJdbcRepository, times(1)).findExistingMessageIds(Set.of(messageId));
+        verify(chatParticipantJdbcRepository).updateLastReadMessages(List.of());
+    }
+}
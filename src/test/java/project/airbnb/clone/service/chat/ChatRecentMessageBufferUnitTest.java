@@ -0,0 +1,67 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.airbnb.clone.dto.chat.ChatMessageResDto;
+import project.airbnb.clone.dto.chat.ChatMessagesResDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ChatRecentMessageBuffer 단위 테스트")
+class ChatRecentMessageBufferUnitTest {
+
+    ChatRecentMessageBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new ChatRecentMessageBuffer(new SimpleMeterRegistry());
+    }
+
+    private ChatMessageResDto message(long id) {
+        return new ChatMessageResDto(id, 1L, 10L, null, "m" + id, LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("채운 뒤 들어온 메시지까지 최신 순으로 응답한다")
+    void recent_after_seed_and_append() {
+        buffer.open(1L);
+        buffer.append(message(3));
+        buffer.seed(1L, List.of(message(2), message(1)), true);
+        buffer.append(message(4));
+
+        ChatMessagesResDto recent = buffer.recent(1L, 2).orElseThrow();
+
+        assertThat(recent.messages()).extracting(ChatMessageResDto::getContent).containsExactly("m4", "m3");
+        assertThat(recent.hasMore()).isTrue();
+        assertThat(buffer.recent(1L, 10).orElseThrow().messages()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("전체 기록이 아니고 버퍼보다 많이 요청하면 응답하지 않는다")
+    void recent_requires_complete_history() {
+        buffer.open(1L);
+        buffer.seed(1L, LongStream.rangeClosed(1, 60).mapToObj(this::message).toList(), false);
+
+        assertThat(buffer.recent(1L, 30)).isPresent();
+        assertThat(buffer.recent(1L, ChatRecentMessageBuffer.CAPACITY)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("열리지 않았거나 닫힌 채팅방은 쌓지 않는다")
+    void closed_room_is_ignored() {
+        buffer.append(message(1));
+        assertThat(buffer.recent(1L, 1)).isEmpty();
+
+        buffer.open(1L);
+        buffer.seed(1L, List.of(message(1)), true);
+        buffer.close(1L);
+
+        assertThat(buffer.recent(1L, 1)).isEmpty();
+    }
+}
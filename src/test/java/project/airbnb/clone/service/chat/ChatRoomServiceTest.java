@@ -4,22 +4,31 @@ import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import project.airbnb.clone.TestContainerSupport;
+import project.airbnb.clone.common.exceptions.BusinessException;
+import project.airbnb.clone.common.id.SnowflakeIdGenerator;
 import project.airbnb.clone.dto.chat.ChatRoomResDto;
 import project.airbnb.clone.dto.chat.RequestChatResDto;
 import project.airbnb.clone.entity.chat.ChatMessage;
 import project.airbnb.clone.entity.chat.ChatRoom;
 import project.airbnb.clone.entity.member.Member;
 import project.airbnb.clone.fixtures.MemberFixture;
+import project.airbnb.clone.repository.dto.ChatMessageInsertDto;
+import project.airbnb.clone.repository.jdbc.ChatMessageJdbcRepository;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class ChatRoomServiceTest extends TestContainerSupport {
 
     @Autowired EntityManager em;
     @Autowired ChatRoomService chatRoomService;
     @Autowired ChatRequestService chatRequestService;
+    @Autowired ChatMessageJdbcRepository chatMessageJdbcRepository;
 
     private Member sender;
     private Member receiver;
@@ -60,13 +69,57 @@ class ChatRoomServiceTest extends TestContainerSupport {
         @DisplayName("Success: 채팅방을 읽음 처리한다.")
         void markChatRoomAsRead_success() {
             ChatRoom chatRoom = em.find(ChatRoom.class, roomId);
-            ChatMessage.create(chatRoom, receiver, "test message");
+            ChatMessage.create(1L, chatRoom, receiver, "test message");
 
             em.flush();
             em.clear();
 
             // 예외가 발생하지 않으면 성공
-            chatRoomService.markChatRoomAsRead(roomId, sender.getId());
+            chatRoomService.markChatRoomAsRead(roomId, sender.getId(), 1L);
+        }
+
+        @Test
+        @DisplayName("Success: 메시지 ID 없이 읽음 처리하면 채팅방의 마지막 메시지까지 읽음 처리한다.")
+        void markChatRoomAsRead_withoutMessageId() {
+            chatMessageJdbcRepository.insertAll(List.of(
+                    new ChatMessageInsertDto(1L, roomId, receiver.getId(), "first", LocalDateTime.of(2025, 1, 1, 12, 0))
+            ));
+
+            // 예외가 발생하지 않으면 성공
+            chatRoomService.markChatRoomAsRead(roomId, sender.getId(), null);
+        }
+
+        @Test
+        @DisplayName("Success: 메시지가 없는 채팅방은 메시지 ID 없이 읽음 처리해도 예외가 발생하지 않는다.")
+        void markChatRoomAsRead_withoutMessageId_emptyRoom() {
+            chatRoomService.markChatRoomAsRead(roomId, sender.getId(), null);
+        }
+
+        @Test
+        @DisplayName("Fail: 아직 발급될 수 없는 메시지 ID로 읽음 처리하면 예외가 발생한다.")
+        void markChatRoomAsRead_futureMessageId() {
+            long futureId = SnowflakeIdGenerator.minIdAt(Instant.now().plus(Duration.ofDays(1)));
+
+            assertThatThrownBy(() -> chatRoomService.markChatRoomAsRead(roomId, sender.getId(), futureId))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        @Test
+        @DisplayName("Success: 메시지가 저장되면 채팅방 목록에 마지막 메시지가 반영된다.")
+        void getChatRooms_lastMessageSnapshot() {
+            LocalDateTime sentAt = LocalDateTime.of(2025, 1, 1, 12, 0);
+            chatMessageJdbcRepository.insertAll(List.of(
+                    new ChatMessageInsertDto(1L, roomId, receiver.getId(), "first", sentAt),
+                    new ChatMessageInsertDto(2L, roomId, receiver.getId(), "second", sentAt.plusMinutes(1))
+            ));
+
+            List<ChatRoomResDto> rooms = chatRoomService.getChatRooms(sender.getId());
+
+            assertThat(rooms).singleElement()
+                             .satisfies(room -> {
+                                 assertThat(room.lastMessage()).isEqualTo("second");
+                                 assertThat(room.lastMessageTime()).isEqualTo(sentAt.plusMinutes(1));
+                             });
         }
 
         @Test
@@ -0,0 +1,69 @@
+package project.airbnb.clone.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import project.airbnb.clone.dto.chat.ChatMessageResDto;
+import project.airbnb.clone.service.chat.ChatTrafficMonitor.RoomTraffic;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChatTrafficMonitor 단위 테스트")
+class ChatTrafficMonitorUnitTest {
+
+    @Mock
+    ObjectProvider<SimpUserRegistry> simpUserRegistry;
+    @Mock
+    ChatChannelSubscriptionManager chatChannelSubscriptionManager;
+
+    SimpleMeterRegistry meterRegistry;
+    ChatTrafficMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ChatTrafficMonitor(meterRegistry, simpUserRegistry, chatChannelSubscriptionManager);
+    }
+
+    @Test
+    @DisplayName("상위 채팅방은 직전 1분간 메시지 수 x 로컬 구독 수(프레임 수) 순으로 정렬된다")
+    void top_rooms_by_frames() {
+        given(chatChannelSubscriptionManager.getRoomSubscriberCounts()).willReturn(Map.of(1L, 1, 2L, 10));
+
+        for (int i = 0; i < 5; i++) {
+            monitor.recordReceived(message(1L, null));
+        }
+        monitor.recordReceived(message(2L, System.currentTimeMillis()));
+        monitor.rotateWindow();
+
+        List<RoomTraffic> topRooms = monitor.getTopRooms(10);
+
+        assertThat(topRooms).extracting(RoomTraffic::roomId).containsExactly(2L, 1L);
+        assertThat(topRooms.get(0).framesPerMinute()).isEqualTo(10);
+        assertThat(topRooms.get(1).messagesPerMinute()).isEqualTo(5);
+        assertThat(meterRegistry.get("chat.delivery.latency").tag("stage", "redis").timer().count()).isEqualTo(1);
+    }
+
+    private static ChatMessageResDto message(Long roomId, Long publishedAt) {
+        return ChatMessageResDto.builder()
+                                .messageId("1")
+                                .roomId(roomId)
+                                .senderId(10L)
+                                .content("m")
+                                .timestamp(LocalDateTime.now())
+                                .publishedAt(publishedAt)
+                                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package project.airbnb.clone.service.partition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import project.airbnb.clone.TestContainerSupport;
+import project.airbnb.clone.repository.jdbc.PartitionJdbcRepository;
+import project.airbnb.clone.service.partition.PartitionMaintenanceService.KeyType;
+import project.airbnb.clone.service.partition.PartitionMaintenanceService.PartitionSpec;
+
+import java.time.YearMonth;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ALTER TABLE 은 암묵적으로 커밋되므로 테스트 트랜잭션 없이 별도 테이블로 검증한다
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartitionMaintenanceServiceTest extends TestContainerSupport {
+
+    private static final String NOTIFICATION_TABLE = "notifications_partition_test";
+    private static final String MESSAGE_TABLE = "chat_messages_partition_test";
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PartitionJdbcRepository partitionJdbcRepository;
+    @Autowired PartitionMaintenanceService partitionMaintenanceService;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + NOTIFICATION_TABLE);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + MESSAGE_TABLE);
+    }
+
+    @Test
+    @DisplayName("Success: 앞으로의 월 파티션을 만들고 보관 기간이 지난 파티션을 지우며, 최근 알림 조회는 최근 파티션만 읽는다.")
+    void maintain_datetimePartitions() {
+        jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                    notification_id BIGINT NOT NULL,
+                    member_id BIGINT NOT NULL,
+                    created_at DATETIME(6) NOT NULL,
+                    PRIMARY KEY (notification_id, created_at),
+                    KEY idx_member_created (member_id, created_at)
+                )
+                PARTITION BY RANGE COLUMNS(created_at) (
+                    PARTITION p202601 VALUES LESS THAN ('2026-02-01 00:00:00'),
+                    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+                )
+                """.formatted(NOTIFICATION_TABLE));
+
+        partitionMaintenanceService.maintain(new PartitionSpec(NOTIFICATION_TABLE, KeyType.DATETIME, 3), YearMonth.of(2026, 6));
+
+        assertThat(partitionJdbcRepository.findPartitionNames(NOTIFICATION_TABLE)).containsExactly(
+                "p202603", "p202604", "p202605", "p202606", "p202607", "p202608", "p202609", "p_future");
+
+        Map<String, Object> plan = jdbcTemplate.queryForMap(
+                "EXPLAIN PARTITIONS SELECT * FROM " + NOTIFICATION_TABLE + " WHERE member_id = 1 AND created_at >= '2026-08-01 00:00:00'");
+        assertThat(plan.get("partitions")).isEqualTo("p202608,p202609,p_future");
+    }
+
+    @Test
+    @DisplayName("Success: 보관 기간이 없는 테이블은 비어 있는 지난 파티션만 지우고, id 커서 조회는 커서 이전 파티션만 읽는다.")
+    void maintain_snowflakeIdPartitions() {
+        YearMonth current = YearMonth.of(2026, 6);
+        String januaryBound = PartitionMaintenanceService.upperBound(KeyType.SNOWFLAKE_ID, YearMonth.of(2026, 1));
+        String februaryBound = PartitionMaintenanceService.upperBound(KeyType.SNOWFLAKE_ID, YearMonth.of(2026, 2));
+
+        jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                    chat_message_id BIGINT NOT NULL PRIMARY KEY,
+                    chat_room_id BIGINT NOT NULL
+                )
+                PARTITION BY RANGE (chat_message_id) (
+                    PARTITION p202601 VALUES LESS THAN (%s),
+                    PARTITION p202602 VALUES LESS THAN (%s),
+                    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+                )
+                """.formatted(MESSAGE_TABLE, januaryBound, februaryBound));
+        jdbcTemplate.update("INSERT INTO " + MESSAGE_TABLE + " VALUES (?, 1)", Long.parseLong(januaryBound) + 1);
+
+        partitionMaintenanceService.maintain(new PartitionSpec(MESSAGE_TABLE, KeyType.SNOWFLAKE_ID, 0), current);
+
+        assertThat(partitionJdbcRepository.findPartitionNames(MESSAGE_TABLE))
+                .doesNotContain("p202601", "p202603")
+                .contains("p202602", "p202609", "p_future");
+
+        Map<String, Object> plan = jdbcTemplate.queryForMap(
+                "EXPLAIN PARTITIONS SELECT * FROM " + MESSAGE_TABLE + " WHERE chat_message_id < " + februaryBound);
+        assertThat(plan.get("partitions")).isEqualTo("p202602");
+    }
+}